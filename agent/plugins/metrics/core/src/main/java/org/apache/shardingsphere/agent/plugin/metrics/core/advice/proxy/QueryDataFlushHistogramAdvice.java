@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice.proxy;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.api.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Query data flush histogram advice for ShardingSphere-Proxy.
+ */
+public final class QueryDataFlushHistogramAdvice implements InstanceMethodAdvice {
+    
+    private final MetricConfiguration bytesConfig = new MetricConfiguration("proxy_flush_bytes",
+            MetricCollectorType.HISTOGRAM, "Bytes per flush histogram of query data of ShardingSphere-Proxy", Collections.emptyList(), Collections.singletonMap("buckets", getBuckets(1024, 2, 12)));
+    
+    private final MetricConfiguration countConfig = new MetricConfiguration("proxy_query_flushes",
+            MetricCollectorType.HISTOGRAM, "Flushes per query histogram of ShardingSphere-Proxy", Collections.emptyList(), Collections.singletonMap("buckets", getBuckets(1, 2, 12)));
+    
+    private static Map<String, Object> getBuckets(final int start, final int factor, final int count) {
+        Map<String, Object> result = new HashMap<>(4, 1);
+        result.put("type", "exp");
+        result.put("start", start);
+        result.put("factor", factor);
+        result.put("count", count);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        switch (method.getName()) {
+            case "flush":
+                MetricsCollectorRegistry.<HistogramMetricsCollector>get(bytesConfig, pluginType).observe((long) result);
+                break;
+            case "finish":
+                MetricsCollectorRegistry.<HistogramMetricsCollector>get(countConfig, pluginType).observe((int) result);
+                break;
+            default:
+                break;
+        }
+    }
+}
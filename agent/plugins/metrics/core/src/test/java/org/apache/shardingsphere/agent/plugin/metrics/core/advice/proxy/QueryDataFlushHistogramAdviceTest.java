@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class QueryDataFlushHistogramAdviceTest {
+    
+    private final MetricConfiguration bytesConfig = new MetricConfiguration("proxy_flush_bytes", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    private final MetricConfiguration countConfig = new MetricConfiguration("proxy_query_flushes", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    public void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(bytesConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(countConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    public void assertFlushBytes() {
+        Method method = mock(Method.class);
+        when(method.getName()).thenReturn("flush");
+        new QueryDataFlushHistogramAdvice().afterMethod(new TargetAdviceObjectFixture(), method, new Object[]{}, 65536L, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(bytesConfig, "FIXTURE").toString(), is("65536"));
+    }
+    
+    @Test
+    public void assertQueryFlushes() {
+        Method method = mock(Method.class);
+        when(method.getName()).thenReturn("finish");
+        new QueryDataFlushHistogramAdvice().afterMethod(new TargetAdviceObjectFixture(), method, new Object[]{}, 3, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(countConfig, "FIXTURE").toString(), is("3"));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Text value writer.
+ *
+ * <p>
+ * Write text form of values as ASCII bytes into byte buf directly, without creating strings.
+ * ASCII bytes are same in all charsets supported by protocol frontends.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueWriter {
+    
+    /**
+     * Length of date time text in format of {@code yyyy-MM-dd HH:mm:ss}.
+     */
+    public static final int DATE_TIME_LENGTH = 19;
+    
+    /**
+     * Get length of long value text.
+     *
+     * @param value long value
+     * @return length of text
+     */
+    public static int getLength(final long value) {
+        if (Long.MIN_VALUE == value) {
+            return 20;
+        }
+        int result = value < 0L ? 2 : 1;
+        for (long each = Math.abs(value); each >= 10L; each /= 10L) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether date time can be written as text of {@link #DATE_TIME_LENGTH} bytes.
+     *
+     * @param value date time
+     * @return can be written or not
+     */
+    public static boolean isWritable(final LocalDateTime value) {
+        return value.getYear() >= 0 && value.getYear() <= 9999;
+    }
+    
+    /**
+     * Write text of long value.
+     *
+     * @param byteBuf byte buf
+     * @param value long value
+     * @param length length of text, which must be got from {@link #getLength(long)}
+     */
+    public static void write(final ByteBuf byteBuf, final long value, final int length) {
+        if (Long.MIN_VALUE == value) {
+            for (int i = 0; i < length; i++) {
+                byteBuf.writeByte("-9223372036854775808".charAt(i));
+            }
+            return;
+        }
+        byteBuf.ensureWritable(length);
+        int writerIndex = byteBuf.writerIndex();
+        long remaining = Math.abs(value);
+        for (int index = writerIndex + length - 1; index >= writerIndex; index--) {
+            byteBuf.setByte(index, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        }
+        if (value < 0L) {
+            byteBuf.setByte(writerIndex, '-');
+        }
+        byteBuf.writerIndex(writerIndex + length);
+    }
+    
+    /**
+     * Write text of date time in format of {@code yyyy-MM-dd HH:mm:ss}.
+     *
+     * @param byteBuf byte buf
+     * @param value date time, which must be writable by {@link #isWritable(LocalDateTime)}
+     */
+    public static void write(final ByteBuf byteBuf, final LocalDateTime value) {
+        writeDigits(byteBuf, value.getYear(), 4);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, value.getMonthValue(), 2);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, value.getDayOfMonth(), 2);
+        byteBuf.writeByte(' ');
+        writeDigits(byteBuf, value.getHour(), 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, value.getMinute(), 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, value.getSecond(), 2);
+    }
+    
+    private static void writeDigits(final ByteBuf byteBuf, final int value, final int length) {
+        for (int divisor = 4 == length ? 1000 : 10; divisor > 0; divisor /= 10) {
+            byteBuf.writeByte('0' + value / divisor % 10);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -72,7 +74,9 @@ public final class PacketCodecTest {
     @Test
     public void assertEncode() {
         DatabasePacket databasePacket = mock(DatabasePacket.class);
+        when(byteBuf.readableBytes()).thenReturn(10);
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
+        assertThat(packetCodec.getEncodedBytes(), is(10L));
     }
 }
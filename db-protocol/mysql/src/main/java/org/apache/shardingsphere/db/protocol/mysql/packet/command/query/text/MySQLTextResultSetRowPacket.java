@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.TextValueWriter;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
@@ -57,20 +58,50 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             if (null == each) {
                 payload.writeInt1(NULL);
             } else {
-                if (each instanceof byte[]) {
+                if (each instanceof Long || each instanceof Integer || each instanceof Short || each instanceof Byte) {
+                    writeIntegralValue(payload, ((Number) each).longValue());
+                } else if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    writeTimestampValue(payload, (Timestamp) each);
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
                     payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
                 } else if (each instanceof LocalDateTime) {
-                    payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
+                    writeDateTimeValue(payload, (LocalDateTime) each);
                 } else {
                     payload.writeStringLenenc(each.toString());
                 }
             }
         }
     }
+    
+    private void writeIntegralValue(final MySQLPacketPayload payload, final long value) {
+        int length = TextValueWriter.getLength(value);
+        payload.writeInt1(length);
+        TextValueWriter.write(payload.getByteBuf(), value, length);
+    }
+    
+    private void writeTimestampValue(final MySQLPacketPayload payload, final Timestamp value) {
+        LocalDateTime dateTime = value.toLocalDateTime();
+        if (TextValueWriter.isWritable(dateTime)) {
+            writeDateTimeText(payload, dateTime);
+        } else {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+        }
+    }
+    
+    private void writeDateTimeValue(final MySQLPacketPayload payload, final LocalDateTime value) {
+        if (TextValueWriter.isWritable(value)) {
+            writeDateTimeText(payload, value);
+        } else {
+            payload.writeStringLenenc(DT_FMT.format(value));
+        }
+    }
+    
+    private void writeDateTimeText(final MySQLPacketPayload payload, final LocalDateTime value) {
+        payload.writeInt1(TextValueWriter.DATE_TIME_LENGTH);
+        TextValueWriter.write(payload.getByteBuf(), value);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,12 +25,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -52,15 +56,13 @@ public final class MySQLTextResultSetRowPacketTest {
         long now = System.currentTimeMillis();
         Timestamp timestamp = new Timestamp(now);
         MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        if (0 == timestamp.getNanos()) {
-            verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
-        } else {
-            verify(payload).writeStringLenenc(timestamp.toString());
-        }
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.write(actualPayload);
+        assertThat(actualPayload.readInt1(), is(0xfb));
+        assertThat(actualPayload.readStringLenenc(), is("value"));
+        assertThat(actualPayload.readStringLenenc(), is("1"));
+        assertThat(actualPayload.readStringLenenc(), is(""));
+        assertThat(actualPayload.readStringLenenc(), is(0 == timestamp.getNanos() ? timestamp.toString().split("\\.")[0] : timestamp.toString()));
     }
     
     @Test
@@ -68,11 +70,13 @@ public final class MySQLTextResultSetRowPacketTest {
         long now = System.currentTimeMillis() / 1000 * 1000;
         Timestamp timestamp = new Timestamp(now);
         MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.write(actualPayload);
+        assertThat(actualPayload.readInt1(), is(0xfb));
+        assertThat(actualPayload.readStringLenenc(), is("value"));
+        assertThat(actualPayload.readStringLenenc(), is("1"));
+        assertThat(actualPayload.readStringLenenc(), is(""));
+        assertThat(actualPayload.readStringLenenc(), is(timestamp.toString().split("\\.")[0]));
     }
     
     @Test
@@ -80,7 +84,21 @@ public final class MySQLTextResultSetRowPacketTest {
         String localDateTimeStr = "2021-08-23T17:30:30";
         LocalDateTime time = LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
         MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Collections.singletonList(time));
-        actual.write(payload);
-        verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.write(actualPayload);
+        assertThat(actualPayload.readStringLenenc(), is("2021-08-23 17:30:30"));
+    }
+    
+    @Test
+    public void assertIntegralValues() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(0L, -1, (short) 12, (byte) -128, Long.MAX_VALUE, Long.MIN_VALUE));
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.write(actualPayload);
+        assertThat(actualPayload.readStringLenenc(), is("0"));
+        assertThat(actualPayload.readStringLenenc(), is("-1"));
+        assertThat(actualPayload.readStringLenenc(), is("12"));
+        assertThat(actualPayload.readStringLenenc(), is("-128"));
+        assertThat(actualPayload.readStringLenenc(), is(String.valueOf(Long.MAX_VALUE)));
+        assertThat(actualPayload.readStringLenenc(), is(String.valueOf(Long.MIN_VALUE)));
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.payload.TextValueWriter;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -66,6 +67,11 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
     private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
+        } else if (each instanceof Long || each instanceof Integer || each instanceof Short) {
+            long value = ((Number) each).longValue();
+            int length = TextValueWriter.getLength(value);
+            payload.writeInt4(length);
+            TextValueWriter.write(payload.getByteBuf(), value, length);
         } else if (each instanceof byte[]) {
             payload.writeInt4(((byte[]) each).length);
             payload.writeBytes((byte[]) each);
@@ -22,11 +22,13 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.RandomAccess;
 
@@ -99,6 +101,58 @@ public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPa
         }
     }
     
+    /**
+     * Get end index of pipelined packets.
+     *
+     * <p>
+     * Pipelined packets are at least two units of Parse packets, Bind packet, Describe packet and Execute packet of the unnamed portal,
+     * and the unnamed portal bound by the last unit is not described or executed by the packets after them.
+     * </p>
+     *
+     * @param startIndex start index of pipelined packets
+     * @return end index (exclusive) of pipelined packets, or start index if packets from start index can not be pipelined
+     */
+    public int getPipelinedPacketsEndIndex(final int startIndex) {
+        List<Integer> unitEndIndexes = new ArrayList<>();
+        int index = startIndex;
+        while (index < packets.size()) {
+            while (index < packets.size() && packets.get(index) instanceof PostgreSQLComParsePacket) {
+                index++;
+            }
+            if (index >= packets.size() || !isUnnamedPortalBind(packets.get(index))) {
+                break;
+            }
+            index++;
+            if (index < packets.size() && isUnnamedPortalDescribe(packets.get(index))) {
+                index++;
+            }
+            if (index >= packets.size() || !isUnnamedPortalExecute(packets.get(index))) {
+                break;
+            }
+            unitEndIndexes.add(++index);
+        }
+        while (!unitEndIndexes.isEmpty() && isUnnamedPortalUsed(unitEndIndexes.get(unitEndIndexes.size() - 1))) {
+            unitEndIndexes.remove(unitEndIndexes.size() - 1);
+        }
+        return unitEndIndexes.size() < 2 ? startIndex : unitEndIndexes.get(unitEndIndexes.size() - 1);
+    }
+    
+    private boolean isUnnamedPortalBind(final PostgreSQLCommandPacket packet) {
+        return packet instanceof PostgreSQLComBindPacket && ((PostgreSQLComBindPacket) packet).getPortal().isEmpty();
+    }
+    
+    private boolean isUnnamedPortalDescribe(final PostgreSQLCommandPacket packet) {
+        return packet instanceof PostgreSQLComDescribePacket && 'P' == ((PostgreSQLComDescribePacket) packet).getType() && ((PostgreSQLComDescribePacket) packet).getName().isEmpty();
+    }
+    
+    private boolean isUnnamedPortalExecute(final PostgreSQLCommandPacket packet) {
+        return packet instanceof PostgreSQLComExecutePacket && ((PostgreSQLComExecutePacket) packet).getPortal().isEmpty();
+    }
+    
+    private boolean isUnnamedPortalUsed(final int index) {
+        return index < packets.size() && (isUnnamedPortalDescribe(packets.get(index)) || isUnnamedPortalExecute(packets.get(index)));
+    }
+    
     private void ensureRandomAccessible(final List<PostgreSQLCommandPacket> packets) {
         Preconditions.checkArgument(packets instanceof RandomAccess, "Packets must be RandomAccess.");
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -32,6 +33,7 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -92,6 +94,20 @@ public final class PostgreSQLDataRowPacketTest {
         verify(payload).writeBytes(valueBytes);
     }
     
+    @Test
+    public void assertWriteWithIntegralValues() {
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Arrays.asList(-42L, 7, (short) 0));
+        PostgreSQLPacketPayload actualPayload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.write(actualPayload);
+        assertThat(actualPayload.readInt2(), is(3));
+        assertThat(actualPayload.readInt4(), is(3));
+        assertThat(actualPayload.getByteBuf().readCharSequence(3, StandardCharsets.UTF_8).toString(), is("-42"));
+        assertThat(actualPayload.readInt4(), is(1));
+        assertThat(actualPayload.getByteBuf().readCharSequence(1, StandardCharsets.UTF_8).toString(), is("7"));
+        assertThat(actualPayload.readInt4(), is(1));
+        assertThat(actualPayload.getByteBuf().readCharSequence(1, StandardCharsets.UTF_8).toString(), is("0"));
+    }
+    
     @Test
     public void assertWriteWithSQLXML4Error() throws SQLException {
         when(sqlxml.getString()).thenThrow(new SQLException("mock"));
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLAggregatedCommandPacketTest {
+    
+    @Test
+    public void assertGetPipelinedPacketsEndIndex() {
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(new ArrayList<>(Arrays.asList(mock(PostgreSQLComParsePacket.class), mockBindPacket("S_1"),
+                mockDescribePacket(), mockExecutePacket(), mock(PostgreSQLComParsePacket.class), mockBindPacket("S_2"), mockExecutePacket(), mock(PostgreSQLComSyncPacket.class))));
+        assertThat(actual.getPipelinedPacketsEndIndex(0), is(7));
+        assertThat(actual.getPipelinedPacketsEndIndex(4), is(4));
+        assertThat(actual.getPipelinedPacketsEndIndex(7), is(7));
+    }
+    
+    @Test
+    public void assertGetPipelinedPacketsEndIndexWithUnnamedPortalUsedAfterward() {
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(new ArrayList<>(Arrays.asList(mockBindPacket("S_1"), mockExecutePacket(),
+                mockBindPacket("S_2"), mockExecutePacket(), mockBindPacket("S_3"), mockExecutePacket(), mockExecutePacket(), mock(PostgreSQLComSyncPacket.class))));
+        assertThat(actual.getPipelinedPacketsEndIndex(0), is(4));
+    }
+    
+    @Test
+    public void assertGetPipelinedPacketsEndIndexWithNamedPortal() {
+        PostgreSQLComBindPacket namedPortalBindPacket = mockBindPacket("S_2");
+        when(namedPortalBindPacket.getPortal()).thenReturn("P_1");
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(new ArrayList<>(Arrays.<PostgreSQLCommandPacket>asList(mockBindPacket("S_1"), mockExecutePacket(),
+                namedPortalBindPacket, mockExecutePacket(), mock(PostgreSQLComSyncPacket.class))));
+        assertThat(actual.getPipelinedPacketsEndIndex(0), is(0));
+    }
+    
+    private PostgreSQLComBindPacket mockBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
+    private PostgreSQLComDescribePacket mockDescribePacket() {
+        PostgreSQLComDescribePacket result = mock(PostgreSQLComDescribePacket.class);
+        when(result.getType()).thenReturn('P');
+        when(result.getName()).thenReturn("");
+        return result;
+    }
+    
+    private PostgreSQLComExecutePacket mockExecutePacket() {
+        PostgreSQLComExecutePacket result = mock(PostgreSQLComExecutePacket.class);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+}
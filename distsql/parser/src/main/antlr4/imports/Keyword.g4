@@ -358,3 +358,15 @@ CLUSTER
 LOCK_STRATEGY
     : L O C K UL_ S T R A T E G Y
     ;
+
+SQL_FEDERATION
+    : S Q L UL_ F E D E R A T I O N
+    ;
+
+PLAN
+    : P L A N
+    ;
+
+CACHE
+    : C A C H E
+    ;
@@ -111,6 +111,10 @@ unlockCluster
     : UNLOCK CLUSTER
     ;
 
+showSQLFederationPlanCache
+    : SHOW SQL_FEDERATION PLAN CACHE
+    ;
+
 inventoryIncrementalRule
     : LP_ readDefinition? (COMMA_? writeDefinition)? (COMMA_? streamChannel)? RP_
     ;
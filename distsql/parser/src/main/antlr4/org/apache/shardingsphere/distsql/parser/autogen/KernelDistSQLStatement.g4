@@ -53,5 +53,6 @@ execute
     | alterMigrationRule
     | lockCluster
     | unlockCluster
+    | showSQLFederationPlanCache
     ) SEMI?
     ;
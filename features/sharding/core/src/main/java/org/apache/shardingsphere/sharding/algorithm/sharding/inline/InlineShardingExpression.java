@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Inline sharding expression.
+ *
+ * <p>
+ * The expression is compiled once into a plain Java expression tree when it only uses the common inline syntax,
+ * such as {@code t_order_${order_id % 16}}, string concatenation, {@code hashCode()} and {@code abs()}.
+ * Other expressions and unsupported value types are evaluated by the groovy closure.
+ * Instances are immutable and thread-safe.
+ * </p>
+ */
+public final class InlineShardingExpression {
+    
+    private final String expression;
+    
+    private final InlineShardingExpressionNode compiledNode;
+    
+    private final Closure<?> closure;
+    
+    public InlineShardingExpression(final String expression) {
+        this.expression = expression;
+        Optional<InlineShardingExpressionNode> compiledNode = InlineShardingExpressionCompiler.compile(expression);
+        this.compiledNode = compiledNode.orElse(null);
+        closure = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(expression)).evaluateClosure();
+    }
+    
+    /**
+     * Judge whether expression is compiled to java expression tree.
+     *
+     * @return is compiled or not
+     */
+    public boolean isCompiled() {
+        return null != compiledNode;
+    }
+    
+    /**
+     * Evaluate expression with single variable.
+     *
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result
+     */
+    public String evaluate(final String variableName, final Object value) {
+        if (null != compiledNode) {
+            Object result = compiledNode.evaluate(name -> variableName.equals(name) ? value : null);
+            if (InlineShardingExpressionNode.UNSUPPORTED != result) {
+                return result.toString();
+            }
+        }
+        return evaluateClosure(Collections.singletonMap(variableName, value));
+    }
+    
+    /**
+     * Evaluate expression with variables.
+     *
+     * @param variables variables
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ?> variables) {
+        if (null != compiledNode) {
+            Object result = compiledNode.evaluate(variables::get);
+            if (InlineShardingExpressionNode.UNSUPPORTED != result) {
+                return result.toString();
+            }
+        }
+        return evaluateClosure(variables);
+    }
+    
+    private String evaluateClosure(final Map<String, ?> variables) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            result.setProperty(entry.getKey(), entry.getValue());
+        }
+        return result.call().toString();
+    }
+    
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Inline sharding expression compiler.
+ *
+ * <p>
+ * Compiles the GString template of inline expression into java expression tree, placeholder could be {@code ${...}} or {@code $->{...}}, the supported syntax is:
+ * </p>
+ * <pre>
+ * expression     := additive
+ * additive       := multiplicative (('+' | '-') multiplicative)*
+ * multiplicative := unary (('*' | '%') unary)*
+ * unary          := '-' unary | postfix
+ * postfix        := primary ('.' ('abs' | 'hashCode') '(' ')')*
+ * primary        := integer | 'string' | identifier | 'Math.abs(' expression ')' | '(' expression ')'
+ * </pre>
+ * <p>
+ * The arithmetic follows the type promotion of groovy for integral numbers, and {@code %} of big integer is {@code mod} as groovy does. Any other value types are reported as unsupported and evaluated by groovy.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class InlineShardingExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "owner", "delegate", "class", "metaClass", "properties", "null", "true", "false", "Math"));
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param expression inline expression
+     * @return compiled node, empty if expression can not be compiled
+     */
+    static Optional<InlineShardingExpressionNode> compile(final String expression) {
+        if (expression.contains("\"") || expression.contains("\\")) {
+            return Optional.empty();
+        }
+        List<InlineShardingExpressionNode> segments = new LinkedList<>();
+        int literalStart = 0;
+        int index = 0;
+        while (index < expression.length()) {
+            char each = expression.charAt(index);
+            if ('$' != each) {
+                index++;
+                continue;
+            }
+            int openLength = getPlaceholderOpenLength(expression, index);
+            if (0 == openLength) {
+                return Optional.empty();
+            }
+            int closeIndex = findCloseBrace(expression, index + openLength);
+            if (closeIndex < 0) {
+                return Optional.empty();
+            }
+            if (index > literalStart) {
+                segments.add(new LiteralNode(expression.substring(literalStart, index)));
+            }
+            Optional<InlineShardingExpressionNode> node = new Parser(expression.substring(index + openLength, closeIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            segments.add(node.get());
+            index = closeIndex + 1;
+            literalStart = index;
+        }
+        if (literalStart < expression.length()) {
+            segments.add(new LiteralNode(expression.substring(literalStart)));
+        }
+        return Optional.of(new TemplateNode(segments.toArray(new InlineShardingExpressionNode[0])));
+    }
+    
+    private static int getPlaceholderOpenLength(final String expression, final int dollarIndex) {
+        if (expression.startsWith("${", dollarIndex)) {
+            return 2;
+        }
+        return expression.startsWith("$->{", dollarIndex) ? 4 : 0;
+    }
+    
+    private static int findCloseBrace(final String expression, final int fromIndex) {
+        boolean inString = false;
+        for (int i = fromIndex; i < expression.length(); i++) {
+            char each = expression.charAt(i);
+            if ('\'' == each) {
+                inString = !inString;
+            } else if (!inString && '{' == each) {
+                return -1;
+            } else if (!inString && '}' == each) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof BigInteger || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static boolean isSupportedValue(final Object value) {
+        return value instanceof String || isIntegral(value);
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if ('+' == operator && (left instanceof String || right instanceof String)) {
+            return isSupportedValue(left) && isSupportedValue(right) ? left.toString() + right : InlineShardingExpressionNode.UNSUPPORTED;
+        }
+        if (!isIntegral(left) || !isIntegral(right)) {
+            return InlineShardingExpressionNode.UNSUPPORTED;
+        }
+        if (left instanceof BigInteger || right instanceof BigInteger) {
+            return calculate(operator, toBigInteger(left), toBigInteger(right));
+        }
+        if (left instanceof Long || right instanceof Long) {
+            return calculate(operator, ((Number) left).longValue(), ((Number) right).longValue());
+        }
+        return calculate(operator, ((Number) left).intValue(), ((Number) right).intValue());
+    }
+    
+    private static Object calculate(final char operator, final BigInteger left, final BigInteger right) {
+        switch (operator) {
+            case '+':
+                return left.add(right);
+            case '-':
+                return left.subtract(right);
+            case '*':
+                return left.multiply(right);
+            default:
+                return left.mod(right);
+        }
+    }
+    
+    private static Object calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static Object calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static BigInteger toBigInteger(final Object value) {
+        return value instanceof BigInteger ? (BigInteger) value : BigInteger.valueOf(((Number) value).longValue());
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).negate();
+        }
+        if (value instanceof Long) {
+            return -(Long) value;
+        }
+        return isIntegral(value) ? (Object) (-((Number) value).intValue()) : InlineShardingExpressionNode.UNSUPPORTED;
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).abs();
+        }
+        if (value instanceof Long) {
+            return Math.abs((Long) value);
+        }
+        return isIntegral(value) ? (Object) Math.abs(((Number) value).intValue()) : InlineShardingExpressionNode.UNSUPPORTED;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String text;
+        
+        private int position;
+        
+        Optional<InlineShardingExpressionNode> parse() {
+            InlineShardingExpressionNode result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != text.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private InlineShardingExpressionNode parseAdditive() {
+            InlineShardingExpressionNode result = parseMultiplicative();
+            while (null != result) {
+                skipWhitespace();
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                InlineShardingExpressionNode right = parseMultiplicative();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private InlineShardingExpressionNode parseMultiplicative() {
+            InlineShardingExpressionNode result = parseUnary();
+            while (null != result) {
+                skipWhitespace();
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                position++;
+                InlineShardingExpressionNode right = parseUnary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private InlineShardingExpressionNode parseUnary() {
+            skipWhitespace();
+            if ('-' == peek()) {
+                position++;
+                InlineShardingExpressionNode operand = parseUnary();
+                return null == operand ? null : new NegateNode(operand);
+            }
+            return parsePostfix();
+        }
+        
+        private InlineShardingExpressionNode parsePostfix() {
+            InlineShardingExpressionNode result = parsePrimary();
+            while (null != result) {
+                skipWhitespace();
+                if ('.' != peek()) {
+                    return result;
+                }
+                position++;
+                String method = parseIdentifier();
+                if (!consumeEmptyArguments()) {
+                    return null;
+                }
+                if ("abs".equals(method)) {
+                    result = new AbsNode(result);
+                } else if ("hashCode".equals(method)) {
+                    result = new HashCodeNode(result);
+                } else {
+                    return null;
+                }
+            }
+            return null;
+        }
+        
+        private InlineShardingExpressionNode parsePrimary() {
+            skipWhitespace();
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                InlineShardingExpressionNode result = parseAdditive();
+                return consume(')') ? result : null;
+            }
+            if ('\'' == current) {
+                int closeIndex = text.indexOf('\'', position + 1);
+                if (closeIndex < 0) {
+                    return null;
+                }
+                String value = text.substring(position + 1, closeIndex);
+                position = closeIndex + 1;
+                return new LiteralNode(value);
+            }
+            if (Character.isDigit(current)) {
+                return parseInteger();
+            }
+            String identifier = parseIdentifier();
+            if ("Math".equals(identifier)) {
+                return parseMathAbs();
+            }
+            return null == identifier || RESERVED_IDENTIFIERS.contains(identifier) ? null : new VariableNode(identifier);
+        }
+        
+        private InlineShardingExpressionNode parseMathAbs() {
+            if (!consume('.') || !"abs".equals(parseIdentifier()) || !consume('(')) {
+                return null;
+            }
+            InlineShardingExpressionNode operand = parseAdditive();
+            return null != operand && consume(')') ? new MathAbsNode(operand) : null;
+        }
+        
+        private InlineShardingExpressionNode parseInteger() {
+            int start = position;
+            while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            if (position < text.length() && (Character.isLetter(text.charAt(position)) || '.' == text.charAt(position) || '_' == text.charAt(position))) {
+                return null;
+            }
+            BigInteger value = new BigInteger(text.substring(start, position));
+            if (value.bitLength() < Integer.SIZE) {
+                return new LiteralNode(value.intValue());
+            }
+            return value.bitLength() < Long.SIZE ? new LiteralNode(value.longValue()) : new LiteralNode(value);
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            int start = position;
+            if (position >= text.length() || !Character.isJavaIdentifierStart(text.charAt(position)) || '$' == text.charAt(position)) {
+                return null;
+            }
+            while (position < text.length() && Character.isJavaIdentifierPart(text.charAt(position)) && '$' != text.charAt(position)) {
+                position++;
+            }
+            return text.substring(start, position);
+        }
+        
+        private boolean consumeEmptyArguments() {
+            return consume('(') && consume(')');
+        }
+        
+        private boolean consume(final char expected) {
+            skipWhitespace();
+            if (expected != peek()) {
+                return false;
+            }
+            position++;
+            return true;
+        }
+        
+        private char peek() {
+            return position < text.length() ? text.charAt(position) : 0;
+        }
+        
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class TemplateNode implements InlineShardingExpressionNode {
+        
+        private final InlineShardingExpressionNode[] segments;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            StringBuilder result = new StringBuilder();
+            for (InlineShardingExpressionNode each : segments) {
+                Object value = each.evaluate(variables);
+                if (!isSupportedValue(value)) {
+                    return UNSUPPORTED;
+                }
+                result.append(value);
+            }
+            return result.toString();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements InlineShardingExpressionNode {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements InlineShardingExpressionNode {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            Object result = variables.apply(name);
+            return isSupportedValue(result) ? result : UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements InlineShardingExpressionNode {
+        
+        private final char operator;
+        
+        private final InlineShardingExpressionNode left;
+        
+        private final InlineShardingExpressionNode right;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            Object leftValue = left.evaluate(variables);
+            if (UNSUPPORTED == leftValue) {
+                return UNSUPPORTED;
+            }
+            Object rightValue = right.evaluate(variables);
+            return UNSUPPORTED == rightValue ? UNSUPPORTED : calculate(operator, leftValue, rightValue);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements InlineShardingExpressionNode {
+        
+        private final InlineShardingExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            return negate(operand.evaluate(variables));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements InlineShardingExpressionNode {
+        
+        private final InlineShardingExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            return abs(operand.evaluate(variables));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MathAbsNode implements InlineShardingExpressionNode {
+        
+        private final InlineShardingExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            return value instanceof BigInteger ? UNSUPPORTED : abs(value);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements InlineShardingExpressionNode {
+        
+        private final InlineShardingExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Function<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            return isSupportedValue(value) ? (Object) value.hashCode() : UNSUPPORTED;
+        }
+    }
+}
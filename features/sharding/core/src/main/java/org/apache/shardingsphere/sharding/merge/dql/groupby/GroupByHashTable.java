@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import java.util.Arrays;
+
+/**
+ * Group by hash table.
+ *
+ * <p>Group by values are kept in an open addressing table with linear probing, which maps them to sequential group indexes.</p>
+ */
+public final class GroupByHashTable {
+    
+    private static final int EMPTY = -1;
+    
+    private int[] slots;
+    
+    private int[] hashes;
+    
+    private Object[][] groupValues;
+    
+    private int size;
+    
+    public GroupByHashTable(final int expectedSize) {
+        slots = new int[Integer.highestOneBit(Math.max(expectedSize, 8) - 1) << 2];
+        Arrays.fill(slots, EMPTY);
+        hashes = new int[expectedSize];
+        groupValues = new Object[expectedSize][];
+    }
+    
+    /**
+     * Find group index of group by values, or insert them as a new group.
+     *
+     * <p>The values are copied when inserted, so the caller can reuse the array for next row.</p>
+     *
+     * @param values group by values
+     * @return group index, which equals to size before invoking when new group inserted
+     */
+    public int findOrInsert(final Object[] values) {
+        int hash = hash(values);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (EMPTY != slots[slot]) {
+            int groupIndex = slots[slot];
+            if (hash == hashes[groupIndex] && Arrays.equals(values, groupValues[groupIndex])) {
+                return groupIndex;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return insert(slot, hash, values.clone());
+    }
+    
+    private int insert(final int slot, final int hash, final Object[] values) {
+        if (size == hashes.length) {
+            int capacity = Math.max(hashes.length << 1, 1);
+            hashes = Arrays.copyOf(hashes, capacity);
+            groupValues = Arrays.copyOf(groupValues, capacity);
+        }
+        int result = size++;
+        hashes[result] = hash;
+        groupValues[result] = values;
+        slots[slot] = result;
+        if (size << 1 > slots.length) {
+            rehash();
+        }
+        return result;
+    }
+    
+    private void rehash() {
+        slots = new int[slots.length << 1];
+        Arrays.fill(slots, EMPTY);
+        int mask = slots.length - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = hashes[i] & mask;
+            while (EMPTY != slots[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i;
+        }
+    }
+    
+    private int hash(final Object[] values) {
+        int result = Arrays.hashCode(values);
+        return result ^ (result >>> 16);
+    }
+    
+    /**
+     * Get group by values of group.
+     *
+     * @param groupIndex group index
+     * @return group by values
+     */
+    public Object[] getGroupValues(final int groupIndex) {
+        return groupValues[groupIndex];
+    }
+    
+    /**
+     * Get count of groups.
+     *
+     * @return count of groups
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.collect.Maps;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
@@ -31,8 +31,8 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.GroupedAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.GroupedAggregationUnitFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
@@ -41,11 +41,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -61,46 +59,58 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        OrderByItem[] groupByItems = selectStatementContext.getGroupByContext().getItems().toArray(new OrderByItem[0]);
+        AggregationProjection[] aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        GroupedAggregationUnit[] aggregationUnits = createAggregationUnits(aggregationProjections);
+        Comparable<?>[][] aggregationValues = createAggregationValues(aggregationProjections);
+        Object[] groupByValues = new Object[groupByItems.length];
+        GroupByHashTable groupByHashTable = new GroupByHashTable(1024);
+        List<MemoryQueryResultRow> memoryQueryResultRows = new ArrayList<>(1024);
         for (QueryResult each : queryResults) {
             while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                for (int i = 0; i < groupByItems.length; i++) {
+                    groupByValues[i] = each.getValue(groupByItems[i].getIndex(), Object.class);
+                }
+                int groupIndex = groupByHashTable.findOrInsert(groupByValues);
+                if (groupIndex == memoryQueryResultRows.size()) {
+                    memoryQueryResultRows.add(new MemoryQueryResultRow(each));
+                }
+                aggregate(each, groupIndex, aggregationProjections, aggregationUnits, aggregationValues);
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
+        setAggregationValueToMemoryRow(memoryQueryResultRows, aggregationProjections, aggregationUnits);
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return getMemoryResultSetRows(selectStatementContext, memoryQueryResultRows, valueCaseSensitive);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private GroupedAggregationUnit[] createAggregationUnits(final AggregationProjection[] aggregationProjections) {
+        GroupedAggregationUnit[] result = new GroupedAggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = GroupedAggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps
-                    .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
+        return result;
+    }
+    
+    private Comparable<?>[][] createAggregationValues(final AggregationProjection[] aggregationProjections) {
+        Comparable<?>[][] result = new Comparable<?>[aggregationProjections.length][];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = new Comparable<?>[Math.max(aggregationProjections[i].getDerivedAggregationProjections().size(), 1)];
         }
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+    private void aggregate(final QueryResult queryResult, final int groupIndex, final AggregationProjection[] aggregationProjections,
+                           final GroupedAggregationUnit[] aggregationUnits, final Comparable<?>[][] aggregationValues) throws SQLException {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<AggregationProjection> derivedAggregationProjections = aggregationProjections[i].getDerivedAggregationProjections();
+            if (derivedAggregationProjections.isEmpty()) {
+                aggregationValues[i][0] = getAggregationValue(queryResult, aggregationProjections[i]);
             } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                for (int j = 0; j < derivedAggregationProjections.size(); j++) {
+                    aggregationValues[i][j] = getAggregationValue(queryResult, derivedAggregationProjections.get(j));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(groupIndex, aggregationValues[i]);
         }
     }
     
@@ -110,16 +120,16 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private void setAggregationValueToMemoryRow(final List<MemoryQueryResultRow> memoryQueryResultRows,
+                                                final AggregationProjection[] aggregationProjections, final GroupedAggregationUnit[] aggregationUnits) {
+        for (int groupIndex = 0; groupIndex < memoryQueryResultRows.size(); groupIndex++) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                memoryQueryResultRows.get(groupIndex).setCell(aggregationProjections[i].getIndex(), aggregationUnits[i].getResult(groupIndex));
             }
         }
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>();
         result.add(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
@@ -128,8 +138,8 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
-                                                    final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
             ShardingSphereTable table = schema.getTable(tableName);
@@ -143,14 +153,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+                                                              final List<MemoryQueryResultRow> memoryQueryResultRows, final List<Boolean> valueCaseSensitive) {
+        if (memoryQueryResultRows.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
             return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+        memoryQueryResultRows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return memoryQueryResultRows;
     }
     
     private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.spill.SpillFile;
+
+import java.io.IOException;
+
+/**
+ * Sorted run of spilled group by rows.
+ */
+@RequiredArgsConstructor
+public final class GroupBySortedRun implements Comparable<GroupBySortedRun> {
+    
+    private final SpillFile spillFile;
+    
+    private final GroupByRowComparator comparator;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    /**
+     * Iterate next row, the spill file is closed once all rows are read.
+     *
+     * @return has next row or not
+     * @throws IOException IO exception
+     */
+    public boolean next() throws IOException {
+        Object[] row = spillFile.read();
+        if (null == row) {
+            currentRow = null;
+            spillFile.close();
+            return false;
+        }
+        currentRow = new MemoryQueryResultRow(row);
+        return true;
+    }
+    
+    @Override
+    public int compareTo(final GroupBySortedRun o) {
+        return comparator.compare(currentRow, o.currentRow);
+    }
+}
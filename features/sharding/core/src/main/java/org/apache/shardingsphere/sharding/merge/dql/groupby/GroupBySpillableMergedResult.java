@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.spill.SpillFile;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>
+ * Rows are buffered in memory and merged by {@link GroupByMemoryMergedResult} if the memory budget of query is enough.
+ * Otherwise rows are spilled by {@link GroupBySpiller}, and the sorted runs are merged lazily.
+ * Spill files are deleted when the merged result is closed, no matter whether all rows are read.
+ * </p>
+ */
+public final class GroupBySpillableMergedResult implements MergedResult {
+    
+    private final MergedResult memoryMergedResult;
+    
+    private final Collection<SpillFile> spillFiles;
+    
+    private final Queue<GroupBySortedRun> sortedRuns;
+    
+    private boolean isFirstNext = true;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final ShardingSphereSchema schema, final long memoryBudgetBytes) throws SQLException {
+        QueryResult sampleQueryResult = queryResults.get(0);
+        int columnCount = sampleQueryResult.getMetaData().getColumnCount();
+        List<Object[]> bufferedRows = new ArrayList<>();
+        long bufferedBytes = 0L;
+        for (QueryResult each : queryResults) {
+            while (bufferedBytes <= memoryBudgetBytes && each.next()) {
+                Object[] row = loadRow(each, columnCount);
+                bufferedRows.add(row);
+                bufferedBytes += estimateSize(row);
+            }
+        }
+        if (bufferedBytes <= memoryBudgetBytes) {
+            memoryMergedResult = createMemoryMergedResult(sampleQueryResult, bufferedRows, selectStatementContext, schema);
+            spillFiles = Collections.emptyList();
+            sortedRuns = null;
+            return;
+        }
+        memoryMergedResult = null;
+        GroupBySpiller spiller = new GroupBySpiller(selectStatementContext, schema, sampleQueryResult, memoryBudgetBytes);
+        spiller.spill(bufferedRows, queryResults);
+        spillFiles = spiller.getSortedRuns();
+        try {
+            sortedRuns = createSortedRuns(spillFiles, new GroupByRowComparator(selectStatementContext,
+                    GroupByMemoryMergedResult.getValueCaseSensitive(sampleQueryResult, selectStatementContext, schema)));
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private long estimateSize(final Object[] row) {
+        long result = 16L + 8L * row.length;
+        for (Object each : row) {
+            if (each instanceof String) {
+                result += 40L + 2L * ((String) each).length();
+            } else if (each instanceof byte[]) {
+                result += 16L + ((byte[]) each).length;
+            } else if (each instanceof BigDecimal || each instanceof BigInteger) {
+                result += 64L;
+            } else if (null != each) {
+                result += 24L;
+            }
+        }
+        return result;
+    }
+    
+    private MergedResult createMemoryMergedResult(final QueryResult sampleQueryResult, final List<Object[]> bufferedRows,
+                                                  final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(bufferedRows.size());
+        for (Object[] each : bufferedRows) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(each)));
+        }
+        return new GroupByMemoryMergedResult(Collections.singletonList(new RawMemoryQueryResult(sampleQueryResult.getMetaData(), rows)), selectStatementContext, schema);
+    }
+    
+    private Queue<GroupBySortedRun> createSortedRuns(final Iterable<SpillFile> spillFiles, final GroupByRowComparator comparator) throws SQLException {
+        Queue<GroupBySortedRun> result = new PriorityQueue<>();
+        try {
+            for (SpillFile each : spillFiles) {
+                GroupBySortedRun sortedRun = new GroupBySortedRun(each, comparator);
+                if (sortedRun.next()) {
+                    result.offer(sortedRun);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryMergedResult) {
+            return memoryMergedResult.next();
+        }
+        if (sortedRuns.isEmpty()) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        GroupBySortedRun firstSortedRun = sortedRuns.poll();
+        try {
+            if (firstSortedRun.next()) {
+                sortedRuns.offer(firstSortedRun);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return !sortedRuns.isEmpty();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (null != memoryMergedResult) {
+            return memoryMergedResult.getValue(columnIndex, type);
+        }
+        ShardingSpherePreconditions.checkState(Blob.class != type && Clob.class != type && Reader.class != type && InputStream.class != type && SQLXML.class != type,
+                () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        return getCurrentCell(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (null != memoryMergedResult) {
+            return memoryMergedResult.getCalendarValue(columnIndex, type, calendar);
+        }
+        return getCurrentCell(columnIndex);
+    }
+    
+    private Object getCurrentCell(final int columnIndex) {
+        Object result = sortedRuns.element().getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return null == memoryMergedResult ? wasNull : memoryMergedResult.wasNull();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        SQLException result = null;
+        for (SpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                result = new SQLException(ex);
+            }
+        }
+        if (null != result) {
+            throw result;
+        }
+    }
+}
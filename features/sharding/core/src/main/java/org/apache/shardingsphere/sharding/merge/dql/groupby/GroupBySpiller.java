@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.spill.SpillFile;
+import org.apache.shardingsphere.infra.merge.result.impl.spill.SpillFileQueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Group by spiller.
+ *
+ * <p>
+ * Rows are spilled into partition files by hash of group by values, so all rows of a group are in same partition.
+ * A partition which is still larger than memory budget is partitioned again by other bits of the hash, until it fits or the max depth is reached.
+ * Every partition is aggregated by {@link GroupByMemoryMergedResult} while its rows are streamed from the spill file,
+ * so memory is bounded by the groups of a partition instead of its rows, and the aggregated rows are written back as a sorted run.
+ * </p>
+ */
+public final class GroupBySpiller {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = 3;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final QueryResultMetaData queryResultMetaData;
+    
+    private final long memoryBudgetBytes;
+    
+    private final int[] groupByIndexes;
+    
+    private final int[] columnTypes;
+    
+    @Getter
+    private final Collection<SpillFile> sortedRuns = new LinkedList<>();
+    
+    public GroupBySpiller(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                          final QueryResult sampleQueryResult, final long memoryBudgetBytes) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.schema = schema;
+        queryResultMetaData = sampleQueryResult.getMetaData();
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        groupByIndexes = selectStatementContext.getGroupByContext().getItems().stream().mapToInt(OrderByItem::getIndex).toArray();
+        columnTypes = new int[queryResultMetaData.getColumnCount()];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columnTypes[i] = queryResultMetaData.getColumnType(i + 1);
+        }
+    }
+    
+    /**
+     * Spill rows.
+     *
+     * <p>Sorted runs are closed if spill failed, otherwise they should be closed by caller.</p>
+     *
+     * @param bufferedRows rows buffered in memory, which are released after spilled
+     * @param queryResults query results whose remaining rows are spilled
+     * @return spilled bytes
+     * @throws SQLException SQL exception
+     */
+    public long spill(final List<Object[]> bufferedRows, final List<QueryResult> queryResults) throws SQLException {
+        List<SpillFile> partitions = new ArrayList<>(PARTITION_COUNT);
+        try {
+            createPartitions(partitions);
+            for (Object[] each : bufferedRows) {
+                partitions.get(getPartitionIndex(each, 0)).write(each);
+            }
+            bufferedRows.clear();
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    Object[] row = loadRow(each);
+                    partitions.get(getPartitionIndex(row, 0)).write(row);
+                }
+            }
+            return mergePartitions(partitions, 0, Integer.MAX_VALUE);
+        } catch (final IOException ex) {
+            closeQuietly(sortedRuns);
+            throw new SQLException(ex);
+        } catch (final SQLException | RuntimeException ex) {
+            closeQuietly(sortedRuns);
+            throw ex;
+        } finally {
+            closeQuietly(partitions);
+        }
+    }
+    
+    private void createPartitions(final List<SpillFile> partitions) throws IOException {
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            partitions.add(new SpillFile(columnTypes));
+        }
+    }
+    
+    private int getPartitionIndex(final Object[] row, final int depth) {
+        int hash = 1;
+        for (int each : groupByIndexes) {
+            Object value = row[each - 1];
+            hash = 31 * hash + (null == value ? 0 : value.hashCode());
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return (hash >>> (depth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private long mergePartitions(final List<SpillFile> partitions, final int depth, final int parentRowCount) throws IOException, SQLException {
+        long result = 0L;
+        for (SpillFile each : partitions) {
+            long partitionBytes = each.finishWrite();
+            result += partitionBytes;
+            if (0 == each.getRowCount()) {
+                each.close();
+                continue;
+            }
+            // partition again is useless if all rows of parent are in same partition, they are mostly rows of same group
+            if (partitionBytes > memoryBudgetBytes && depth < MAX_PARTITION_DEPTH && each.getRowCount() < parentRowCount) {
+                result += repartition(each, depth + 1);
+            } else {
+                result += aggregatePartition(each);
+            }
+            each.close();
+        }
+        return result;
+    }
+    
+    private long repartition(final SpillFile partition, final int depth) throws IOException, SQLException {
+        List<SpillFile> subPartitions = new ArrayList<>(PARTITION_COUNT);
+        try {
+            createPartitions(subPartitions);
+            Object[] row;
+            while (null != (row = partition.read())) {
+                subPartitions.get(getPartitionIndex(row, depth)).write(row);
+            }
+            partition.close();
+            return mergePartitions(subPartitions, depth, partition.getRowCount());
+        } finally {
+            closeQuietly(subPartitions);
+        }
+    }
+    
+    private long aggregatePartition(final SpillFile partition) throws IOException, SQLException {
+        MergedResult mergedResult = new GroupByMemoryMergedResult(
+                Collections.singletonList(new SpillFileQueryResult(partition, queryResultMetaData)), selectStatementContext, schema);
+        partition.close();
+        SpillFile sortedRun = new SpillFile(columnTypes);
+        sortedRuns.add(sortedRun);
+        while (mergedResult.next()) {
+            Object[] mergedRow = new Object[columnTypes.length];
+            for (int i = 0; i < columnTypes.length; i++) {
+                mergedRow[i] = mergedResult.getValue(i + 1, Object.class);
+            }
+            sortedRun.write(mergedRow);
+        }
+        return sortedRun.finishWrite();
+    }
+    
+    private void closeQuietly(final Collection<SpillFile> spillFiles) {
+        for (SpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Grouped accumulation aggregation unit.
+ *
+ * <p>Integral values are accumulated in primitive longs, the group falls back to big decimal once the sum overflows or a non integral value is merged.</p>
+ */
+public final class GroupedAccumulationAggregationUnit implements GroupedAggregationUnit {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private static final byte NONE = 0;
+    
+    private static final byte LONG = 1;
+    
+    private static final byte DECIMAL = 2;
+    
+    private byte[] states = new byte[INITIAL_CAPACITY];
+    
+    private long[] longValues = new long[INITIAL_CAPACITY];
+    
+    private BigDecimal[] decimalValues = new BigDecimal[INITIAL_CAPACITY];
+    
+    @Override
+    public void merge(final int groupIndex, final Comparable<?>[] values) {
+        add(groupIndex, values[0]);
+    }
+    
+    /**
+     * Add value into group.
+     *
+     * @param groupIndex group index
+     * @param value value to be added
+     */
+    public void add(final int groupIndex, final Comparable<?> value) {
+        if (null == value) {
+            return;
+        }
+        ensureCapacity(groupIndex);
+        if (DECIMAL != states[groupIndex] && isIntegral(value)) {
+            long longValue = ((Number) value).longValue();
+            if (NONE == states[groupIndex]) {
+                states[groupIndex] = LONG;
+                longValues[groupIndex] = longValue;
+                return;
+            }
+            long current = longValues[groupIndex];
+            long sum = current + longValue;
+            if (((current ^ sum) & (longValue ^ sum)) >= 0) {
+                longValues[groupIndex] = sum;
+                return;
+            }
+        }
+        decimalValues[groupIndex] = getDecimalValue(groupIndex).add(new BigDecimal(value.toString()));
+        states[groupIndex] = DECIMAL;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private BigDecimal getDecimalValue(final int groupIndex) {
+        switch (states[groupIndex]) {
+            case LONG:
+                return BigDecimal.valueOf(longValues[groupIndex]);
+            case DECIMAL:
+                return decimalValues[groupIndex];
+            default:
+                return BigDecimal.ZERO;
+        }
+    }
+    
+    private void ensureCapacity(final int groupIndex) {
+        if (groupIndex < states.length) {
+            return;
+        }
+        int capacity = Math.max(states.length << 1, groupIndex + 1);
+        states = Arrays.copyOf(states, capacity);
+        longValues = Arrays.copyOf(longValues, capacity);
+        decimalValues = Arrays.copyOf(decimalValues, capacity);
+    }
+    
+    @Override
+    public BigDecimal getResult(final int groupIndex) {
+        return groupIndex >= states.length || NONE == states[groupIndex] ? null : getDecimalValue(groupIndex);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Grouped average aggregation unit.
+ */
+public final class GroupedAverageAggregationUnit implements GroupedAggregationUnit {
+    
+    private final GroupedAccumulationAggregationUnit count = new GroupedAccumulationAggregationUnit();
+    
+    private final GroupedAccumulationAggregationUnit sum = new GroupedAccumulationAggregationUnit();
+    
+    @Override
+    public void merge(final int groupIndex, final Comparable<?>[] values) {
+        if (null == values[0] || null == values[1]) {
+            return;
+        }
+        count.add(groupIndex, values[0]);
+        sum.add(groupIndex, values[1]);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        BigDecimal countResult = count.getResult(groupIndex);
+        if (null == countResult || BigDecimal.ZERO.equals(countResult)) {
+            return countResult;
+        }
+        return sum.getResult(groupIndex).divide(countResult, 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Grouped BIT_XOR aggregation unit.
+ *
+ * <p>Integral values are xored in primitive longs, the group falls back to big integer once a non integral value is merged.</p>
+ */
+public final class GroupedBitXorAggregationUnit implements GroupedAggregationUnit {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private static final byte NONE = 0;
+    
+    private static final byte LONG = 1;
+    
+    private static final byte BIG_INTEGER = 2;
+    
+    private byte[] states = new byte[INITIAL_CAPACITY];
+    
+    private long[] longValues = new long[INITIAL_CAPACITY];
+    
+    private BigInteger[] bigIntegerValues = new BigInteger[INITIAL_CAPACITY];
+    
+    @Override
+    public void merge(final int groupIndex, final Comparable<?>[] values) {
+        Comparable<?> value = values[0];
+        if (null == value) {
+            return;
+        }
+        ensureCapacity(groupIndex);
+        if (BIG_INTEGER != states[groupIndex] && isIntegral(value)) {
+            longValues[groupIndex] ^= ((Number) value).longValue();
+            states[groupIndex] = LONG;
+            return;
+        }
+        bigIntegerValues[groupIndex] = getBigIntegerValue(groupIndex).xor(new BigInteger(value.toString()));
+        states[groupIndex] = BIG_INTEGER;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private BigInteger getBigIntegerValue(final int groupIndex) {
+        switch (states[groupIndex]) {
+            case LONG:
+                return BigInteger.valueOf(longValues[groupIndex]);
+            case BIG_INTEGER:
+                return bigIntegerValues[groupIndex];
+            default:
+                return BigInteger.ZERO;
+        }
+    }
+    
+    private void ensureCapacity(final int groupIndex) {
+        if (groupIndex < states.length) {
+            return;
+        }
+        int capacity = Math.max(states.length << 1, groupIndex + 1);
+        states = Arrays.copyOf(states, capacity);
+        longValues = Arrays.copyOf(longValues, capacity);
+        bigIntegerValues = Arrays.copyOf(bigIntegerValues, capacity);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return groupIndex >= states.length || NONE == states[groupIndex] ? null : getBigIntegerValue(groupIndex);
+    }
+}
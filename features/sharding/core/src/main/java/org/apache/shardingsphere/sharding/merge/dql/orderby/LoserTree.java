@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.List;
+
+/**
+ * Loser tree for k-way merge.
+ *
+ * <p>
+ * Leaves are kept in a complete binary tree whose internal nodes record the loser of their subtree, the overall winner is kept at node 0.
+ * When the winner moves to its next value, only the path from its leaf to root is replayed, which costs log2(k) comparisons.
+ * Exhausted leaves are treated as larger than any other leaf.
+ * </p>
+ *
+ * @param <T> type of leaf
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private final List<T> leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] nodes;
+    
+    public LoserTree(final List<T> leaves) {
+        this.leaves = leaves;
+        int size = leaves.size();
+        exhausted = new boolean[size];
+        nodes = new int[Math.max(size, 1)];
+        if (size > 0) {
+            build(size);
+        } else {
+            nodes[0] = -1;
+        }
+    }
+    
+    private void build(final int size) {
+        int[] winners = new int[size << 1];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node << 1];
+            int right = winners[(node << 1) + 1];
+            if (isBefore(left, right)) {
+                winners[node] = left;
+                nodes[node] = right;
+            } else {
+                winners[node] = right;
+                nodes[node] = left;
+            }
+        }
+        nodes[0] = 1 == size ? 0 : winners[1];
+    }
+    
+    /**
+     * Judge whether all leaves are exhausted.
+     *
+     * @return all leaves are exhausted or not
+     */
+    public boolean isEmpty() {
+        return -1 == nodes[0] || exhausted[nodes[0]];
+    }
+    
+    /**
+     * Get winner.
+     *
+     * @return winner
+     */
+    public T peek() {
+        return leaves.get(nodes[0]);
+    }
+    
+    /**
+     * Replay the tree after winner moved to its next value.
+     *
+     * @param hasNext whether winner has next value
+     */
+    public void replay(final boolean hasNext) {
+        int winner = nodes[0];
+        exhausted[winner] = !hasNext;
+        for (int node = (leaves.size() + winner) >> 1; node > 0; node >>= 1) {
+            if (isBefore(nodes[node], winner)) {
+                int loser = winner;
+                winner = nodes[node];
+                nodes[node] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+    
+    private boolean isBefore(final int leafIndex, final int otherLeafIndex) {
+        if (exhausted[leafIndex]) {
+            return false;
+        }
+        if (exhausted[otherLeafIndex]) {
+            return true;
+        }
+        int result = leaves.get(leafIndex).compareTo(leaves.get(otherLeafIndex));
+        return result < 0 || 0 == result && leafIndex < otherLeafIndex;
+    }
+}
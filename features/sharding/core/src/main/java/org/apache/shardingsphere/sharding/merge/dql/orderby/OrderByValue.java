@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -34,7 +36,6 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +44,12 @@ import java.util.Map;
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte OTHER_VALUE = 0;
+    
+    private static final byte LONG_VALUE = 1;
+    
+    private static final byte STRING_VALUE = 2;
+    
     @Getter
     private final QueryResult queryResult;
     
@@ -52,7 +59,21 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderByIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final boolean[] caseSensitives;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final byte[] orderValueTypes;
+    
+    private final long[] longOrderValues;
+    
+    private final String[] stringOrderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -60,6 +81,23 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        int size = orderByItems.size();
+        orderByIndexes = new int[size];
+        orderDirections = new OrderDirection[size];
+        nullsOrderTypes = new NullsOrderType[size];
+        caseSensitives = new boolean[size];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderByIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType());
+            caseSensitives[i] = orderValuesCaseSensitive.get(i);
+            i++;
+        }
+        orderValues = new Comparable<?>[size];
+        orderValueTypes = new byte[size];
+        longOrderValues = new long[size];
+        stringOrderValues = new String[size];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -97,36 +135,56 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     /**
      * Iterate next data.
      *
+     * <p>Order values of current row are extracted once into typed slots, so integral and string values can be compared without going through {@link CompareUtil}.</p>
+     *
      * @return has next data
      * @throws SQLException SQL exception
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByIndexes.length; i++) {
+            Object value = queryResult.getValue(orderByIndexes[i], Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                orderValueTypes[i] = LONG_VALUE;
+                longOrderValues[i] = ((Number) value).longValue();
+            } else if (value instanceof String) {
+                orderValueTypes[i] = STRING_VALUE;
+                stringOrderValues[i] = caseSensitives[i] ? (String) value : ((String) value).toUpperCase();
+            } else {
+                orderValueTypes[i] = OTHER_VALUE;
+            }
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        int result;
+        if (LONG_VALUE == orderValueTypes[index] && LONG_VALUE == orderByValue.orderValueTypes[index]) {
+            result = Long.compare(longOrderValues[index], orderByValue.longOrderValues[index]);
+        } else if (STRING_VALUE == orderValueTypes[index] && STRING_VALUE == orderByValue.orderValueTypes[index]) {
+            result = stringOrderValues[index].compareTo(orderByValue.stringOrderValues[index]);
+        } else {
+            return CompareUtil.compareTo(orderValues[index], orderByValue.orderValues[index], orderDirections[index], nullsOrderTypes[index], caseSensitives[index]);
+        }
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
 }
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.data.collector.ShardingSphereDataCollector;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sharding column statistics table data collector.
+ *
+ * <p>Distinct count of sharding columns is read from statistics views of storage units, which are maintained by MySQL and PostgreSQL themselves,
+ * other storage units or actual tables without statistics are sampled, and the distinct count is only taken if the sample covers the whole actual table.
+ * Min value and max value are collected with MIN and MAX aggregations, which are served by index of sharding columns.</p>
+ *
+ * <p>Distinct count of logic table is the sum of distinct count of actual tables, values duplicated in several actual tables are counted repeatedly,
+ * so it is an upper bound, and it is absent if distinct count of any actual table is unknown.</p>
+ */
+public final class ShardingColumnStatisticsTableCollector implements ShardingSphereDataCollector {
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final String MYSQL_DISTINCT_COUNT = "SELECT MAX(CARDINALITY) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = ? AND SEQ_IN_INDEX = 1";
+    
+    private static final String POSTGRESQL_DISTINCT_COUNT = "SELECT S.N_DISTINCT, C.RELTUPLES FROM PG_STATS S JOIN PG_NAMESPACE N ON N.NSPNAME = S.SCHEMANAME "
+            + "JOIN PG_CLASS C ON C.RELNAMESPACE = N.OID AND C.RELNAME = S.TABLENAME WHERE S.SCHEMANAME = ? AND S.TABLENAME = ? AND S.ATTNAME = ?";
+    
+    private static final String MIN_MAX_ITEMS = "MIN(%s), MAX(%s)";
+    
+    private static final int SAMPLE_ROWS = 10000;
+    
+    private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10L);
+    
+    private final Map<String, CollectedTableData> collectedTableData = new ConcurrentHashMap<>();
+    
+    @Override
+    public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
+                                                     final Map<String, ShardingSphereDatabase> shardingSphereDatabases) throws SQLException {
+        CollectedTableData cachedTableData = collectedTableData.get(databaseName);
+        if (null != cachedTableData && System.currentTimeMillis() - cachedTableData.collectedMillis < REFRESH_INTERVAL_MILLIS) {
+            return cachedTableData.tableData;
+        }
+        ShardingSphereTableData result = new ShardingSphereTableData(SHARDING_COLUMN_STATISTICS);
+        DatabaseType protocolType = shardingSphereDatabases.values().iterator().next().getProtocolType();
+        if (protocolType instanceof PostgreSQLDatabaseType || protocolType instanceof OpenGaussDatabaseType) {
+            collectFromDatabase(shardingSphereDatabases.get(databaseName), result);
+        } else {
+            for (ShardingSphereDatabase each : shardingSphereDatabases.values()) {
+                collectFromDatabase(each, result);
+            }
+        }
+        Optional<ShardingSphereTableData> tableData = result.getRows().isEmpty() ? Optional.empty() : Optional.of(result);
+        collectedTableData.put(databaseName, new CollectedTableData(System.currentTimeMillis(), tableData));
+        return tableData;
+    }
+    
+    private void collectFromDatabase(final ShardingSphereDatabase shardingSphereDatabase, final ShardingSphereTableData tableData) throws SQLException {
+        Optional<ShardingRule> shardingRule = shardingSphereDatabase.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!shardingRule.isPresent()) {
+            return;
+        }
+        for (TableRule each : shardingRule.get().getTableRules().values()) {
+            List<String> shardingColumns = new ArrayList<>(shardingRule.get().getShardingColumns(each));
+            if (!shardingColumns.isEmpty()) {
+                collectForTableRule(shardingSphereDatabase, each, shardingColumns, tableData);
+            }
+        }
+    }
+    
+    private void collectForTableRule(final ShardingSphereDatabase shardingSphereDatabase, final TableRule tableRule, final List<String> shardingColumns,
+                                     final ShardingSphereTableData tableData) throws SQLException {
+        ColumnStatistics[] columnStatistics = new ColumnStatistics[shardingColumns.size()];
+        Arrays.setAll(columnStatistics, index -> new ColumnStatistics());
+        for (DataNode each : tableRule.getActualDataNodes()) {
+            DatabaseType databaseType = shardingSphereDatabase.getResourceMetaData().getStorageTypes().get(each.getDataSourceName());
+            DataSource dataSource = shardingSphereDatabase.getResourceMetaData().getDataSources().get(each.getDataSourceName());
+            if (null != databaseType && null != dataSource) {
+                collectForDataNode(dataSource, databaseType, each, shardingColumns, columnStatistics);
+            }
+        }
+        for (int i = 0; i < shardingColumns.size(); i++) {
+            List<Object> row = new ArrayList<>(7);
+            row.add(tableData.getRows().size() + 1);
+            row.add(shardingSphereDatabase.getName());
+            row.add(tableRule.getLogicTable());
+            row.add(shardingColumns.get(i));
+            row.add(columnStatistics[i].distinctCountUnknown ? null : columnStatistics[i].distinctCount);
+            row.add(null == columnStatistics[i].minValue ? null : String.valueOf(columnStatistics[i].minValue));
+            row.add(null == columnStatistics[i].maxValue ? null : String.valueOf(columnStatistics[i].maxValue));
+            tableData.getRows().add(new ShardingSphereRowData(row));
+        }
+    }
+    
+    private void collectForDataNode(final DataSource dataSource, final DatabaseType databaseType, final DataNode dataNode, final List<String> shardingColumns,
+                                    final ColumnStatistics[] columnStatistics) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < shardingColumns.size(); i++) {
+                columnStatistics[i].mergeDistinctCount(loadDistinctCount(connection, databaseType, dataNode, shardingColumns.get(i)));
+            }
+            try (
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(getMinMaxSQL(databaseType, dataNode, shardingColumns))) {
+                if (!resultSet.next()) {
+                    return;
+                }
+                for (int i = 0; i < shardingColumns.size(); i++) {
+                    columnStatistics[i].mergeMinMax(resultSet.getObject(i * 2 + 1), resultSet.getObject(i * 2 + 2));
+                }
+            }
+        }
+    }
+    
+    private Optional<BigDecimal> loadDistinctCount(final Connection connection, final DatabaseType databaseType, final DataNode dataNode, final String column) throws SQLException {
+        Optional<BigDecimal> result = Optional.empty();
+        if (databaseType instanceof MySQLDatabaseType) {
+            result = loadMySQLDistinctCount(connection, dataNode, column);
+        } else if (databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType) {
+            result = loadPostgreSQLDistinctCount(connection, dataNode, column);
+        }
+        return result.isPresent() ? result : loadSampledDistinctCount(connection, databaseType, dataNode, column);
+    }
+    
+    private Optional<BigDecimal> loadMySQLDistinctCount(final Connection connection, final DataNode dataNode, final String column) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(MYSQL_DISTINCT_COUNT)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, dataNode.getTableName());
+            preparedStatement.setString(3, column);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getBigDecimal(1)) : Optional.empty();
+            }
+        }
+    }
+    
+    private Optional<BigDecimal> loadPostgreSQLDistinctCount(final Connection connection, final DataNode dataNode, final String column) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(POSTGRESQL_DISTINCT_COUNT)) {
+            preparedStatement.setString(1, null == dataNode.getSchemaName() ? connection.getSchema() : dataNode.getSchemaName());
+            preparedStatement.setString(2, dataNode.getTableName());
+            preparedStatement.setString(3, column);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                BigDecimal distinctCount = resultSet.getBigDecimal(1);
+                BigDecimal tableRows = resultSet.getBigDecimal(2);
+                if (null == distinctCount || distinctCount.signum() >= 0) {
+                    return Optional.ofNullable(distinctCount);
+                }
+                return null == tableRows || tableRows.signum() <= 0 ? Optional.empty() : Optional.of(distinctCount.negate().multiply(tableRows).setScale(0, RoundingMode.CEILING));
+            }
+        }
+    }
+    
+    private Optional<BigDecimal> loadSampledDistinctCount(final Connection connection, final DatabaseType databaseType, final DataNode dataNode, final String column) throws SQLException {
+        Collection<Object> distinctValues = new HashSet<>();
+        int rows = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setMaxRows(SAMPLE_ROWS + 1);
+            try (ResultSet resultSet = statement.executeQuery("SELECT " + databaseType.getQuoteCharacter().wrap(column) + " FROM " + getTableName(databaseType, dataNode))) {
+                while (resultSet.next()) {
+                    if (++rows > SAMPLE_ROWS) {
+                        return Optional.empty();
+                    }
+                    Object value = resultSet.getObject(1);
+                    if (null != value) {
+                        distinctValues.add(value);
+                    }
+                }
+            }
+        }
+        return Optional.of(BigDecimal.valueOf(distinctValues.size()));
+    }
+    
+    private String getMinMaxSQL(final DatabaseType databaseType, final DataNode dataNode, final Collection<String> shardingColumns) {
+        StringBuilder result = new StringBuilder("SELECT ");
+        for (String each : shardingColumns) {
+            String column = databaseType.getQuoteCharacter().wrap(each);
+            result.append(String.format(MIN_MAX_ITEMS, column, column)).append(", ");
+        }
+        result.setLength(result.length() - 2);
+        return result.append(" FROM ").append(getTableName(databaseType, dataNode)).toString();
+    }
+    
+    private String getTableName(final DatabaseType databaseType, final DataNode dataNode) {
+        String tableName = databaseType.getQuoteCharacter().wrap(dataNode.getTableName());
+        return databaseType.isSchemaAvailable() && null != dataNode.getSchemaName() ? databaseType.getQuoteCharacter().wrap(dataNode.getSchemaName()) + "." + tableName : tableName;
+    }
+    
+    @Override
+    public String getType() {
+        return SHARDING_COLUMN_STATISTICS;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CollectedTableData {
+        
+        private final long collectedMillis;
+        
+        private final Optional<ShardingSphereTableData> tableData;
+    }
+    
+    private static final class ColumnStatistics {
+        
+        private BigDecimal distinctCount = BigDecimal.ZERO;
+        
+        private boolean distinctCountUnknown;
+        
+        private Object minValue;
+        
+        private Object maxValue;
+        
+        private void mergeDistinctCount(final Optional<BigDecimal> distinctCount) {
+            if (distinctCount.isPresent()) {
+                this.distinctCount = this.distinctCount.add(distinctCount.get());
+            } else {
+                distinctCountUnknown = true;
+            }
+        }
+        
+        private void mergeMinMax(final Object minValue, final Object maxValue) {
+            if (null == this.minValue || null != minValue && compare(minValue, this.minValue) < 0) {
+                this.minValue = minValue;
+            }
+            if (null == this.maxValue || null != maxValue && compare(maxValue, this.maxValue) > 0) {
+                this.maxValue = maxValue;
+            }
+        }
+        
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private int compare(final Object value, final Object currentValue) {
+            if (value instanceof Comparable && value.getClass() == currentValue.getClass()) {
+                return ((Comparable) value).compareTo(currentValue);
+            }
+            if (value instanceof Number && currentValue instanceof Number) {
+                return new BigDecimal(value.toString()).compareTo(new BigDecimal(currentValue.toString()));
+            }
+            return 0;
+        }
+    }
+}
@@ -551,6 +551,32 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return Optional.empty();
     }
     
+    /**
+     * Get sharding columns.
+     *
+     * @param tableRule table rule
+     * @return sharding columns of database and table sharding strategies
+     */
+    public Collection<String> getShardingColumns(final TableRule tableRule) {
+        Collection<String> result = new LinkedHashSet<>();
+        result.addAll(getShardingColumns(getDatabaseShardingStrategyConfiguration(tableRule)));
+        result.addAll(getShardingColumns(getTableShardingStrategyConfiguration(tableRule)));
+        return result;
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null == shardingColumn ? Collections.emptyList() : Collections.singletonList(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns());
+        }
+        return Collections.emptyList();
+    }
+    
     /**
      * Judge whether given logic table column is generate key column or not.
      *
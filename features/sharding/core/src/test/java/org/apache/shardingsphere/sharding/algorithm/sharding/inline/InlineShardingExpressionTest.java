@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class InlineShardingExpressionTest {
+    
+    @Test
+    public void assertEvaluateModulo() {
+        InlineShardingExpression expression = new InlineShardingExpression("t_order_${order_id % 16}");
+        assertTrue(expression.isCompiled());
+        assertThat(expression.evaluate("order_id", 17), is("t_order_1"));
+        assertThat(expression.evaluate("order_id", -17), is("t_order_-1"));
+        assertThat(expression.evaluate("order_id", 787694822390497281L), is("t_order_1"));
+        assertThat(expression.evaluate("order_id", new BigInteger("787694822390497280787694822390497281")), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithAlternativePlaceholder() {
+        InlineShardingExpression expression = new InlineShardingExpression("t_order_$->{order_id % 16}");
+        assertTrue(expression.isCompiled());
+        assertThat(expression.evaluate("order_id", 17), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateAbsAndHashCode() {
+        InlineShardingExpression expression = new InlineShardingExpression("t_user_${Math.abs(name.hashCode() % 4)}");
+        assertTrue(expression.isCompiled());
+        assertThat(expression.evaluate("name", "foo"), is("t_user_" + Math.abs("foo".hashCode() % 4)));
+        InlineShardingExpression methodExpression = new InlineShardingExpression("t_user_${(name.hashCode() % 4).abs()}");
+        assertTrue(methodExpression.isCompiled());
+        assertThat(methodExpression.evaluate("name", "bar"), is("t_user_" + Math.abs("bar".hashCode() % 4)));
+    }
+    
+    @Test
+    public void assertEvaluateStringConcatenation() {
+        InlineShardingExpression expression = new InlineShardingExpression("${'ds_' + (user_id % 2)}.t_order_${order_id % 2 + 1}");
+        assertTrue(expression.isCompiled());
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 3);
+        variables.put("order_id", 4);
+        assertThat(expression.evaluate(variables), is("ds_1.t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithSameResultAsGroovy() {
+        String[] expressions = {"t_${-value * 3 - 1}", "t_${value.hashCode().abs() % 7}", "t_${(value + 2147483647) % 5}", "t_${value + '_' + value}"};
+        Object[] values = {0, -5, 13, 2147483647, Long.MAX_VALUE, new BigInteger("-98765432109876543210"), (short) 7};
+        for (String each : expressions) {
+            InlineShardingExpression expression = new InlineShardingExpression(each);
+            assertTrue(expression.isCompiled());
+            for (Object value : values) {
+                assertThat(expression.evaluate("value", value), is(evaluateByGroovy(each, value)));
+            }
+        }
+    }
+    
+    private String evaluateByGroovy(final String expression, final Object value) {
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("value", value);
+        return closure.call().toString();
+    }
+    
+    @Test
+    public void assertEvaluateWithGroovyFallback() {
+        InlineShardingExpression expression = new InlineShardingExpression("t_order_${order_id.intdiv(4) % 2}");
+        assertFalse(expression.isCompiled());
+        assertThat(expression.evaluate("order_id", 12), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValueType() {
+        InlineShardingExpression expression = new InlineShardingExpression("t_order_${order_id % 4}");
+        assertTrue(expression.isCompiled());
+        assertThat(expression.evaluate("order_id", 5.0D), is("t_order_1.0"));
+    }
+}
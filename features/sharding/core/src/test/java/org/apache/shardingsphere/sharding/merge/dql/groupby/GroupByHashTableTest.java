@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class GroupByHashTableTest {
+    
+    @Test
+    public void assertFindOrInsert() {
+        GroupByHashTable groupByHashTable = new GroupByHashTable(8);
+        Object[] values = {"order", 1};
+        assertThat(groupByHashTable.findOrInsert(values), is(0));
+        values[1] = 2;
+        assertThat(groupByHashTable.findOrInsert(values), is(1));
+        values[1] = 1;
+        assertThat(groupByHashTable.findOrInsert(values), is(0));
+        assertThat(groupByHashTable.findOrInsert(new Object[]{null, null}), is(2));
+        assertThat(groupByHashTable.findOrInsert(new Object[]{null, null}), is(2));
+        assertThat(groupByHashTable.size(), is(3));
+        assertThat(groupByHashTable.getGroupValues(1), is(new Object[]{"order", 2}));
+    }
+    
+    @Test
+    public void assertFindOrInsertWithRehash() {
+        GroupByHashTable groupByHashTable = new GroupByHashTable(1);
+        for (int i = 0; i < 10000; i++) {
+            assertThat(groupByHashTable.findOrInsert(new Object[]{i}), is(i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(groupByHashTable.findOrInsert(new Object[]{i}), is(i));
+        }
+        assertThat(groupByHashTable.size(), is(10000));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class GroupedAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertAccumulationAggregation() {
+        GroupedAccumulationAggregationUnit aggregationUnit = new GroupedAccumulationAggregationUnit();
+        aggregationUnit.merge(0, new Comparable<?>[]{null});
+        aggregationUnit.merge(0, new Comparable<?>[]{10});
+        aggregationUnit.merge(0, new Comparable<?>[]{5L});
+        aggregationUnit.merge(20, new Comparable<?>[]{new BigDecimal("1.5")});
+        aggregationUnit.merge(20, new Comparable<?>[]{2});
+        assertThat(aggregationUnit.getResult(0), is(new BigDecimal("15")));
+        assertThat(aggregationUnit.getResult(1), nullValue());
+        assertThat(aggregationUnit.getResult(20), is(new BigDecimal("3.5")));
+        assertThat(aggregationUnit.getResult(100), nullValue());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithOverflow() {
+        GroupedAccumulationAggregationUnit aggregationUnit = new GroupedAccumulationAggregationUnit();
+        aggregationUnit.merge(0, new Comparable<?>[]{Long.MAX_VALUE});
+        aggregationUnit.merge(0, new Comparable<?>[]{1});
+        aggregationUnit.merge(0, new Comparable<?>[]{1});
+        assertThat(aggregationUnit.getResult(0), is(BigDecimal.valueOf(Long.MAX_VALUE).add(new BigDecimal("2"))));
+    }
+}
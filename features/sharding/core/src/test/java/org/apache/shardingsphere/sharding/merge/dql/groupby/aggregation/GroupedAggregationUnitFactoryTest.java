@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class GroupedAggregationUnitFactoryTest {
+    
+    @Test
+    public void assertCreateComparableAggregationUnit() {
+        GroupedAggregationUnit aggregationUnit = GroupedAggregationUnitFactory.create(AggregationType.MIN, false);
+        assertThat(aggregationUnit, instanceOf(GroupedComparableAggregationUnit.class));
+        aggregationUnit.merge(0, new Comparable<?>[]{3});
+        aggregationUnit.merge(0, new Comparable<?>[]{1});
+        assertThat(aggregationUnit.getResult(0), is(1));
+    }
+    
+    @Test
+    public void assertCreateAverageAggregationUnit() {
+        GroupedAggregationUnit aggregationUnit = GroupedAggregationUnitFactory.create(AggregationType.AVG, false);
+        assertThat(aggregationUnit, instanceOf(GroupedAverageAggregationUnit.class));
+        aggregationUnit.merge(0, new Comparable<?>[]{10, 50});
+        aggregationUnit.merge(0, new Comparable<?>[]{5, 40});
+        aggregationUnit.merge(0, new Comparable<?>[]{1, null});
+        assertThat(aggregationUnit.getResult(0), is(new BigDecimal("6.0000")));
+    }
+    
+    @Test
+    public void assertCreateBitXorAggregationUnit() {
+        GroupedAggregationUnit aggregationUnit = GroupedAggregationUnitFactory.create(AggregationType.BIT_XOR, false);
+        assertThat(aggregationUnit, instanceOf(GroupedBitXorAggregationUnit.class));
+        aggregationUnit.merge(0, new Comparable<?>[]{6});
+        aggregationUnit.merge(0, new Comparable<?>[]{new BigInteger("3")});
+        assertThat(aggregationUnit.getResult(0), is(new BigInteger("5")));
+    }
+    
+    @Test
+    public void assertCreateDistinctAggregationUnit() {
+        GroupedAggregationUnit aggregationUnit = GroupedAggregationUnitFactory.create(AggregationType.COUNT, true);
+        assertThat(aggregationUnit, instanceOf(GroupedDelegateAggregationUnit.class));
+        aggregationUnit.merge(0, new Comparable<?>[]{1});
+        aggregationUnit.merge(0, new Comparable<?>[]{1});
+        aggregationUnit.merge(0, new Comparable<?>[]{2});
+        assertThat(aggregationUnit.getResult(0), is(2));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertMergeEmptyLeaves() {
+        assertThat(new LoserTree<IteratorLeaf>(Collections.emptyList()).isEmpty(), is(true));
+    }
+    
+    @Test
+    public void assertMergeSortedLeaves() {
+        List<IteratorLeaf> leaves = new ArrayList<>();
+        leaves.add(new IteratorLeaf(Arrays.asList(1, 4, 7)));
+        leaves.add(new IteratorLeaf(Arrays.asList(2, 2, 9)));
+        leaves.add(new IteratorLeaf(Collections.singletonList(0)));
+        leaves.add(new IteratorLeaf(Arrays.asList(3, 5, 6, 8)));
+        leaves.add(new IteratorLeaf(Collections.singletonList(10)));
+        LoserTree<IteratorLeaf> loserTree = new LoserTree<>(leaves);
+        List<Integer> actual = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            actual.add(loserTree.peek().current);
+            loserTree.replay(loserTree.peek().next());
+        }
+        assertThat(actual, is(Arrays.asList(0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    private static final class IteratorLeaf implements Comparable<IteratorLeaf> {
+        
+        private final Iterator<Integer> values;
+        
+        private Integer current;
+        
+        IteratorLeaf(final List<Integer> values) {
+            this.values = values.iterator();
+            next();
+        }
+        
+        boolean next() {
+            current = values.hasNext() ? values.next() : null;
+            return null != current;
+        }
+        
+        @Override
+        public int compareTo(final IteratorLeaf o) {
+            return current.compareTo(o.current);
+        }
+    }
+}
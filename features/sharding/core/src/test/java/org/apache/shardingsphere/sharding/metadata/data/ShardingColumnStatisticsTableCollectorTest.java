@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingColumnStatisticsTableCollectorTest {
+    
+    @Test
+    public void assertCollectWithStatisticsView() throws SQLException {
+        Connection connection = mockConnection();
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet distinctCountResultSet = mock(ResultSet.class);
+        when(distinctCountResultSet.next()).thenReturn(true);
+        when(distinctCountResultSet.getBigDecimal(1)).thenReturn(new BigDecimal("10"), new BigDecimal("15"));
+        when(preparedStatement.executeQuery()).thenReturn(distinctCountResultSet);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        Statement statement = mock(Statement.class);
+        ResultSet minMaxResultSet = mockMinMaxResultSet();
+        when(statement.executeQuery("SELECT MIN(`order_id`), MAX(`order_id`) FROM `t_order_0`")).thenReturn(minMaxResultSet);
+        when(statement.executeQuery("SELECT MIN(`order_id`), MAX(`order_id`) FROM `t_order_1`")).thenReturn(minMaxResultSet);
+        when(connection.createStatement()).thenReturn(statement);
+        List<Object> actual = collect(new MySQLDatabaseType(), connection);
+        assertThat(actual.get(2), is("t_order"));
+        assertThat(actual.get(3), is("order_id"));
+        assertThat(actual.get(4), is(new BigDecimal("25")));
+        assertThat(actual.get(5), is("1"));
+        assertThat(actual.get(6), is("20"));
+    }
+    
+    @Test
+    public void assertCollectWithSampledTable() throws SQLException {
+        Connection connection = mockConnection();
+        Statement statement = mock(Statement.class);
+        ResultSet sampleResultSet = mock(ResultSet.class);
+        when(sampleResultSet.next()).thenReturn(true, true, true, false);
+        when(sampleResultSet.getObject(1)).thenReturn(1, 2, 2);
+        when(statement.executeQuery("SELECT \"order_id\" FROM \"t_order_0\"")).thenReturn(sampleResultSet);
+        ResultSet minMaxResultSet = mockMinMaxResultSet();
+        when(statement.executeQuery("SELECT MIN(\"order_id\"), MAX(\"order_id\") FROM \"t_order_0\"")).thenReturn(minMaxResultSet);
+        when(statement.executeQuery("SELECT MIN(\"order_id\"), MAX(\"order_id\") FROM \"t_order_1\"")).thenReturn(minMaxResultSet);
+        ResultSet fullSampleResultSet = mock(ResultSet.class);
+        when(fullSampleResultSet.next()).thenReturn(true);
+        when(statement.executeQuery("SELECT \"order_id\" FROM \"t_order_1\"")).thenReturn(fullSampleResultSet);
+        when(connection.createStatement()).thenReturn(statement);
+        List<Object> actual = collect(new H2DatabaseType(), connection);
+        assertNull(actual.get(4));
+        assertThat(actual.get(5), is("1"));
+        assertThat(actual.get(6), is("20"));
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.getCatalog()).thenReturn("foo_ds");
+        return result;
+    }
+    
+    private ResultSet mockMinMaxResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getObject(1)).thenReturn(5L, 1L);
+        when(result.getObject(2)).thenReturn(20L, 9L);
+        return result;
+    }
+    
+    private List<Object> collect(final DatabaseType databaseType, final Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("sharding_db");
+        when(database.getProtocolType()).thenReturn(databaseType);
+        when(database.getResourceMetaData().getStorageTypes()).thenReturn(Collections.singletonMap("ds_0", databaseType));
+        when(database.getResourceMetaData().getDataSources()).thenReturn(Collections.singletonMap("ds_0", dataSource));
+        TableRule tableRule = mock(TableRule.class);
+        when(tableRule.getLogicTable()).thenReturn("t_order");
+        when(tableRule.getActualDataNodes()).thenReturn(Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_order_1")));
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getTableRules()).thenReturn(Collections.singletonMap("t_order", tableRule));
+        when(shardingRule.getShardingColumns(tableRule)).thenReturn(Collections.singleton("order_id"));
+        when(database.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        Optional<ShardingSphereTableData> actual =
+                new ShardingColumnStatisticsTableCollector().collect("sharding_db", mock(ShardingSphereTable.class), Collections.singletonMap("sharding_db", database));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRows().size(), is(1));
+        return actual.get().getRows().iterator().next().getRows();
+    }
+}
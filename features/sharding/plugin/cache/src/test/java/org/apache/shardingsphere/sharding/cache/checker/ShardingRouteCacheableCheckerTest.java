@@ -190,6 +190,6 @@ public final class ShardingRouteCacheableCheckerTest {
     
     private SQLStatement parse(final String sql) {
         CacheOption cacheOption = new CacheOption(0, 0);
-        return new SQLStatementParserEngine("PostgreSQL", cacheOption, cacheOption, false).parse(sql, false);
+        return new SQLStatementParserEngine("PostgreSQL", cacheOption, cacheOption, false, false).parse(sql, false);
     }
 }
@@ -22,5 +22,5 @@ package org.apache.shardingsphere.infra.config.props;
  */
 public enum BackendExecutorType {
     
-    OLTP, OLAP
+    OLTP, OLAP, VIRTUAL
 }
@@ -67,6 +67,24 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_FEDERATION_TYPE("sql-federation-type", "NONE", String.class, false),
     
+    /**
+     * Memory budget in bytes of memory merge for each query, rows are spilled to temporary files once exceeded.
+     * Less than or equal to 0 means no limitation.
+     */
+    MERGE_MEMORY_BUDGET_BYTES("merge-memory-budget-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max rows of each statement when insert values routed to the same data node are split into multiple statements.
+     * Less than or equal to 0 means no limitation.
+     */
+    INSERT_VALUES_CHUNK_ROWS("insert-values-chunk-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max estimated bytes of values of each statement when insert values routed to the same data node are split into multiple statements.
+     * Less than or equal to 0 means no limitation.
+     */
+    INSERT_VALUES_CHUNK_BYTES("insert-values-chunk-bytes", String.valueOf(0), long.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -77,6 +95,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush bytes threshold of records written since last flush for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES("proxy-frontend-flush-bytes", String.valueOf(64 * 1024), int.class, false),
+    
+    /**
+     * Flush interval milliseconds of records written since last flush for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy-frontend-flush-interval-milliseconds", String.valueOf(20), long.class, false),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -94,8 +122,9 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
     /**
-     * Available options of proxy backend executor suitable: OLAP(default), OLTP. The OLTP option may reduce time cost of writing packets to client, but it may increase the latency of SQL execution
+     * Available options of proxy backend executor suitable: OLAP(default), OLTP, VIRTUAL. The OLTP option may reduce time cost of writing packets to client, but it may increase the latency of SQL execution
      * and block other clients if client connections are more than {@link ConfigurationPropertyKey#PROXY_FRONTEND_EXECUTOR_SIZE}, especially executing slow SQL.
+     * The VIRTUAL option executes commands of each connection serially on a virtual thread, which suits lots of mostly idle connections, and falls back to platform thread if JVM does not support it.
      */
     PROXY_BACKEND_EXECUTOR_SUITABLE("proxy-backend-executor-suitable", BackendExecutorType.OLAP.name(), BackendExecutorType.class, false),
     
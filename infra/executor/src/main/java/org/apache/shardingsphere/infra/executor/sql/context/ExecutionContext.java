@@ -46,4 +46,13 @@ public final class ExecutionContext {
     public SQLStatementContext<?> getSqlStatementContext() {
         return queryContext.getSqlStatementContext();
     }
+    
+    /**
+     * Judge whether insert values of route units are split into several execution units.
+     *
+     * @return insert values are chunked or not
+     */
+    public boolean isInsertValuesChunked() {
+        return !routeContext.getRouteUnits().isEmpty() && executionUnits.size() > routeContext.getRouteUnits().size();
+    }
 }
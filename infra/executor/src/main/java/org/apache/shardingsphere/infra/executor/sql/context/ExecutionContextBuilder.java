@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map.Entry;
@@ -68,14 +69,37 @@ public final class ExecutionContextBuilder {
     }
     
     private static Collection<ExecutionUnit> build(final RouteSQLRewriteResult sqlRewriteResult) {
-        Collection<ExecutionUnit> result = new LinkedHashSet<>(sqlRewriteResult.getSqlRewriteUnits().size(), 1f);
+        if (sqlRewriteResult.getInsertValuesChunks().isEmpty()) {
+            Collection<ExecutionUnit> result = new LinkedHashSet<>(sqlRewriteResult.getSqlRewriteUnits().size(), 1f);
+            for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteResult.getSqlRewriteUnits().entrySet()) {
+                result.add(createExecutionUnit(entry.getKey(), entry.getValue()));
+            }
+            return result;
+        }
+        // Chunks of the same data node may have the same SQL, so they can not be deduplicated by set, and are kept in place to preserve route order.
+        List<ExecutionUnit> result = new ArrayList<>(sqlRewriteResult.getSqlRewriteUnits().size());
+        Collection<ExecutionUnit> nonChunkedUnits = new HashSet<>(sqlRewriteResult.getSqlRewriteUnits().size(), 1f);
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteResult.getSqlRewriteUnits().entrySet()) {
-            result.add(new ExecutionUnit(entry.getKey().getDataSourceMapper().getActualName(),
-                    new SQLUnit(entry.getValue().getSql(), entry.getValue().getParameters(), getRouteTableRouteMappers(entry.getKey().getTableMappers()))));
+            List<SQLRewriteUnit> chunks = sqlRewriteResult.getInsertValuesChunks().get(entry.getKey());
+            if (null != chunks) {
+                for (SQLRewriteUnit each : chunks) {
+                    result.add(createExecutionUnit(entry.getKey(), each));
+                }
+                continue;
+            }
+            ExecutionUnit executionUnit = createExecutionUnit(entry.getKey(), entry.getValue());
+            if (nonChunkedUnits.add(executionUnit)) {
+                result.add(executionUnit);
+            }
         }
         return result;
     }
     
+    private static ExecutionUnit createExecutionUnit(final RouteUnit routeUnit, final SQLRewriteUnit sqlRewriteUnit) {
+        return new ExecutionUnit(routeUnit.getDataSourceMapper().getActualName(),
+                new SQLUnit(sqlRewriteUnit.getSql(), sqlRewriteUnit.getParameters(), getRouteTableRouteMappers(routeUnit.getTableMappers())));
+    }
+    
     private static List<RouteMapper> getRouteTableRouteMappers(final Collection<RouteMapper> tableMappers) {
         if (null == tableMappers) {
             return Collections.emptyList();
@@ -34,11 +34,14 @@ import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Test;
 
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -99,6 +102,42 @@ public final class ExecutionContextBuilderTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertBuildRouteSQLRewriteResultWithInsertValuesChunks() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("logicName1", "actualName1"), Collections.singletonList(new RouteMapper("logicName1", "actualName1")));
+        SQLRewriteUnit firstChunk = new SQLRewriteUnit("sql1", Collections.singletonList("parameter1"));
+        SQLRewriteUnit secondChunk = new SQLRewriteUnit("sql1", Collections.singletonList("parameter2"));
+        RouteSQLRewriteResult sqlRewriteResult = new RouteSQLRewriteResult(
+                Collections.singletonMap(routeUnit, firstChunk), Collections.singletonMap(routeUnit, Arrays.asList(firstChunk, secondChunk)));
+        ShardingSphereResourceMetaData resourceMetaData = new ShardingSphereResourceMetaData("sharding_db", Collections.emptyMap());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), resourceMetaData, ruleMetaData, buildDatabase());
+        List<ExecutionUnit> actual = new ArrayList<>(ExecutionContextBuilder.build(database, sqlRewriteResult, mock(SQLStatementContext.class)));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getSqlUnit().getParameters(), is(Collections.singletonList("parameter1")));
+        assertThat(actual.get(1).getSqlUnit().getParameters(), is(Collections.singletonList("parameter2")));
+    }
+    
+    @Test
+    public void assertBuildRouteSQLRewriteResultWithInsertValuesChunksInRouteOrder() {
+        RouteUnit chunkedRouteUnit = new RouteUnit(new RouteMapper("logicName1", "actualName1"), Collections.singletonList(new RouteMapper("logicName1", "actualName1")));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("logicName2", "actualName2"), Collections.singletonList(new RouteMapper("logicName1", "actualName2")));
+        SQLRewriteUnit firstChunk = new SQLRewriteUnit("sql1", Collections.singletonList("parameter1"));
+        SQLRewriteUnit secondChunk = new SQLRewriteUnit("sql1", Collections.singletonList("parameter2"));
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(2, 1);
+        sqlRewriteUnits.put(chunkedRouteUnit, firstChunk);
+        sqlRewriteUnits.put(routeUnit, new SQLRewriteUnit("sql2", Collections.singletonList("parameter3")));
+        RouteSQLRewriteResult sqlRewriteResult = new RouteSQLRewriteResult(sqlRewriteUnits, Collections.singletonMap(chunkedRouteUnit, Arrays.asList(firstChunk, secondChunk)));
+        ShardingSphereResourceMetaData resourceMetaData = new ShardingSphereResourceMetaData("sharding_db", Collections.emptyMap());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), resourceMetaData, ruleMetaData, buildDatabase());
+        List<ExecutionUnit> actual = new ArrayList<>(ExecutionContextBuilder.build(database, sqlRewriteResult, mock(SQLStatementContext.class)));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getSqlUnit().getParameters(), is(Collections.singletonList("parameter1")));
+        assertThat(actual.get(1).getSqlUnit().getParameters(), is(Collections.singletonList("parameter2")));
+        assertThat(actual.get(2).getDataSourceName(), is("actualName2"));
+    }
+    
     private Map<String, ShardingSphereSchema> buildDatabaseWithoutPrimaryKey() {
         Map<String, ShardingSphereTable> tables = new HashMap<>(3, 1);
         tables.put("logicName1", new ShardingSphereTable("logicName1", Arrays.asList(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false),
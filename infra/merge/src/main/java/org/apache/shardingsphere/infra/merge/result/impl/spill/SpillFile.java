@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file, which keeps rows of memory merge in a temporary file when the memory budget of query is exceeded.
+ *
+ * <p>Rows are written first and read back in the written order after {@link #finishWrite()}, the file is deleted when closed.
+ * The owner of spill file must close it, even if not all rows are read.</p>
+ */
+public final class SpillFile implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path path;
+    
+    private final int[] columnTypes;
+    
+    private final DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    private int readCount;
+    
+    public SpillFile(final int[] columnTypes) throws IOException {
+        path = Files.createTempFile("shardingsphere-merge-", ".spill");
+        this.columnTypes = columnTypes;
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        SpillRowCodec.write(output, row, columnTypes);
+        rowCount++;
+    }
+    
+    /**
+     * Finish write.
+     *
+     * @return written bytes
+     * @throws IOException IO exception
+     */
+    public long finishWrite() throws IOException {
+        output.close();
+        return Files.size(path);
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows are read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        if (readCount == rowCount) {
+            return null;
+        }
+        if (null == input) {
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        }
+        readCount++;
+        return SpillRowCodec.read(input);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            output.close();
+            if (null != input) {
+                input.close();
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * Spill row codec.
+ *
+ * <p>Each cell is written as a type tag followed by its value. Common JDBC types are written in binary,
+ * other values are converted by the column type first, and fall back to string if the column type does not tell a better one.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INTEGER = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte BOOLEAN = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BIG_INTEGER = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte LOCAL_DATE = 15;
+    
+    private static final byte LOCAL_TIME = 16;
+    
+    private static final byte LOCAL_DATE_TIME = 17;
+    
+    /**
+     * Write row.
+     *
+     * @param output data output stream
+     * @param row row to be written
+     * @param columnTypes column types of row, see {@link Types}
+     * @throws IOException IO exception
+     */
+    static void write(final DataOutputStream output, final Object[] row, final int[] columnTypes) throws IOException {
+        output.writeInt(row.length);
+        for (int i = 0; i < row.length; i++) {
+            Object value = row[i];
+            if (!writeCell(output, value)) {
+                writeCell(output, convertByColumnType(value, i < columnTypes.length ? columnTypes[i] : Types.OTHER));
+            }
+        }
+    }
+    
+    private static boolean writeCell(final DataOutputStream output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == value.getClass()) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else {
+            return false;
+        }
+        return true;
+    }
+    
+    private static Object convertByColumnType(final Object value, final int columnType) throws IOException {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return value instanceof Number ? new BigDecimal(value.toString()) : value.toString();
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+            case Types.TIME_WITH_TIMEZONE:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return convertDateTimeValue(value, columnType);
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return value instanceof Blob ? getBytes((Blob) value) : value.toString();
+            case Types.CLOB:
+            case Types.NCLOB:
+                return value instanceof Clob ? getString((Clob) value) : value.toString();
+            default:
+                return value.toString();
+        }
+    }
+    
+    private static Object convertDateTimeValue(final Object value, final int columnType) {
+        long epochMillis;
+        if (value instanceof java.util.Date) {
+            epochMillis = ((java.util.Date) value).getTime();
+        } else if (value instanceof OffsetDateTime) {
+            epochMillis = ((OffsetDateTime) value).toInstant().toEpochMilli();
+        } else if (value instanceof ZonedDateTime) {
+            epochMillis = ((ZonedDateTime) value).toInstant().toEpochMilli();
+        } else if (value instanceof Instant) {
+            epochMillis = ((Instant) value).toEpochMilli();
+        } else {
+            return value.toString();
+        }
+        if (Types.DATE == columnType) {
+            return new Date(epochMillis);
+        }
+        return Types.TIME == columnType || Types.TIME_WITH_TIMEZONE == columnType ? new Time(epochMillis) : new Timestamp(epochMillis);
+    }
+    
+    private static byte[] getBytes(final Blob value) throws IOException {
+        try {
+            return value.getBytes(1L, (int) value.length());
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static String getString(final Clob value) throws IOException {
+        try {
+            return value.getSubString(1L, (int) value.length());
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param input data input stream
+     * @return read row
+     * @throws IOException IO exception
+     */
+    static Object[] read(final DataInputStream input) throws IOException {
+        Object[] result = new Object[input.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readCell(input);
+        }
+        return result;
+    }
+    
+    private static Object readCell(final DataInputStream input) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            default:
+                throw new IOException(String.format("Unknown spill cell tag `%s`", tag));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.spill;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] row = {null, 1, 2L, (short) 3, (byte) 4, true, 5.5F, 6.5D, new BigDecimal("7.50"), new BigInteger("8"), "foo", new byte[]{9},
+                new Date(10L), timestamp, LocalDateTime.of(2023, 1, 1, 0, 0)};
+        try (SpillFile spillFile = new SpillFile(new int[0])) {
+            spillFile.write(row);
+            spillFile.write(new Object[]{"bar"});
+            assertThat(spillFile.getRowCount(), is(2));
+            assertThat(spillFile.finishWrite() > 0L, is(true));
+            assertThat(spillFile.read(), is(row));
+            assertThat(spillFile.read(), is(new Object[]{"bar"}));
+            assertThat(spillFile.read(), nullValue());
+        }
+    }
+    
+    @Test
+    public void assertWriteAndReadByColumnType() throws IOException {
+        Object[] row = {new StringBuilder("foo"), new AtomicLong(1L), OffsetDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), new Object() {
+            
+            @Override
+            public String toString() {
+                return "bar";
+            }
+        }};
+        try (SpillFile spillFile = new SpillFile(new int[]{Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP, Types.OTHER})) {
+            spillFile.write(row);
+            spillFile.finishWrite();
+            assertThat(spillFile.read(), is(new Object[]{"foo", new BigDecimal("1"), new Timestamp(1672531200000L), "bar"}));
+        }
+    }
+}
@@ -35,9 +35,10 @@ public final class ShardingSphereSQLParserEngine {
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
-    public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+    public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                         final boolean isParseComment, final boolean isParameterizedCacheEnabled) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
-                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isParameterizedCacheEnabled);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
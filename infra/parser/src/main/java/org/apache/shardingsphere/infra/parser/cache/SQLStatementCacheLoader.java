@@ -32,7 +32,7 @@ public final class SQLStatementCacheLoader implements CacheLoader<String, SQLSta
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     public SQLStatementCacheLoader(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment, false);
     }
     
     @ParametersAreNonnullByDefault
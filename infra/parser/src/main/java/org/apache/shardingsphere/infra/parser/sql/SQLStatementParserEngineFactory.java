@@ -32,6 +32,8 @@ public final class SQLStatementParserEngineFactory {
     
     private static final Map<String, SQLStatementParserEngine> ENGINES = new ConcurrentHashMap<>();
     
+    private static final Map<String, SQLStatementParserEngine> PARAMETERIZED_CACHE_ENGINES = new ConcurrentHashMap<>();
+    
     /**
      * Get SQL statement parser engine.
      *
@@ -39,13 +41,16 @@ public final class SQLStatementParserEngineFactory {
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
      * @param isParseComment is parse comment
+     * @param isParameterizedCacheEnabled is parameterized cache enabled
      * @return SQL statement parser engine
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType,
-                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        SQLStatementParserEngine result = ENGINES.get(databaseType);
+                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final boolean isParseComment, final boolean isParameterizedCacheEnabled) {
+        Map<String, SQLStatementParserEngine> engines = isParameterizedCacheEnabled ? PARAMETERIZED_CACHE_ENGINES : ENGINES;
+        SQLStatementParserEngine result = engines.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = engines.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isParameterizedCacheEnabled));
         }
         return result;
     }
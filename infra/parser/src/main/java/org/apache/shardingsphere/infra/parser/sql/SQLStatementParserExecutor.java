@@ -33,8 +33,8 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isParameterizedCacheEnabled) {
+        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption, isParameterizedCacheEnabled);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
     }
     
@@ -19,24 +19,37 @@ package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCache;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCacheKey;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.util.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -75,19 +88,54 @@ public final class SQLRewriteEntry {
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
         DatabaseType protocolType = database.getProtocolType();
         Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
-        return routeContext.getRouteUnits().isEmpty()
-                ? new GenericSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext)
-                : new RouteSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext, routeContext);
+        if (routeContext.getRouteUnits().isEmpty()) {
+            sqlRewriteContext.generateSQLTokens();
+            return new GenericSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext);
+        }
+        Optional<SQLRewriteTemplateCacheKey> templateCacheKey = findTemplateCacheKey(sql, params, sqlStatementContext, routeContext);
+        Optional<SQLRewriteTemplate> template = templateCacheKey.flatMap(optional -> SQLRewriteTemplateCache.getInstance().get(optional, database, rule));
+        if (template.isPresent()) {
+            RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+            return new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit(template.get().getSql(), sqlRewriteContext.getParameterBuilder().getParameters())));
+        }
+        sqlRewriteContext.generateSQLTokens();
+        int insertValuesChunkRows = props.<Integer>getValue(ConfigurationPropertyKey.INSERT_VALUES_CHUNK_ROWS);
+        long insertValuesChunkBytes = props.<Long>getValue(ConfigurationPropertyKey.INSERT_VALUES_CHUNK_BYTES);
+        RouteSQLRewriteResult result = new RouteSQLRewriteEngine(rule, protocolType, storageTypes, insertValuesChunkRows, insertValuesChunkBytes).rewrite(sqlRewriteContext, routeContext);
+        if (templateCacheKey.isPresent()) {
+            String rewrittenSQL = result.getSqlRewriteUnits().values().iterator().next().getSql();
+            SQLRewriteTemplateCache.getInstance().put(templateCacheKey.get(), new SQLRewriteTemplate(database, rule, rewrittenSQL));
+        }
+        return result;
     }
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> params, final SQLStatementContext<?> sqlStatementContext,
                                                       final RouteContext routeContext, final ConnectionContext connectionContext) {
         SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, params, connectionContext);
         decorate(decorators, result, routeContext);
-        result.generateSQLTokens();
         return result;
     }
     
+    private Optional<SQLRewriteTemplateCacheKey> findTemplateCacheKey(final String sql, final List<Object> params, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+        if (params.isEmpty() || 1 != routeContext.getRouteUnits().size() || !isTemplateCacheable(sqlStatementContext)) {
+            return Optional.empty();
+        }
+        boolean hintSkipSQLRewrite = ((CommonSQLStatementContext<?>) sqlStatementContext).isHintSkipSQLRewrite();
+        return Optional.of(SQLRewriteTemplateCache.getInstance().createKey(database.getName(), sql, hintSkipSQLRewrite, routeContext.getRouteUnits().iterator().next()));
+    }
+    
+    private boolean isTemplateCacheable(final SQLStatementContext<?> sqlStatementContext) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return isSingleRowParameterizedInsert((InsertStatementContext) sqlStatementContext);
+        }
+        return sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    private boolean isSingleRowParameterizedInsert(final InsertStatementContext insertStatementContext) {
+        return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getInsertValueContexts().size()
+                && !insertStatementContext.getGroupedParameters().get(0).isEmpty();
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void decorate(final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         if (((CommonSQLStatementContext<?>) sqlRewriteContext.getSqlStatementContext()).isHintSkipSQLRewrite()) {
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>
+ * Rewritten and translated SQL of one route unit, which is reused as long as database and SQL translator rule are not rebuilt.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLRewriteTemplate {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final SQLTranslatorRule translatorRule;
+    
+    @Getter
+    private final String sql;
+    
+    /**
+     * Judge whether template is built with current database and SQL translator rule.
+     *
+     * @param database database
+     * @param translatorRule SQL translator rule
+     * @return is valid or not
+     */
+    public boolean isValid(final ShardingSphereDatabase database, final SQLTranslatorRule translatorRule) {
+        return this.database == database && this.translatorRule == translatorRule;
+    }
+}
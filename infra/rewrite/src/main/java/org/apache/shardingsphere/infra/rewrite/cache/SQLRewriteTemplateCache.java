@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL rewrite template cache shared by all connections.
+ * 
+ * <p>
+ * Templates are keyed by SQL and route unit, so executions of a prepared statement which are routed to the same data node reuse the rewritten SQL.
+ * Only parameterized statements routed to a single route unit are cached, which are SELECT, UPDATE, DELETE and single row INSERT with parameters.
+ * Multiple rows INSERT, INSERT SELECT and INSERT without parameters are not cached, because generated keys and encrypted values of literal rows are inlined into the rewritten SQL.
+ * The meta data version of database is increased when meta data of database is altered, so templates built with stale meta data will never be hit again.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewriteTemplateCache {
+    
+    private static final SQLRewriteTemplateCache INSTANCE = new SQLRewriteTemplateCache();
+    
+    private static final int INITIAL_CAPACITY = 128;
+    
+    private static final long MAXIMUM_SIZE = 2048L;
+    
+    private final Cache<SQLRewriteTemplateCacheKey, SQLRewriteTemplate> templates = Caffeine.newBuilder().softValues().initialCapacity(INITIAL_CAPACITY).maximumSize(MAXIMUM_SIZE).build();
+    
+    private final Map<String, AtomicLong> metaDataVersions = new ConcurrentHashMap<>();
+    
+    /**
+     * Get SQL rewrite template cache instance.
+     *
+     * @return SQL rewrite template cache
+     */
+    public static SQLRewriteTemplateCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Create cache key.
+     *
+     * @param databaseName database name
+     * @param sql SQL
+     * @param hintSkipSQLRewrite whether SQL rewrite is skipped by hint
+     * @param routeUnit route unit
+     * @return SQL rewrite template cache key
+     */
+    public SQLRewriteTemplateCacheKey createKey(final String databaseName, final String sql, final boolean hintSkipSQLRewrite, final RouteUnit routeUnit) {
+        String lowerCaseDatabaseName = databaseName.toLowerCase();
+        return new SQLRewriteTemplateCacheKey(lowerCaseDatabaseName, getMetaDataVersion(lowerCaseDatabaseName).get(), sql, hintSkipSQLRewrite,
+                routeUnit.getDataSourceMapper(), new ArrayList<>(routeUnit.getTableMappers()));
+    }
+    
+    /**
+     * Get SQL rewrite template.
+     *
+     * @param key cache key
+     * @param database database
+     * @param translatorRule SQL translator rule
+     * @return got SQL rewrite template
+     */
+    public Optional<SQLRewriteTemplate> get(final SQLRewriteTemplateCacheKey key, final ShardingSphereDatabase database, final SQLTranslatorRule translatorRule) {
+        return Optional.ofNullable(templates.getIfPresent(key)).filter(each -> each.isValid(database, translatorRule));
+    }
+    
+    /**
+     * Put SQL rewrite template.
+     *
+     * @param key cache key
+     * @param template SQL rewrite template
+     */
+    public void put(final SQLRewriteTemplateCacheKey key, final SQLRewriteTemplate template) {
+        templates.put(key, template);
+    }
+    
+    private AtomicLong getMetaDataVersion(final String lowerCaseDatabaseName) {
+        return metaDataVersions.computeIfAbsent(lowerCaseDatabaseName, key -> new AtomicLong());
+    }
+    
+    /**
+     * Invalidate templates of database.
+     *
+     * @param databaseName database name
+     */
+    public void invalidate(final String databaseName) {
+        String lowerCaseDatabaseName = databaseName.toLowerCase();
+        getMetaDataVersion(lowerCaseDatabaseName).incrementAndGet();
+        templates.asMap().keySet().removeIf(each -> each.getDatabaseName().equals(lowerCaseDatabaseName));
+    }
+    
+    /**
+     * Get cached template count.
+     *
+     * @return cached template count
+     */
+    public long getTemplateCount() {
+        return templates.estimatedSize();
+    }
+}
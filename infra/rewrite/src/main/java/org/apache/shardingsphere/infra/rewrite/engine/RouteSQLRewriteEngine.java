@@ -29,19 +29,27 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Route SQL rewrite engine.
@@ -55,6 +63,14 @@ public final class RouteSQLRewriteEngine {
     
     private final Map<String, DatabaseType> storageTypes;
     
+    private final int insertValuesChunkRows;
+    
+    private final long insertValuesChunkBytes;
+    
+    public RouteSQLRewriteEngine(final SQLTranslatorRule translatorRule, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes) {
+        this(translatorRule, protocolType, storageTypes, 0, 0L);
+    }
+    
     /**
      * Rewrite SQL and parameters.
      *
@@ -64,15 +80,22 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        Map<RouteUnit, List<SQLRewriteUnit>> insertValuesChunks = new LinkedHashMap<>();
+        Optional<InsertValuesToken> chunkableInsertValuesToken = findChunkableInsertValuesToken(sqlRewriteContext, routeContext);
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
                 sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+            } else if (chunkableInsertValuesToken.isPresent()) {
+                addInsertValuesChunks(sqlRewriteUnits, insertValuesChunks, sqlRewriteContext, routeContext, routeUnits, chunkableInsertValuesToken.get());
             } else {
                 addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
             }
         }
-        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
+        SQLStatement sqlStatement = sqlRewriteContext.getSqlStatementContext().getSqlStatement();
+        return insertValuesChunks.isEmpty()
+                ? new RouteSQLRewriteResult(translate(sqlStatement, sqlRewriteUnits))
+                : new RouteSQLRewriteResult(translate(sqlStatement, sqlRewriteUnits), translateInsertValuesChunks(sqlStatement, insertValuesChunks));
     }
     
     private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
@@ -97,6 +120,105 @@ public final class RouteSQLRewriteEngine {
         }
     }
     
+    private Optional<InsertValuesToken> findChunkableInsertValuesToken(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        if ((insertValuesChunkRows <= 0 && insertValuesChunkBytes <= 0) || !(sqlRewriteContext.getParameterBuilder() instanceof GroupedParameterBuilder)) {
+            return Optional.empty();
+        }
+        int insertValueCount = ((GroupedParameterBuilder) sqlRewriteContext.getParameterBuilder()).getParameterBuilders().size();
+        if (!routeContext.getOriginalDataNodes().isEmpty() && routeContext.getOriginalDataNodes().size() != insertValueCount) {
+            return Optional.empty();
+        }
+        for (SQLToken each : sqlRewriteContext.getSqlTokens()) {
+            if (each instanceof InsertValuesToken) {
+                InsertValuesToken result = (InsertValuesToken) each;
+                return insertValueCount == result.getInsertValues().size() && !containsDollarParameterMarker(result) ? Optional.of(result) : Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean containsDollarParameterMarker(final InsertValuesToken insertValuesToken) {
+        for (InsertValue each : insertValuesToken.getInsertValues()) {
+            for (ExpressionSegment eachValue : each.getValues()) {
+                if (eachValue instanceof ParameterMarkerExpressionSegment && ParameterMarkerType.DOLLAR == ((ParameterMarkerExpressionSegment) eachValue).getParameterMarkerType()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private void addInsertValuesChunks(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final Map<RouteUnit, List<SQLRewriteUnit>> insertValuesChunks, final SQLRewriteContext sqlRewriteContext,
+                                       final RouteContext routeContext, final Collection<RouteUnit> routeUnits, final InsertValuesToken insertValuesToken) {
+        GroupedParameterBuilder paramBuilder = (GroupedParameterBuilder) sqlRewriteContext.getParameterBuilder();
+        List<InsertValue> insertValues = new ArrayList<>(insertValuesToken.getInsertValues());
+        List<Collection<DataNode>> originalDataNodes = new ArrayList<>(routeContext.getOriginalDataNodes());
+        for (RouteUnit each : routeUnits) {
+            List<List<Integer>> chunks = splitInsertValues(paramBuilder, insertValues, originalDataNodes, each);
+            if (chunks.size() <= 1) {
+                sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(paramBuilder, routeContext, each)));
+                continue;
+            }
+            List<SQLRewriteUnit> chunkUnits = new ArrayList<>(chunks.size());
+            for (List<Integer> eachChunk : chunks) {
+                chunkUnits.add(new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each, eachChunk).toSQL(), getInsertValuesChunkParameters(paramBuilder, eachChunk)));
+            }
+            sqlRewriteUnits.put(each, chunkUnits.get(0));
+            insertValuesChunks.put(each, chunkUnits);
+        }
+    }
+    
+    private List<List<Integer>> splitInsertValues(final GroupedParameterBuilder paramBuilder, final List<InsertValue> insertValues,
+                                                  final List<Collection<DataNode>> originalDataNodes, final RouteUnit routeUnit) {
+        List<List<Integer>> result = new LinkedList<>();
+        List<Integer> chunk = new ArrayList<>();
+        long chunkBytes = 0L;
+        for (int i = 0; i < insertValues.size(); i++) {
+            if (!originalDataNodes.isEmpty() && !isInSameDataNode(originalDataNodes.get(i), routeUnit)) {
+                continue;
+            }
+            long rowBytes = estimateInsertValueBytes(insertValues.get(i), paramBuilder.getParameters(i));
+            if (!chunk.isEmpty() && isInsertValuesChunkFull(chunk.size(), chunkBytes + rowBytes)) {
+                result.add(chunk);
+                chunk = new ArrayList<>();
+                chunkBytes = 0L;
+            }
+            chunk.add(i);
+            chunkBytes += rowBytes;
+        }
+        if (!chunk.isEmpty()) {
+            result.add(chunk);
+        }
+        return result;
+    }
+    
+    private boolean isInsertValuesChunkFull(final int chunkRows, final long chunkBytesWithNextRow) {
+        return (insertValuesChunkRows > 0 && chunkRows >= insertValuesChunkRows) || (insertValuesChunkBytes > 0 && chunkBytesWithNextRow > insertValuesChunkBytes);
+    }
+    
+    private long estimateInsertValueBytes(final InsertValue insertValue, final List<Object> params) {
+        long result = insertValue.toString().length();
+        for (Object each : params) {
+            if (each instanceof CharSequence) {
+                result += ((CharSequence) each).length();
+            } else if (each instanceof byte[]) {
+                result += ((byte[]) each).length;
+            } else {
+                result += 8L;
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> getInsertValuesChunkParameters(final GroupedParameterBuilder paramBuilder, final List<Integer> chunk) {
+        List<Object> result = new LinkedList<>();
+        for (int each : chunk) {
+            result.addAll(paramBuilder.getParameters(each));
+        }
+        result.addAll(paramBuilder.getGenericParameterBuilder().getParameters());
+        return result;
+    }
+    
     private boolean isNeedAggregateRewrite(final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits) {
         if (!(sqlStatementContext instanceof SelectStatementContext) || routeUnits.size() == 1) {
             return false;
@@ -156,10 +278,25 @@ public final class RouteSQLRewriteEngine {
     private Map<RouteUnit, SQLRewriteUnit> translate(final SQLStatement sqlStatement, final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(sqlRewriteUnits.size(), 1);
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
-            DatabaseType storageType = storageTypes.get(entry.getKey().getDataSourceMapper().getActualName());
-            String sql = translatorRule.translate(entry.getValue().getSql(), sqlStatement, protocolType, storageType);
-            SQLRewriteUnit sqlRewriteUnit = new SQLRewriteUnit(sql, entry.getValue().getParameters());
-            result.put(entry.getKey(), sqlRewriteUnit);
+            result.put(entry.getKey(), translate(sqlStatement, entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+    
+    private SQLRewriteUnit translate(final SQLStatement sqlStatement, final RouteUnit routeUnit, final SQLRewriteUnit sqlRewriteUnit) {
+        DatabaseType storageType = storageTypes.get(routeUnit.getDataSourceMapper().getActualName());
+        String sql = translatorRule.translate(sqlRewriteUnit.getSql(), sqlStatement, protocolType, storageType);
+        return new SQLRewriteUnit(sql, sqlRewriteUnit.getParameters());
+    }
+    
+    private Map<RouteUnit, List<SQLRewriteUnit>> translateInsertValuesChunks(final SQLStatement sqlStatement, final Map<RouteUnit, List<SQLRewriteUnit>> insertValuesChunks) {
+        Map<RouteUnit, List<SQLRewriteUnit>> result = new LinkedHashMap<>(insertValuesChunks.size(), 1);
+        for (Entry<RouteUnit, List<SQLRewriteUnit>> entry : insertValuesChunks.entrySet()) {
+            List<SQLRewriteUnit> chunks = new ArrayList<>(entry.getValue().size());
+            for (SQLRewriteUnit each : entry.getValue()) {
+                chunks.add(translate(sqlStatement, entry.getKey(), each));
+            }
+            result.put(entry.getKey(), chunks);
         }
         return result;
     }
@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -31,4 +33,10 @@ import java.util.Map;
 public final class RouteSQLRewriteResult implements SQLRewriteResult {
     
     private final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits;
+    
+    private final Map<RouteUnit, List<SQLRewriteUnit>> insertValuesChunks;
+    
+    public RouteSQLRewriteResult(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
+        this(sqlRewriteUnits, Collections.emptyMap());
+    }
 }
@@ -20,8 +20,15 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
 /**
  * SQL builder with route.
  */
@@ -29,16 +36,35 @@ public final class RouteSQLBuilder extends AbstractSQLBuilder {
     
     private final RouteUnit routeUnit;
     
+    private final Collection<Integer> insertValueIndexes;
+    
     public RouteSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
+        this(context, routeUnit, null);
+    }
+    
+    public RouteSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit, final Collection<Integer> insertValueIndexes) {
         super(context, routeUnit);
         this.routeUnit = routeUnit;
+        this.insertValueIndexes = insertValueIndexes;
     }
     
     @Override
     protected String getSQLTokenText(final SQLToken sqlToken) {
+        if (null != insertValueIndexes && sqlToken instanceof InsertValuesToken) {
+            return getInsertValuesText((InsertValuesToken) sqlToken);
+        }
         if (sqlToken instanceof RouteUnitAware) {
             return ((RouteUnitAware) sqlToken).toString(routeUnit);
         }
         return sqlToken.toString();
     }
+    
+    private String getInsertValuesText(final InsertValuesToken insertValuesToken) {
+        List<InsertValue> insertValues = new ArrayList<>(insertValuesToken.getInsertValues());
+        StringJoiner result = new StringJoiner(", ");
+        for (int each : insertValueIndexes) {
+            result.add(insertValues.get(each).toString());
+        }
+        return result.toString();
+    }
 }
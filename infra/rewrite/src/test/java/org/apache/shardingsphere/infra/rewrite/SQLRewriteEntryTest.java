@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -81,6 +83,24 @@ public final class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    public void assertRewriteWithCachedSQLRewriteTemplate() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "H2"), mockResource(),
+                mock(ShardingSphereRuleMetaData.class), Collections.singletonMap("test", mock(ShardingSphereSchema.class)));
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(
+                database, new ShardingSphereRuleMetaData(Collections.singleton(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()))), new ConfigurationProperties(new Properties()));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        RouteSQLRewriteResult firstResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1), sqlStatementContext,
+                routeContext, mock(ConnectionContext.class));
+        RouteSQLRewriteResult secondResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(2), sqlStatementContext,
+                routeContext, mock(ConnectionContext.class));
+        SQLRewriteUnit actual = secondResult.getSqlRewriteUnits().values().iterator().next();
+        assertThat(actual.getSql(), is(firstResult.getSqlRewriteUnits().values().iterator().next().getSql()));
+        assertThat(actual.getParameters(), is(Collections.singletonList(2)));
+    }
+    
     private ShardingSphereResourceMetaData mockResource() {
         ShardingSphereResourceMetaData result = mock(ShardingSphereResourceMetaData.class);
         Map<String, DatabaseType> databaseTypes = new LinkedHashMap<>(2, 1);
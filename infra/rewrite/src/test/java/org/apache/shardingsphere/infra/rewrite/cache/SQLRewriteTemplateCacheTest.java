@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLRewriteTemplateCacheTest {
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    @Test
+    public void assertGetWithSameRouteUnit() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        SQLTranslatorRule translatorRule = mock(SQLTranslatorRule.class);
+        SQLRewriteTemplateCache cache = SQLRewriteTemplateCache.getInstance();
+        cache.put(cache.createKey("same_route_db", "SELECT * FROM t_order WHERE order_id = ?", false, routeUnit),
+                new SQLRewriteTemplate(database, translatorRule, "SELECT * FROM t_order_0 WHERE order_id = ?"));
+        RouteUnit sameRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+        Optional<SQLRewriteTemplate> actual = cache.get(cache.createKey("SAME_ROUTE_DB", "SELECT * FROM t_order WHERE order_id = ?", false, sameRouteUnit), database, translatorRule);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order_0 WHERE order_id = ?"));
+    }
+    
+    @Test
+    public void assertGetWithDifferentRouteUnit() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        SQLTranslatorRule translatorRule = mock(SQLTranslatorRule.class);
+        SQLRewriteTemplateCache cache = SQLRewriteTemplateCache.getInstance();
+        cache.put(cache.createKey("different_route_db", "SELECT * FROM t_order WHERE order_id = ?", false, routeUnit),
+                new SQLRewriteTemplate(database, translatorRule, "SELECT * FROM t_order_0 WHERE order_id = ?"));
+        RouteUnit otherRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+        assertFalse(cache.get(cache.createKey("different_route_db", "SELECT * FROM t_order WHERE order_id = ?", false, otherRouteUnit), database, translatorRule).isPresent());
+        assertFalse(cache.get(cache.createKey("different_route_db", "SELECT * FROM t_order WHERE order_id = ?", true, routeUnit), database, translatorRule).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithRebuiltDatabase() {
+        SQLTranslatorRule translatorRule = mock(SQLTranslatorRule.class);
+        SQLRewriteTemplateCache cache = SQLRewriteTemplateCache.getInstance();
+        SQLRewriteTemplateCacheKey key = cache.createKey("rebuilt_db", "SELECT * FROM t_order WHERE order_id = ?", false, routeUnit);
+        cache.put(key, new SQLRewriteTemplate(mock(ShardingSphereDatabase.class), translatorRule, "SELECT * FROM t_order_0 WHERE order_id = ?"));
+        assertFalse(cache.get(key, mock(ShardingSphereDatabase.class), translatorRule).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        SQLTranslatorRule translatorRule = mock(SQLTranslatorRule.class);
+        SQLRewriteTemplateCache cache = SQLRewriteTemplateCache.getInstance();
+        SQLRewriteTemplateCacheKey key = cache.createKey("invalidated_db", "SELECT * FROM t_order WHERE order_id = ?", false, routeUnit);
+        cache.put(key, new SQLRewriteTemplate(database, translatorRule, "SELECT * FROM t_order_0 WHERE order_id = ?"));
+        cache.invalidate("INVALIDATED_DB");
+        assertFalse(cache.get(key, database, translatorRule).isPresent());
+        assertFalse(cache.get(cache.createKey("invalidated_db", "SELECT * FROM t_order WHERE order_id = ?", false, routeUnit), database, translatorRule).isPresent());
+    }
+}
@@ -28,15 +28,20 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sqltranslator.api.config.SQLTranslatorRuleConfiguration;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -159,4 +164,34 @@ public final class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertTrue(actual.getSqlRewriteUnits().get(routeUnit).getParameters().isEmpty());
     }
+    
+    @Test
+    public void assertRewriteWithInsertValuesChunks() {
+        InsertStatementContext statementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(((TableAvailable) statementContext).getTablesContext().getDatabaseName().isPresent()).thenReturn(false);
+        when(statementContext.getInsertSelectContext()).thenReturn(null);
+        when(statementContext.getGroupedParameters()).thenReturn(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2), Collections.singletonList(3)));
+        String sql = "INSERT INTO tbl VALUES (?), (?), (?)";
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME,
+                Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext, sql, Arrays.asList(1, 2, 3), mock(ConnectionContext.class));
+        InsertValuesToken insertValuesToken = new InsertValuesToken(23, sql.length() - 1) {
+        };
+        for (int i = 0; i < 3; i++) {
+            insertValuesToken.getInsertValues().add(new InsertValue(Collections.singletonList(new ParameterMarkerExpressionSegment(0, 0, i))));
+        }
+        sqlRewriteContext.getSqlTokens().add(insertValuesToken);
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        DatabaseType databaseType = mock(DatabaseType.class);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), 2, 0L)
+                .rewrite(sqlRewriteContext, routeContext);
+        List<SQLRewriteUnit> chunks = actual.getInsertValuesChunks().get(routeUnit);
+        assertThat(chunks.size(), is(2));
+        assertThat(chunks.get(0).getSql(), is("INSERT INTO tbl VALUES (?), (?)"));
+        assertThat(chunks.get(0).getParameters(), is(Arrays.asList(1, 2)));
+        assertThat(chunks.get(1).getSql(), is("INSERT INTO tbl VALUES (?)"));
+        assertThat(chunks.get(1).getParameters(), is(Collections.singletonList(3)));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?), (?)"));
+    }
 }
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -47,6 +48,10 @@ public final class BatchExecutionUnit {
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final List<Integer> actualAndJdbcAddBatchCallTimes = new ArrayList<>();
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
@@ -54,6 +59,22 @@ public final class BatchExecutionUnit {
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        actualAndJdbcAddBatchCallTimes.add(jdbcAddBatchTimes);
+    }
+    
+    /**
+     * Accumulate update counts of actual call addBatch into update counts of JDBC API call addBatch.
+     * 
+     * <p>Several actual calls may belong to one JDBC API call, e.g. equal-size insert values chunks which share the same SQL.</p>
+     *
+     * @param actualUpdateCounts update counts of actual call addBatch
+     * @param jdbcUpdateCounts update counts of JDBC API call addBatch to accumulate into
+     */
+    public void accumulateUpdateCounts(final int[] actualUpdateCounts, final int[] jdbcUpdateCounts) {
+        int count = Math.min(actualUpdateCounts.length, actualAndJdbcAddBatchCallTimes.size());
+        for (int i = 0; i < count; i++) {
+            jdbcUpdateCounts[actualAndJdbcAddBatchCallTimes.get(i)] += actualUpdateCounts[i];
+        }
     }
     
     /**
@@ -66,7 +87,8 @@ public final class BatchExecutionUnit {
         if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
             result.add(Collections.emptyList());
         } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+            List<Object> params = new ArrayList<>(executionUnit.getSqlUnit().getParameters());
+            result.addAll(Lists.partition(params, params.size() / actualCallAddBatchTimes));
         }
         return result;
     }
@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -36,13 +37,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -56,8 +56,7 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<BatchExecutionUnitKey, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -68,7 +67,7 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(databaseName));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -86,44 +85,27 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+            BatchExecutionUnitKey key = new BatchExecutionUnitKey(each.getDataSourceName(), each.getSqlUnit().getSql());
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(key);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(key, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
             }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
+        batchCount++;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units in order of first added
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -153,7 +135,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return isNeedAccumulate(sqlStatementContext) ? accumulate(results, null) : accumulate(results, getFirstDataSourceName());
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
@@ -165,33 +147,34 @@ public final class BatchPreparedStatementExecutor {
         return false;
     }
     
-    private int[] accumulate(final List<int[]> results) {
+    private String getFirstDataSourceName() {
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                return eachUnit.getExecutionUnit().getDataSourceName();
+            }
+        }
+        return null;
+    }
+    
+    private int[] accumulate(final List<int[]> results, final String dataSourceName) {
         int[] result = new int[batchCount];
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
+                int[] actualUpdateCounts = results.get(count++);
+                if (null == actualUpdateCounts || null != dataSourceName && !dataSourceName.equals(eachUnit.getExecutionUnit().getDataSourceName())) {
+                    continue;
                 }
-                for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(new BatchExecutionUnitKey(eachUnit.getExecutionUnit().getDataSourceName(),
+                        eachUnit.getExecutionUnit().getSqlUnit().getSql()));
+                if (null != batchExecutionUnit) {
+                    batchExecutionUnit.accumulateUpdateCounts(actualUpdateCounts, result);
                 }
-                count++;
             }
         }
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
-    }
-    
     /**
      * Get statements.
      *
@@ -234,12 +217,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit result = batchExecutionUnits.get(new BatchExecutionUnitKey(executionUnit.getExecutionUnit().getDataSourceName(), executionUnit.getExecutionUnit().getSqlUnit().getSql()));
+        if (null == result) {
+            throw new IllegalStateException();
         }
-        throw new IllegalStateException();
+        return result.getParameterSets();
     }
     
     /**
@@ -251,4 +233,13 @@ public final class BatchPreparedStatementExecutor {
         batchCount = 0;
         batchExecutionUnits.clear();
     }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class BatchExecutionUnitKey {
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+    }
 }
@@ -80,6 +80,11 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.next();
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return mergeResultSet.wasNull();
@@ -439,8 +439,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         ConnectionTransaction connectionTransaction = connection.getConnectionManager().getConnectionTransaction();
         boolean isInTransaction = connection.getConnectionManager().getConnectionContext().getTransactionConnectionContext().isInTransaction();
         SQLStatement sqlStatement = executionContext.getSqlStatementContext().getSqlStatement();
-        return TransactionType.isDistributedTransaction(connectionTransaction.getTransactionType()) && !isInTransaction && sqlStatement instanceof DMLStatement
-                && !(sqlStatement instanceof SelectStatement) && executionContext.getExecutionUnits().size() > 1;
+        return (TransactionType.isDistributedTransaction(connectionTransaction.getTransactionType()) || executionContext.isInsertValuesChunked()) && !isInTransaction
+                && sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement) && executionContext.getExecutionUnits().size() > 1;
     }
     
     private boolean executeWithImplicitCommitTransaction() throws SQLException {
@@ -541,8 +541,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         ConnectionTransaction connectionTransaction = connection.getConnectionManager().getConnectionTransaction();
         boolean isInTransaction = connection.getConnectionManager().getConnectionContext().getTransactionConnectionContext().isInTransaction();
         SQLStatement sqlStatement = executionContext.getSqlStatementContext().getSqlStatement();
-        return TransactionType.isDistributedTransaction(connectionTransaction.getTransactionType()) && !isInTransaction && sqlStatement instanceof DMLStatement
-                && !(sqlStatement instanceof SelectStatement) && executionContext.getExecutionUnits().size() > 1;
+        return (TransactionType.isDistributedTransaction(connectionTransaction.getTransactionType()) || executionContext.isInsertValuesChunked()) && !isInTransaction
+                && sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement) && executionContext.getExecutionUnits().size() > 1;
     }
     
     private boolean executeWithImplicitCommitTransaction(final ExecuteCallback callback) throws SQLException {
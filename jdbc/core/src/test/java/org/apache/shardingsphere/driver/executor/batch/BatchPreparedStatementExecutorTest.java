@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.driver.jdbc.context.JDBCContext;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
@@ -49,7 +48,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -57,6 +55,7 @@ import org.mockito.quality.Strictness;
 import javax.sql.DataSource;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -171,6 +170,18 @@ public final class BatchPreparedStatementExecutorTest {
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchForInsertValuesChunksWithSameSQL() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{2, 2, 3});
+        executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_0", 2)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 3)));
+        Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(
+                new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Arrays.asList(1, 2, 3))), ConnectionMode.MEMORY_STRICTLY, preparedStatement))));
+        executor.init(new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("logic_db")));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{4, 3}));
+    }
+    
     @Test
     public void assertExecuteBatchForSinglePreparedStatementFailure() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -197,26 +208,34 @@ public final class BatchPreparedStatementExecutorTest {
         return result;
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 1)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_1", 2)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 3)));
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        assertThat(actual.get(1).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(actual.get(1).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final Object param) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(param))));
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
         for (PreparedStatement each : preparedStatements) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
-            batchExecutionUnit.mapAddBatchCount(0);
-            batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
-        setFields(executionGroups, batchExecutionUnits);
-    }
-    
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
-        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
-                new ExecutionGroupReportContext("logic_db")));
-        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, batchExecutionUnits);
-        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, 2);
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 1)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 1)));
+        executor.init(new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("logic_db")));
     }
 }
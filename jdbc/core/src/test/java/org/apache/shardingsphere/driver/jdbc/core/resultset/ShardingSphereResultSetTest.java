@@ -59,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingSphereResultSetTest {
@@ -108,6 +109,13 @@ public final class ShardingSphereResultSetTest {
         assertTrue(shardingSphereResultSet.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        assertTrue(shardingSphereResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingSphereResultSet.wasNull());
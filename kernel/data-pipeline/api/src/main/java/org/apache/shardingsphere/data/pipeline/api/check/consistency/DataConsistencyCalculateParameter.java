@@ -63,4 +63,10 @@ public final class DataConsistencyCalculateParameter {
     private volatile AutoCloseable calculationContext;
     
     private final Object tableCheckPosition;
+    
+    /**
+     * Inclusive upper bound of unique key, null means there's no upper bound.
+     * It's used with table check position, which is exclusive lower bound of unique key.
+     */
+    private volatile Object uniqueKeyUpperBound;
 }
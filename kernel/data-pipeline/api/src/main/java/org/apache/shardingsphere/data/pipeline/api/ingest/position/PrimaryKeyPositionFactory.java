@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.api.ingest.position;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
 
 import java.util.List;
 
@@ -44,7 +45,7 @@ public final class PrimaryKeyPositionFactory {
             case 'i':
                 return new IntegerPrimaryKeyPosition(Long.parseLong(beginValue), Long.parseLong(endValue));
             case 's':
-                return new StringPrimaryKeyPosition(beginValue, endValue);
+                return new StringPrimaryKeyPosition(beginValue, Strings.emptyToNull(endValue));
             case 'n':
                 return new NoUniqueKeyPosition();
             case 'u':
@@ -40,10 +40,16 @@ public final class Column {
     
     private final boolean uniqueKey;
     
+    private final boolean primaryKey;
+    
     public Column(final String name, final Object value, final boolean updated, final boolean uniqueKey) {
         this(name, null, value, updated, uniqueKey);
     }
     
+    public Column(final String name, final Object oldValue, final Object value, final boolean updated, final boolean uniqueKey) {
+        this(name, oldValue, value, updated, uniqueKey, false);
+    }
+    
     @Override
     public String toString() {
         return String.format("%s=%s", name, value);
@@ -25,8 +25,10 @@ import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Data record.
@@ -43,6 +45,10 @@ public final class DataRecord extends Record {
     
     private final List<Object> oldUniqueKeyValues = new ArrayList<>();
     
+    private final List<Object> primaryKeyValues = new ArrayList<>();
+    
+    private final List<Object> oldPrimaryKeyValues = new ArrayList<>();
+    
     private String type;
     
     private String tableName;
@@ -65,6 +71,10 @@ public final class DataRecord extends Record {
             uniqueKeyValue.add(data.getValue());
             oldUniqueKeyValues.add(data.getOldValue());
         }
+        if (data.isPrimaryKey()) {
+            primaryKeyValues.add(data.getValue());
+            oldPrimaryKeyValues.add(data.getOldValue());
+        }
     }
     
     /**
@@ -104,12 +114,48 @@ public final class DataRecord extends Record {
         return new Key(tableName, oldUniqueKeyValues);
     }
     
-    @EqualsAndHashCode
+    /**
+     * Get partition key.
+     *
+     * <p>Primary key is used if present, since unique key columns of insert, update and delete records may differ.</p>
+     *
+     * @return partition key
+     */
+    public Key getPartitionKey() {
+        return new Key(tableName, primaryKeyValues.isEmpty() ? uniqueKeyValue : primaryKeyValues);
+    }
+    
+    /**
+     * Get old partition key.
+     *
+     * @return old partition key
+     */
+    public Key getOldPartitionKey() {
+        return new Key(tableName, primaryKeyValues.isEmpty() ? oldUniqueKeyValues : oldPrimaryKeyValues);
+    }
+    
     @RequiredArgsConstructor
     public static class Key {
         
         private final String tableName;
         
         private final List<Object> uniqueKeyValues;
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (null == o || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return Objects.equals(tableName, that.tableName) && Arrays.deepEquals(uniqueKeyValues.toArray(), that.uniqueKeyValues.toArray());
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(tableName) + Arrays.deepHashCode(uniqueKeyValues.toArray());
+        }
     }
 }
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
 
 /**
  * Data consistency calculate algorithm.
@@ -37,6 +40,48 @@ public interface DataConsistencyCalculateAlgorithm extends TypedSPI {
      */
     Iterable<DataConsistencyCalculatedResult> calculate(DataConsistencyCalculateParameter param);
     
+    /**
+     * Judge whether table could be calculated by unique key ranges.
+     *
+     * <p>Range is calculated by {@link #calculate(DataConsistencyCalculateParameter)} with table check position as exclusive lower bound and unique key upper bound as inclusive upper bound,
+     * and it's calculated into one result.</p>
+     *
+     * @return supported or not
+     */
+    default boolean isRangeCalculationSupported() {
+        return false;
+    }
+    
+    /**
+     * Get upper bounds of unique key ranges, they are produced lazily while iterating.
+     *
+     * <p>Every upper bound is inclusive, and the last one is null which means the last range has no upper bound.</p>
+     *
+     * @param param data consistency calculate parameter, table check position is exclusive lower bound of the first range
+     * @return upper bounds of unique key ranges
+     */
+    default Iterator<Object> getRangeUpperBounds(final DataConsistencyCalculateParameter param) {
+        return Collections.singletonList(null).iterator();
+    }
+    
+    /**
+     * Get max count of ranges which are calculated at the same time.
+     *
+     * @return concurrency
+     */
+    default int getConcurrency() {
+        return 1;
+    }
+    
+    /**
+     * Get algorithm to recheck records of range whose calculated results are mismatched.
+     *
+     * @return recheck algorithm, range is mismatched without recheck if it's absent
+     */
+    default Optional<DataConsistencyCalculateAlgorithm> getRangeRecheckAlgorithm() {
+        return Optional.empty();
+    }
+    
     /**
      * Cancel calculation.
      *
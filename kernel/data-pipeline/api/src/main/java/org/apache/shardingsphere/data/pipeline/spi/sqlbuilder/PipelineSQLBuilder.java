@@ -60,6 +60,16 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildDivisibleInventoryDumpSQLNoEnd(String schemaName, String tableName, String uniqueKey);
     
+    /**
+     * Build divisible inventory dump SQL with exclusive end value.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return divisible inventory dump SQL with exclusive end value
+     */
+    String buildDivisibleInventoryDumpSQLExclusiveEnd(String schemaName, String tableName, String uniqueKey);
+    
     /**
      * Build indivisible inventory dump first SQL.
      *
@@ -88,6 +98,16 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildInsertSQL(String schemaName, DataRecord dataRecord);
     
+    /**
+     * Build insert SQL with multiple rows of values.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return insert SQL
+     */
+    String buildInsertSQL(String schemaName, DataRecord dataRecord, int rowCount);
+    
     /**
      * Build update SQL.
      *
@@ -155,6 +175,19 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildQueryAllOrderingSQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
     
+    /**
+     * Build query range ordering SQL, records whose unique key is not greater than upper bound are queried.
+     *
+     * <p>Parameters are exclusive lower bound if it's not first query, and inclusive upper bound.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @param firstQuery first query, there's no lower bound of unique key for first query
+     * @return query SQL
+     */
+    String buildQueryRangeOrderingSQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
+    
     /**
      * Build check empty SQL.
      *
@@ -165,24 +198,71 @@ public interface PipelineSQLBuilder extends TypedSPI {
     String buildCheckEmptySQL(String schemaName, String tableName);
     
     /**
-     * Build split by primary key range SQL.
+     * Build unique key minimum and maximum values SQL.
      *
      * @param schemaName schema name
      * @param tableName table name
      * @param uniqueKey unique key
-     * @return split SQL
+     * @return min max values SQL
      */
-    String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String uniqueKey);
+    String buildUniqueKeyMinMaxValuesSQL(String schemaName, String tableName, String uniqueKey);
     
     /**
-     * Build CRC32 SQL.
+     * Build unique key sample SQL, sampled unique key values are returned in ascending order.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param samplePercent sample percent, range is (0, 100]
+     * @return sample SQL
+     */
+    default Optional<String> buildUniqueKeySampleSQL(final String schemaName, final String tableName, final String uniqueKey, final double samplePercent) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build unique key boundary SQL, which returns unique key value at offset of rows whose unique key is greater than or equal to begin value.
+     *
+     * <p>Parameters are begin value and offset.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return boundary SQL
+     */
+    default Optional<String> buildUniqueKeyBoundarySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build unique key range rows estimate SQL, which returns estimated rows count of unique key range in column {@code rows} of first row.
+     *
+     * <p>Parameters are inclusive lower bound and inclusive upper bound. Rows should be estimated by statistics or index dive of database, rather than counted.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return range rows estimate SQL
+     */
+    default Optional<String> buildUniqueKeyRangeRowsEstimateSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build CRC32 SQL, which calculates combined CRC32 of all columns and records count of unique key range.
+     *
+     * <p>Parameters are exclusive lower bound if there's lower bound, and inclusive upper bound if there's upper bound.</p>
      *
      * @param schemaName schema name
      * @param tableName table Name
-     * @param column column
+     * @param columnNames column names
+     * @param uniqueKey unique key, whole table is calculated at one time if it's null
+     * @param hasLowerBound whether there's lower bound of unique key
+     * @param hasUpperBound whether there's upper bound of unique key
      * @return CRC32 SQL
      */
-    default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
+    default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey,
+                                           final boolean hasLowerBound, final boolean hasUpperBound) {
         return Optional.empty();
     }
 }
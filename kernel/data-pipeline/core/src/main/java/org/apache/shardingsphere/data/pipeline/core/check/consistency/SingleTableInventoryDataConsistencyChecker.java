@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
@@ -42,9 +43,12 @@ import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -85,7 +89,8 @@ public final class SingleTableInventoryDataConsistencyChecker {
      */
     public DataConsistencyCheckResult check(final DataConsistencyCalculateAlgorithm calculateAlgorithm) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("job-" + getJobIdDigest(jobId) + "-check-%d");
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+        int poolSize = 2 * (isRangeCheckable(calculateAlgorithm) ? calculateAlgorithm.getConcurrency() : 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(poolSize), threadFactory);
         try {
             return check(calculateAlgorithm, executor);
         } finally {
@@ -94,6 +99,10 @@ public final class SingleTableInventoryDataConsistencyChecker {
         }
     }
     
+    private boolean isRangeCheckable(final DataConsistencyCalculateAlgorithm calculateAlgorithm) {
+        return calculateAlgorithm.isRangeCalculationSupported() && null != uniqueKey;
+    }
+    
     private DataConsistencyCheckResult check(final DataConsistencyCalculateAlgorithm calculateAlgorithm, final ThreadPoolExecutor executor) {
         String sourceDatabaseType = sourceDataSource.getDatabaseType().getType();
         String targetDatabaseType = targetDataSource.getDatabaseType().getType();
@@ -108,6 +117,9 @@ public final class SingleTableInventoryDataConsistencyChecker {
         String targetTableName = targetTable.getTableName().getOriginal();
         DataConsistencyCalculateParameter targetParam = buildParameter(targetDataSource, targetTable.getSchemaName().getOriginal(), targetTableName,
                 columnNames, targetDatabaseType, sourceDatabaseType, uniqueKey, tableCheckPositions.get(targetTableName));
+        if (isRangeCheckable(calculateAlgorithm)) {
+            return checkByRanges(calculateAlgorithm, sourceParam, targetParam, executor);
+        }
         Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults = calculateAlgorithm.calculate(sourceParam).iterator();
         Iterator<DataConsistencyCalculatedResult> targetCalculatedResults = calculateAlgorithm.calculate(targetParam).iterator();
         try {
@@ -156,6 +168,99 @@ public final class SingleTableInventoryDataConsistencyChecker {
         return new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(sourceRecordsCount, targetRecordsCount), new DataConsistencyContentCheckResult(contentMatched));
     }
     
+    private DataConsistencyCheckResult checkByRanges(final DataConsistencyCalculateAlgorithm calculateAlgorithm, final DataConsistencyCalculateParameter sourceParam,
+                                                     final DataConsistencyCalculateParameter targetParam, final ThreadPoolExecutor executor) {
+        // Upper bounds are produced lazily, so submitted ranges are calculated while the next upper bound is being produced
+        Iterator<Object> upperBoundIterator = calculateAlgorithm.getRangeUpperBounds(sourceParam);
+        Object lowerBound = sourceParam.getTableCheckPosition();
+        Deque<RangeCalculation> pendingRanges = new LinkedList<>();
+        long sourceRecordsCount = 0;
+        long targetRecordsCount = 0;
+        boolean contentMatched = true;
+        try {
+            while (upperBoundIterator.hasNext() || !pendingRanges.isEmpty()) {
+                while (upperBoundIterator.hasNext() && pendingRanges.size() < calculateAlgorithm.getConcurrency()) {
+                    if (null != readRateLimitAlgorithm) {
+                        readRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+                    }
+                    Object upperBound = upperBoundIterator.next();
+                    pendingRanges.add(submitRange(calculateAlgorithm, sourceParam, targetParam, lowerBound, upperBound, executor));
+                    lowerBound = upperBound;
+                }
+                RangeCalculation range = pendingRanges.poll();
+                DataConsistencyCalculatedResult sourceCalculatedResult = waitFuture(range.getSourceFuture());
+                DataConsistencyCalculatedResult targetCalculatedResult = waitFuture(range.getTargetFuture());
+                sourceRecordsCount += sourceCalculatedResult.getRecordsCount();
+                targetRecordsCount += targetCalculatedResult.getRecordsCount();
+                if (!Objects.equals(sourceCalculatedResult, targetCalculatedResult)
+                        && !isRangeRecordsMatched(calculateAlgorithm, sourceParam, targetParam, range.getLowerBound(), range.getUpperBound())) {
+                    log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}, lowerBound={}, upperBound={}",
+                            jobId, sourceTable, targetTable, uniqueKey, range.getLowerBound(), range.getUpperBound());
+                    contentMatched = false;
+                    break;
+                }
+                // Ranges are handled in order, so check position is still correct for resuming
+                if (null != range.getUpperBound()) {
+                    progressContext.getTableCheckPositions().put(sourceTable.getTableName().getOriginal(), range.getUpperBound());
+                    progressContext.getTableCheckPositions().put(targetTable.getTableName().getOriginal(), range.getUpperBound());
+                }
+                progressContext.onProgressUpdated(new PipelineJobProgressUpdatedParameter(sourceCalculatedResult.getRecordsCount()));
+            }
+        } finally {
+            for (RangeCalculation each : pendingRanges) {
+                each.getSourceFuture().cancel(true);
+                each.getTargetFuture().cancel(true);
+            }
+        }
+        return new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(sourceRecordsCount, targetRecordsCount), new DataConsistencyContentCheckResult(contentMatched));
+    }
+    
+    private RangeCalculation submitRange(final DataConsistencyCalculateAlgorithm calculateAlgorithm, final DataConsistencyCalculateParameter sourceParam,
+                                         final DataConsistencyCalculateParameter targetParam, final Object lowerBound, final Object upperBound, final ThreadPoolExecutor executor) {
+        return new RangeCalculation(lowerBound, upperBound, executor.submit(() -> calculateRange(calculateAlgorithm, sourceParam, lowerBound, upperBound)),
+                executor.submit(() -> calculateRange(calculateAlgorithm, targetParam, lowerBound, upperBound)));
+    }
+    
+    private DataConsistencyCalculatedResult calculateRange(final DataConsistencyCalculateAlgorithm calculateAlgorithm, final DataConsistencyCalculateParameter param,
+                                                           final Object lowerBound, final Object upperBound) {
+        return calculateAlgorithm.calculate(createRangeParameter(param, lowerBound, upperBound)).iterator().next();
+    }
+    
+    private boolean isRangeRecordsMatched(final DataConsistencyCalculateAlgorithm calculateAlgorithm, final DataConsistencyCalculateParameter sourceParam,
+                                          final DataConsistencyCalculateParameter targetParam, final Object lowerBound, final Object upperBound) {
+        Optional<DataConsistencyCalculateAlgorithm> recheckAlgorithm = calculateAlgorithm.getRangeRecheckAlgorithm();
+        if (!recheckAlgorithm.isPresent()) {
+            return false;
+        }
+        log.info("recheck range records, jobId={}, sourceTable={}, lowerBound={}, upperBound={}", jobId, sourceTable, lowerBound, upperBound);
+        DataConsistencyCalculateParameter sourceRangeParam = createRangeParameter(sourceParam, lowerBound, upperBound);
+        DataConsistencyCalculateParameter targetRangeParam = createRangeParameter(targetParam, lowerBound, upperBound);
+        try {
+            Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults = recheckAlgorithm.get().calculate(sourceRangeParam).iterator();
+            Iterator<DataConsistencyCalculatedResult> targetCalculatedResults = recheckAlgorithm.get().calculate(targetRangeParam).iterator();
+            while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+                if (!Objects.equals(sourceCalculatedResults.next(), targetCalculatedResults.next())) {
+                    return false;
+                }
+            }
+            return !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
+        } finally {
+            if (null != sourceRangeParam.getCalculationContext()) {
+                CloseUtil.closeQuietly(sourceRangeParam.getCalculationContext());
+            }
+            if (null != targetRangeParam.getCalculationContext()) {
+                CloseUtil.closeQuietly(targetRangeParam.getCalculationContext());
+            }
+        }
+    }
+    
+    private DataConsistencyCalculateParameter createRangeParameter(final DataConsistencyCalculateParameter param, final Object lowerBound, final Object upperBound) {
+        DataConsistencyCalculateParameter result = buildParameter(param.getDataSource(), param.getSchemaName(), param.getLogicTableName(), param.getColumnNames(),
+                param.getDatabaseType(), param.getPeerDatabaseType(), param.getUniqueKey(), lowerBound);
+        result.setUniqueKeyUpperBound(upperBound);
+        return result;
+    }
+    
     // TODO use digest (crc32, murmurhash)
     private String getJobIdDigest(final String jobId) {
         return jobId.length() <= 6 ? jobId : jobId.substring(0, 6);
@@ -178,4 +283,17 @@ public final class SingleTableInventoryDataConsistencyChecker {
             throw new SQLWrapperException(new SQLException(ex));
         }
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RangeCalculation {
+        
+        private final Object lowerBound;
+        
+        private final Object upperBound;
+        
+        private final Future<DataConsistencyCalculatedResult> sourceFuture;
+        
+        private final Future<DataConsistencyCalculatedResult> targetFuture;
+    }
 }
@@ -19,12 +19,14 @@ package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedCRC32DataConsistencyCalculateAlgorithmException;
 import org.apache.shardingsphere.data.pipeline.core.util.DatabaseTypeUtil;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -35,44 +37,158 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CRC32 match data consistency calculate algorithm.
+ *
+ * <p>Table is split into unique key ranges by {@link #getRangeUpperBounds(DataConsistencyCalculateParameter)}, every range is calculated by one query.
+ * Ranges could be calculated concurrently, and mismatched range could be rechecked by {@link #getRangeRecheckAlgorithm()}.</p>
  */
 @SPIDescription("Match CRC32 of records.")
 @Slf4j
-public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractDataConsistencyCalculateAlgorithm {
+public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
     
     private static final Collection<String> SUPPORTED_DATABASE_TYPES = DatabaseTypeUtil.getTrunkAndBranchDatabaseTypes(Collections.singleton(new MySQLDatabaseType().getType()));
     
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_CONCURRENCY = 4;
+    
+    private final Collection<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+    
+    private final DataMatchDataConsistencyCalculateAlgorithm rangeRecheckAlgorithm = new DataMatchDataConsistencyCalculateAlgorithm();
+    
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    
+    /**
+     * Max count of ranges which are calculated at the same time, every range takes one connection of source side and one of target side.
+     */
+    @Getter
+    private int concurrency = DEFAULT_CONCURRENCY;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveIntProperty(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        concurrency = getPositiveIntProperty(props, CONCURRENCY_KEY, DEFAULT_CONCURRENCY);
+        rangeRecheckAlgorithm.init(new Properties());
+    }
+    
+    private int getPositiveIntProperty(final Properties props, final String key, final int defaultValue) {
+        int result = Integer.parseInt(props.getProperty(key, defaultValue + ""));
+        if (result <= 0) {
+            log.warn("Invalid {}={}, use default value", key, result);
+            return defaultValue;
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isRangeCalculationSupported() {
+        return true;
+    }
+    
     @Override
-    public Iterable<DataConsistencyCalculatedResult> calculate(final DataConsistencyCalculateParameter param) {
+    public Iterator<Object> getRangeUpperBounds(final DataConsistencyCalculateParameter param) {
+        if (null == param.getUniqueKey()) {
+            return Collections.singletonList(null).iterator();
+        }
         PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
-        List<CalculatedItem> calculatedItems = param.getColumnNames().stream().map(each -> calculateCRC32(sqlBuilder, param, each)).collect(Collectors.toList());
-        return Collections.singletonList(new CalculatedResult(calculatedItems.get(0).getRecordsCount(), calculatedItems.stream().map(CalculatedItem::getCrc32).collect(Collectors.toList())));
+        Optional<String> boundarySQL = sqlBuilder.buildUniqueKeyBoundarySQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName());
+        return boundarySQL.<Iterator<Object>>map(optional -> new ChunkUpperBoundIterator(param, sqlBuilder, optional)).orElseGet(() -> Collections.singletonList(null).iterator());
+    }
+    
+    @Override
+    public Optional<DataConsistencyCalculateAlgorithm> getRangeRecheckAlgorithm() {
+        return Optional.of(rangeRecheckAlgorithm);
+    }
+    
+    private Object getMinUniqueKeyValue(final Connection connection, final String sql) throws SQLException {
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? resultSet.getObject(1) : null;
+        }
     }
     
-    private CalculatedItem calculateCRC32(final PipelineSQLBuilder sqlBuilder, final DataConsistencyCalculateParameter param, final String columnName) {
-        Optional<String> sql = sqlBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), columnName);
+    @Override
+    protected Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param) {
+        CalculationContext calculationContext = getOrCreateCalculationContext(param);
+        if (calculationContext.isFinished()) {
+            return Optional.empty();
+        }
+        PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+        String uniqueKey = null == param.getUniqueKey() ? null : param.getUniqueKey().getName();
+        Object lowerBound = null == uniqueKey ? null : param.getTableCheckPosition();
+        Object upperBound = null == uniqueKey ? null : param.getUniqueKeyUpperBound();
+        Optional<String> sql = sqlBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), param.getColumnNames(), uniqueKey, null != lowerBound, null != upperBound);
         ShardingSpherePreconditions.checkState(sql.isPresent(), () -> new UnsupportedCRC32DataConsistencyCalculateAlgorithmException(param.getDatabaseType()));
         try (
                 Connection connection = param.getDataSource().getConnection();
-                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql.get()));
-                ResultSet resultSet = preparedStatement.executeQuery()) {
-            resultSet.next();
-            long crc32 = resultSet.getLong(1);
-            int recordsCount = resultSet.getInt(2);
-            return new CalculatedItem(crc32, recordsCount);
+                PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
+            runningStatements.add(preparedStatement);
+            try {
+                setParameters(preparedStatement, lowerBound, upperBound);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    resultSet.next();
+                    calculationContext.setFinished(true);
+                    return Optional.of(new CalculatedResult(resultSet.getLong(1), resultSet.getInt(2), upperBound));
+                }
+            } finally {
+                runningStatements.remove(preparedStatement);
+            }
         } catch (final SQLException ex) {
             throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
         }
     }
     
+    private CalculationContext getOrCreateCalculationContext(final DataConsistencyCalculateParameter param) {
+        CalculationContext result = (CalculationContext) param.getCalculationContext();
+        if (null == result) {
+            result = new CalculationContext();
+            param.setCalculationContext(result);
+        }
+        return result;
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final Object lowerBound, final Object upperBound) throws SQLException {
+        int parameterIndex = 1;
+        if (null != lowerBound) {
+            preparedStatement.setObject(parameterIndex++, lowerBound);
+        }
+        if (null != upperBound) {
+            preparedStatement.setObject(parameterIndex, upperBound);
+        }
+    }
+    
+    @Override
+    public void cancel() throws SQLException {
+        super.cancel();
+        rangeRecheckAlgorithm.cancel();
+        for (Statement each : runningStatements) {
+            try {
+                each.cancel();
+            } catch (final SQLFeatureNotSupportedException ex) {
+                log.info("cancel is not supported: {}", ex.getMessage());
+            } catch (final SQLException ex) {
+                log.info("cancel failed: {}", ex.getMessage());
+            }
+        }
+    }
+    
     @Override
     public String getType() {
         return "CRC32_MATCH";
@@ -84,21 +200,98 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
     }
     
     @RequiredArgsConstructor
+    private final class ChunkUpperBoundIterator implements Iterator<Object> {
+        
+        private final DataConsistencyCalculateParameter param;
+        
+        private final PipelineSQLBuilder sqlBuilder;
+        
+        private final String boundarySQL;
+        
+        private Object begin;
+        
+        private boolean started;
+        
+        private boolean finished;
+        
+        @Override
+        public boolean hasNext() {
+            return !finished;
+        }
+        
+        @Override
+        public Object next() {
+            if (finished) {
+                throw new NoSuchElementException();
+            }
+            // Chunk boundary is dived only when it's required, so earlier chunks could be calculated while later boundaries are being dived
+            try (Connection connection = param.getDataSource().getConnection()) {
+                long offset = chunkSize;
+                if (!started) {
+                    started = true;
+                    begin = param.getTableCheckPosition();
+                    if (null == begin) {
+                        begin = getMinUniqueKeyValue(connection, sqlBuilder.buildUniqueKeyMinMaxValuesSQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName()));
+                        offset = chunkSize - 1;
+                    }
+                }
+                begin = null == begin ? null : diveBoundary(connection, offset);
+            } catch (final SQLException ex) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+            }
+            finished = null == begin;
+            return begin;
+        }
+        
+        private Object diveBoundary(final Connection connection, final long firstOffset) throws SQLException {
+            long offset = firstOffset;
+            try (PreparedStatement preparedStatement = connection.prepareStatement(boundarySQL)) {
+                runningStatements.add(preparedStatement);
+                try {
+                    while (!isCanceling()) {
+                        preparedStatement.setObject(1, begin);
+                        preparedStatement.setLong(2, offset);
+                        Object result;
+                        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                            if (!resultSet.next()) {
+                                return null;
+                            }
+                            result = resultSet.getObject(1);
+                        }
+                        // Unique key might be first column of composite primary key, offset is enlarged to step over duplicated values
+                        if (!Objects.equals(begin, result)) {
+                            return result;
+                        }
+                        offset = Math.max(offset * 2L, 1L);
+                    }
+                    return null;
+                } finally {
+                    runningStatements.remove(preparedStatement);
+                }
+            }
+        }
+    }
+    
     @Getter
-    private static final class CalculatedItem {
+    @Setter
+    private static final class CalculationContext implements AutoCloseable {
         
-        private final long crc32;
+        private volatile boolean finished;
         
-        private final int recordsCount;
+        @Override
+        public void close() {
+        }
     }
     
     @RequiredArgsConstructor
     @Getter
     private static final class CalculatedResult implements DataConsistencyCalculatedResult {
         
+        private final long crc32;
+        
         private final int recordsCount;
         
-        private final Collection<Long> columnsCrc32;
+        private final Object maxUniqueKeyValue;
         
         @Override
         public boolean equals(final Object o) {
@@ -114,11 +307,11 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
             }
             final CalculatedResult that = (CalculatedResult) o;
             if (recordsCount != that.recordsCount) {
-                log.info("recordsCount not match, recordsCount={}, that.recordsCount={}", recordsCount, that.recordsCount);
+                log.info("recordsCount not match, recordsCount={}, that.recordsCount={}, maxUniqueKeyValue={}", recordsCount, that.recordsCount, maxUniqueKeyValue);
                 return false;
             }
-            if (!columnsCrc32.equals(that.columnsCrc32)) {
-                log.info("columnsCrc32 not match, columnsCrc32={}, that.columnsCrc32={}", columnsCrc32, that.columnsCrc32);
+            if (crc32 != that.crc32) {
+                log.info("crc32 not match, crc32={}, that.crc32={}, maxUniqueKeyValue={}", crc32, that.crc32, maxUniqueKeyValue);
                 return false;
             }
             return true;
@@ -127,14 +320,13 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithm extends AbstractD
         @Override
         public int hashCode() {
             int result = recordsCount;
-            result = 31 * result + columnsCrc32.hashCode();
+            result = 31 * result + Long.hashCode(crc32);
             return result;
         }
         
-        // TODO not support now
         @Override
         public Optional<Object> getMaxUniqueKeyValue() {
-            return Optional.empty();
+            return Optional.ofNullable(maxUniqueKeyValue);
         }
     }
 }
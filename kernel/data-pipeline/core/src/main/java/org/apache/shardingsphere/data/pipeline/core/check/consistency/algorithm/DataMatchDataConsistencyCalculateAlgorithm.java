@@ -165,9 +165,13 @@ public final class DataMatchDataConsistencyCalculateAlgorithm extends AbstractSt
             preparedStatement.setFetchSize(chunkSize);
         }
         calculationContext.setPreparedStatement(preparedStatement);
+        int parameterIndex = 1;
         Object tableCheckPosition = param.getTableCheckPosition();
         if (null != tableCheckPosition) {
-            preparedStatement.setObject(1, tableCheckPosition);
+            preparedStatement.setObject(parameterIndex++, tableCheckPosition);
+        }
+        if (null != param.getUniqueKeyUpperBound()) {
+            preparedStatement.setObject(parameterIndex, param.getUniqueKeyUpperBound());
         }
         ResultSet resultSet = preparedStatement.executeQuery();
         calculationContext.setResultSet(resultSet);
@@ -181,10 +185,10 @@ public final class DataMatchDataConsistencyCalculateAlgorithm extends AbstractSt
         String logicTableName = param.getLogicTableName();
         String schemaName = param.getSchemaName();
         String uniqueKey = param.getUniqueKey().getName();
-        if (null != param.getTableCheckPosition()) {
-            return sqlBuilder.buildQueryAllOrderingSQL(schemaName, logicTableName, uniqueKey, false);
-        }
-        return sqlBuilder.buildQueryAllOrderingSQL(schemaName, logicTableName, uniqueKey, true);
+        boolean firstQuery = null == param.getTableCheckPosition();
+        return null == param.getUniqueKeyUpperBound()
+                ? sqlBuilder.buildQueryAllOrderingSQL(schemaName, logicTableName, uniqueKey, firstQuery)
+                : sqlBuilder.buildQueryRangeOrderingSQL(schemaName, logicTableName, uniqueKey, firstQuery);
     }
     
     @Override
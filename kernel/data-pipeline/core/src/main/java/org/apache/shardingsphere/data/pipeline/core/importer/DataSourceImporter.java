@@ -49,7 +49,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -61,6 +68,13 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_PARAMETER_COUNT = 32767;
+    
+    // Default max_allowed_packet of MySQL 5.7 is 4MB, string and binary values are estimated by their worst encoded size
+    private static final long MAX_STATEMENT_BYTES = 4L * 1024L * 1024L;
+    
+    private static final int PREPARED_STATEMENT_CACHE_SIZE = 64;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -74,12 +88,16 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
+    private final Map<String, PreparedStatement> preparedStatements = new LinkedHashMap<>(PREPARED_STATEMENT_CACHE_SIZE, 0.75F, true);
+    
     private volatile Statement batchInsertStatement;
     
     private volatile Statement updateStatement;
     
     private volatile Statement batchDeleteStatement;
     
+    private Connection connection;
+    
     public DataSourceImporter(final ImporterConfiguration importerConfig, final ImporterConnector importerConnector, final PipelineChannel channel,
                               final PipelineJobProgressListener jobProgressListener) {
         this.importerConfig = importerConfig;
@@ -93,16 +111,20 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     @Override
     protected void runBlocking() {
         int batchSize = importerConfig.getBatchSize() * 2;
-        while (isRunning()) {
-            List<Record> records = channel.fetchRecords(batchSize, 3);
-            if (null != records && !records.isEmpty()) {
-                PipelineJobProgressUpdatedParameter updatedParam = flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
-                channel.ack(records);
-                jobProgressListener.onProgressUpdated(updatedParam);
-                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
-                    break;
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetchRecords(batchSize, 3);
+                if (null != records && !records.isEmpty()) {
+                    PipelineJobProgressUpdatedParameter updatedParam = flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
+                    channel.ack(records);
+                    jobProgressListener.onProgressUpdated(updatedParam);
+                    if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                        break;
+                    }
                 }
             }
+        } finally {
+            closeConnection();
         }
     }
     
@@ -141,6 +163,7 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
+                closeConnection();
                 ThreadUtil.sleep(Math.min(5 * 60 * 1000L, 1000L << i));
             }
         }
@@ -148,8 +171,8 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
-        try (Connection connection = dataSource.getConnection()) {
-            connection.setAutoCommit(false);
+        Connection connection = getConnection(dataSource);
+        try {
             switch (buffer.get(0).getType()) {
                 case IngestDataChangeType.INSERT:
                     if (null != rateLimitAlgorithm) {
@@ -161,7 +184,7 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
                     if (null != rateLimitAlgorithm) {
                         rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
                     }
-                    executeUpdate(connection, buffer);
+                    executeBatchUpdate(connection, buffer);
                     break;
                 case IngestDataChangeType.DELETE:
                     if (null != rateLimitAlgorithm) {
@@ -173,22 +196,118 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
                     break;
             }
             connection.commit();
+        } catch (final SQLException ex) {
+            connection.rollback();
+            throw ex;
+        }
+    }
+    
+    private Connection getConnection(final DataSource dataSource) throws SQLException {
+        if (null == connection) {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
         }
+        return connection;
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql) throws SQLException {
+        PreparedStatement result = preparedStatements.get(sql);
+        if (null != result) {
+            result.clearParameters();
+            return result;
+        }
+        result = connection.prepareStatement(sql);
+        preparedStatements.put(sql, result);
+        if (preparedStatements.size() > PREPARED_STATEMENT_CACHE_SIZE) {
+            Iterator<Entry<String, PreparedStatement>> iterator = preparedStatements.entrySet().iterator();
+            PreparedStatement eldestPreparedStatement = iterator.next().getValue();
+            iterator.remove();
+            eldestPreparedStatement.close();
+        }
+        return result;
+    }
+    
+    private void closeConnection() {
+        for (PreparedStatement each : preparedStatements.values()) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                log.warn("close prepared statement failed", ex);
+            }
+        }
+        preparedStatements.clear();
+        if (null == connection) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            log.warn("close connection failed", ex);
+        }
+        connection = null;
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
-            batchInsertStatement = preparedStatement;
+        int maxRowCountPerStatement = Math.max(1, MAX_PARAMETER_COUNT / Math.max(1, dataRecord.getColumnCount()));
+        List<DataRecord> rows = new ArrayList<>(Math.min(dataRecords.size(), maxRowCountPerStatement));
+        long rowsBytes = 0L;
+        for (DataRecord each : deduplicate(dataRecords)) {
+            long recordBytes = getEstimatedBytes(each);
+            if (!rows.isEmpty() && (rows.size() >= maxRowCountPerStatement || rowsBytes + recordBytes > MAX_STATEMENT_BYTES)) {
+                executeMultiRowInsert(connection, dataRecord, rows);
+                rows.clear();
+                rowsBytes = 0L;
+            }
+            rows.add(each);
+            rowsBytes += recordBytes;
+        }
+        if (!rows.isEmpty()) {
+            executeMultiRowInsert(connection, dataRecord, rows);
+        }
+    }
+    
+    private Collection<DataRecord> deduplicate(final List<DataRecord> dataRecords) {
+        Map<DataRecord.Key, DataRecord> result = new LinkedHashMap<>(dataRecords.size(), 1F);
+        for (DataRecord each : dataRecords) {
+            if (each.getPrimaryKeyValues().isEmpty() && each.getUniqueKeyValue().isEmpty()) {
+                return dataRecords;
+            }
+            // Latest record wins and keeps its order, one statement must not affect the same row twice
+            result.remove(each.getPartitionKey());
+            result.put(each.getPartitionKey(), each);
+        }
+        return result.values();
+    }
+    
+    private long getEstimatedBytes(final DataRecord dataRecord) {
+        long result = 0L;
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            Object value = dataRecord.getColumn(i).getValue();
+            if (value instanceof byte[]) {
+                result += ((byte[]) value).length * 2L;
+            } else if (value instanceof CharSequence) {
+                result += ((CharSequence) value).length() * 4L;
+            } else {
+                result += 32L;
+            }
+        }
+        return result;
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final DataRecord dataRecord, final List<DataRecord> rows) throws SQLException {
+        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, rows.size());
+        PreparedStatement preparedStatement = prepareStatement(connection, insertSql);
+        batchInsertStatement = preparedStatement;
+        try {
             preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
+            int parameterIndex = 1;
+            for (DataRecord each : rows) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
                 }
-                preparedStatement.addBatch();
             }
-            preparedStatement.executeBatch();
+            preparedStatement.executeUpdate();
         } finally {
             batchInsertStatement = null;
         }
@@ -198,44 +317,59 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
         return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
     }
     
-    private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> dataRecordsGroupedBySQL = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(each.getTableName()), each, getConditionColumns(each));
+            dataRecordsGroupedBySQL.computeIfAbsent(updateSql, key -> new LinkedList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : dataRecordsGroupedBySQL.entrySet()) {
+            executeBatchUpdate(connection, entry.getKey(), entry.getValue());
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        Set<String> shardingColumns = importerConfig.getShardingColumns(record.getTableName());
-        if (null == shardingColumns) {
-            log.error("executeUpdate, could not get shardingColumns, tableName={}, logicTableNames={}", record.getTableName(), importerConfig.getLogicTableNames());
-        }
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, shardingColumns);
-        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record);
-        String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(record.getTableName()), record, conditionColumns);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
-            updateStatement = preparedStatement;
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                preparedStatement.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+    private void executeBatchUpdate(final Connection connection, final String updateSql, final List<DataRecord> dataRecords) throws SQLException {
+        PreparedStatement preparedStatement = prepareStatement(connection, updateSql);
+        updateStatement = preparedStatement;
+        try {
+            for (DataRecord each : dataRecords) {
+                List<Column> conditionColumns = getConditionColumns(each);
+                List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(each);
+                for (int i = 0; i < updatedColumns.size(); i++) {
+                    preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
+                }
+                for (int i = 0; i < conditionColumns.size(); i++) {
+                    Column keyColumn = conditionColumns.get(i);
+                    preparedStatement.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+                }
+                preparedStatement.addBatch();
             }
-            int updateCount = preparedStatement.executeUpdate();
-            if (1 != updateCount) {
-                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; null != updateCounts && i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("executeUpdate failed, updateCount={}, updateSql={}, record={}", updateCounts[i], updateSql, dataRecords.get(i));
+                }
             }
         } finally {
             updateStatement = null;
         }
     }
     
+    private List<Column> getConditionColumns(final DataRecord record) {
+        Set<String> shardingColumns = importerConfig.getShardingColumns(record.getTableName());
+        if (null == shardingColumns) {
+            log.error("executeUpdate, could not get shardingColumns, tableName={}, logicTableNames={}", record.getTableName(), importerConfig.getLogicTableNames());
+        }
+        return RecordUtil.extractConditionColumns(record, shardingColumns);
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
         String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            batchDeleteStatement = preparedStatement;
+        PreparedStatement preparedStatement = prepareStatement(connection, deleteSQL);
+        batchDeleteStatement = preparedStatement;
+        try {
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
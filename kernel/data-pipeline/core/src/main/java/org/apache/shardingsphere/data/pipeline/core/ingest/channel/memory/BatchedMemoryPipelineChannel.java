@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Batched memory pipeline channel.
+ *
+ * <p>
+ * A single producer single consumer ring buffer. Records are published and drained in batches through volatile cursors,
+ * and the waiting side is woken up by {@link LockSupport} instead of polling, so neither side takes a lock.
+ * The consumer is woken up once batch size records are available, or once the first available record has waited for max latency.
+ * The producer is blocked while the ring buffer is full or the estimated bytes of buffered records exceed memory budget.
+ * Closing the channel wakes up both sides, a blocked consumer returns the records which are already available.
+ * </p>
+ */
+public final class BatchedMemoryPipelineChannel implements PipelineChannel {
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private static final long RECORD_OVERHEAD_BYTES = 64L;
+    
+    private static final long COLUMN_OVERHEAD_BYTES = 32L;
+    
+    private static final long VALUE_DEFAULT_BYTES = 16L;
+    
+    private final Record[] buffer;
+    
+    private final long[] recordBytes;
+    
+    private final int mask;
+    
+    private final long memoryBudgetBytes;
+    
+    private final long maxLatencyNanos;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong producerCursor = new AtomicLong();
+    
+    private final AtomicLong consumerCursor = new AtomicLong();
+    
+    private final AtomicLong pendingBytes = new AtomicLong();
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    private volatile int consumerWakeUpThreshold = 1;
+    
+    private volatile boolean closed;
+    
+    public BatchedMemoryPipelineChannel(final int ringBufferSize, final long memoryBudgetBytes, final long maxLatencyMillis, final AckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(ringBufferSize, 2) - 1) << 1;
+        buffer = new Record[capacity];
+        recordBytes = new long[capacity];
+        mask = capacity - 1;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        long estimatedBytes = estimateRecordBytes(dataRecord);
+        if (!awaitWritable(estimatedBytes)) {
+            return;
+        }
+        long tail = producerCursor.get();
+        int slot = (int) tail & mask;
+        buffer[slot] = dataRecord;
+        recordBytes[slot] = estimatedBytes;
+        pendingBytes.addAndGet(estimatedBytes);
+        producerCursor.set(tail + 1);
+        signalConsumer();
+    }
+    
+    private boolean awaitWritable(final long estimatedBytes) {
+        while (!closed) {
+            if (isWritable(estimatedBytes)) {
+                return true;
+            }
+            waitingProducer = Thread.currentThread();
+            if (!isWritable(estimatedBytes) && !closed) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waitingProducer = null;
+        }
+        return false;
+    }
+    
+    private boolean isWritable(final long estimatedBytes) {
+        long head = consumerCursor.get();
+        long tail = producerCursor.get();
+        // an oversized record is still accepted by an empty ring buffer, otherwise it will never be pushed
+        return tail - head < buffer.length && (head == tail || estimatedBytes <= memoryBudgetBytes - pendingBytes.get());
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) {
+        long[] estimatedBytes = new long[records.size()];
+        for (int i = 0; i < estimatedBytes.length; i++) {
+            estimatedBytes[i] = estimateRecordBytes(records.get(i));
+        }
+        int index = 0;
+        while (index < estimatedBytes.length) {
+            int count = awaitWritableCount(estimatedBytes, index);
+            if (0 == count) {
+                return;
+            }
+            long tail = producerCursor.get();
+            long bytes = 0L;
+            for (int i = 0; i < count; i++) {
+                int slot = (int) (tail + i) & mask;
+                buffer[slot] = records.get(index + i);
+                recordBytes[slot] = estimatedBytes[index + i];
+                bytes += estimatedBytes[index + i];
+            }
+            pendingBytes.addAndGet(bytes);
+            producerCursor.set(tail + count);
+            index += count;
+            signalConsumer();
+        }
+    }
+    
+    private int awaitWritableCount(final long[] estimatedBytes, final int fromIndex) {
+        while (!closed) {
+            int result = getWritableCount(estimatedBytes, fromIndex);
+            if (result > 0) {
+                return result;
+            }
+            waitingProducer = Thread.currentThread();
+            if (0 == getWritableCount(estimatedBytes, fromIndex) && !closed) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waitingProducer = null;
+        }
+        return 0;
+    }
+    
+    private int getWritableCount(final long[] estimatedBytes, final int fromIndex) {
+        long head = consumerCursor.get();
+        long tail = producerCursor.get();
+        int freeSlots = buffer.length - (int) (tail - head);
+        long freeBytes = memoryBudgetBytes - pendingBytes.get();
+        int result = 0;
+        while (result < freeSlots && fromIndex + result < estimatedBytes.length) {
+            long bytes = estimatedBytes[fromIndex + result];
+            // an oversized record is still accepted by an empty ring buffer, otherwise it will never be pushed
+            if (bytes > freeBytes && (head != tail || 0 != result)) {
+                break;
+            }
+            freeBytes -= bytes;
+            result++;
+        }
+        return result;
+    }
+    
+    private void signalConsumer() {
+        Thread consumer = waitingConsumer;
+        if (null != consumer && getAvailableCount() >= consumerWakeUpThreshold) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        long timeoutDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        long latencyDeadline = timeoutDeadline;
+        boolean latencyStarted = false;
+        while (!closed) {
+            int availableCount = getAvailableCount();
+            if (availableCount >= batchSize) {
+                break;
+            }
+            long now = System.nanoTime();
+            if (availableCount > 0 && !latencyStarted) {
+                latencyStarted = true;
+                latencyDeadline = Math.min(now + maxLatencyNanos, timeoutDeadline);
+            }
+            long deadline = latencyStarted ? latencyDeadline : timeoutDeadline;
+            if (now - deadline >= 0L) {
+                break;
+            }
+            consumerWakeUpThreshold = latencyStarted ? batchSize : 1;
+            waitingConsumer = Thread.currentThread();
+            if (availableCount == getAvailableCount() && !closed) {
+                LockSupport.parkNanos(this, deadline - now);
+            }
+            waitingConsumer = null;
+        }
+        return drainRecords(batchSize);
+    }
+    
+    private int getAvailableCount() {
+        return (int) (producerCursor.get() - consumerCursor.get());
+    }
+    
+    private List<Record> drainRecords(final int batchSize) {
+        long head = consumerCursor.get();
+        int count = (int) Math.min(batchSize, producerCursor.get() - head);
+        List<Record> result = new ArrayList<>(count);
+        long bytes = 0L;
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (head + i) & mask;
+            result.add(buffer[slot]);
+            buffer[slot] = null;
+            bytes += recordBytes[slot];
+        }
+        consumerCursor.set(head + count);
+        pendingBytes.addAndGet(-bytes);
+        if (count > 0) {
+            signalProducer();
+        }
+        return result;
+    }
+    
+    private void signalProducer() {
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+    }
+    
+    private static long estimateRecordBytes(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return RECORD_OVERHEAD_BYTES;
+        }
+        long result = RECORD_OVERHEAD_BYTES;
+        for (Column each : ((DataRecord) record).getColumns()) {
+            result += COLUMN_OVERHEAD_BYTES + estimateValueBytes(each.getValue()) + estimateValueBytes(each.getOldValue());
+        }
+        return result;
+    }
+    
+    private static long estimateValueBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof CharSequence) {
+            return 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        return VALUE_DEFAULT_BYTES;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        signalProducer();
+        Thread consumer = waitingConsumer;
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.util.Properties;
+
+/**
+ * Batched memory implementation of pipeline channel creator.
+ */
+public final class BatchedMemoryPipelineChannelCreator implements PipelineChannelCreator {
+    
+    private static final String RING_BUFFER_SIZE_KEY = "ring-buffer-size";
+    
+    private static final String RING_BUFFER_SIZE_DEFAULT_VALUE = "16384";
+    
+    private static final String MEMORY_BUDGET_BYTES_KEY = "memory-budget-bytes";
+    
+    private static final String MEMORY_BUDGET_BYTES_DEFAULT_VALUE = "67108864";
+    
+    private static final String MAX_LATENCY_MILLIS_KEY = "max-latency-millis";
+    
+    private static final String MAX_LATENCY_MILLIS_DEFAULT_VALUE = "10";
+    
+    private int ringBufferSize;
+    
+    private long memoryBudgetBytes;
+    
+    private long maxLatencyMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        ringBufferSize = Integer.parseInt(props.getProperty(RING_BUFFER_SIZE_KEY, RING_BUFFER_SIZE_DEFAULT_VALUE));
+        memoryBudgetBytes = Long.parseLong(props.getProperty(MEMORY_BUDGET_BYTES_KEY, MEMORY_BUDGET_BYTES_DEFAULT_VALUE));
+        maxLatencyMillis = Long.parseLong(props.getProperty(MAX_LATENCY_MILLIS_KEY, MAX_LATENCY_MILLIS_DEFAULT_VALUE));
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        return 1 == outputConcurrency ? createBatchedMemoryPipelineChannel(ackCallback) : new MultiplexMemoryPipelineChannel(outputConcurrency, this::createBatchedMemoryPipelineChannel, ackCallback);
+    }
+    
+    private PipelineChannel createBatchedMemoryPipelineChannel(final AckCallback ackCallback) {
+        return new BatchedMemoryPipelineChannel(ringBufferSize, memoryBudgetBytes, maxLatencyMillis, ackCallback);
+    }
+    
+    @Override
+    public String getType() {
+        return "BATCHED_MEMORY";
+    }
+}
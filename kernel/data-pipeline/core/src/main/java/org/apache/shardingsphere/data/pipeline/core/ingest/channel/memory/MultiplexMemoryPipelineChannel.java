@@ -24,37 +24,74 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * Multiplex memory pipeline channel.
+ *
+ * <p>
+ * Data records are partitioned by table name and primary key (unique key if table has no primary key), so records of the same row are always consumed by the same importer in push order.
+ * Acknowledged records are handed to ack callback in push order only, so position never advances past records which are not applied by other importers.
+ * </p>
  */
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
+    private static final long AWAIT_ACK_MILLIS = 100L;
+    
     private final int channelNumber;
     
     private final List<PipelineChannel> channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<Long, PipelineChannel> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger nextAssignedChannelIndex = new AtomicInteger();
+    
+    private final AckCallback ackCallback;
+    
+    private final Deque<Record> unackedRecords = new ArrayDeque<>();
+    
+    private final Map<Record, Integer> remainingAckCounts = new IdentityHashMap<>();
+    
+    private volatile boolean closed;
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, each -> new SimpleMemoryPipelineChannel(blockQueueSize, each), ackCallback);
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Function<AckCallback, PipelineChannel> channelCreator, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        this.ackCallback = ackCallback;
+        channels = IntStream.range(0, channelNumber).mapToObj(each -> channelCreator.apply(this::onAck)).collect(Collectors.toList());
     }
     
     @Override
     public void pushRecord(final Record record) {
         if (FinishedRecord.class.equals(record.getClass())) {
+            addUnackedRecord(record, channelNumber);
             for (int i = 0; i < channelNumber; i++) {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            DataRecord dataRecord = (DataRecord) record;
+            int channelIndex = getChannelIndex(dataRecord.getPartitionKey());
+            if (isPartitionKeyMovedToAnotherChannel(dataRecord, channelIndex)) {
+                awaitAllRecordsAcked();
+            }
+            addUnackedRecord(record, 1);
+            pushRecord(record, channelIndex);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
+            addUnackedRecord(record, 1);
             pushRecord(record, 0);
         } else {
             throw new RuntimeException("Not Support Record Type");
@@ -66,43 +103,71 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         channel.pushRecord(record);
     }
     
-    @Override
-    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
-        return findChannel().fetchRecords(batchSize, timeoutSeconds);
+    private int getChannelIndex(final DataRecord.Key key) {
+        return Math.abs(key.hashCode() % channelNumber);
     }
     
-    @Override
-    public void ack(final List<Record> records) {
-        findChannel().ack(records);
-    }
-    
-    private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
+    private boolean isPartitionKeyMovedToAnotherChannel(final DataRecord dataRecord, final int channelIndex) {
+        List<Object> oldPartitionKeyValues = dataRecord.getPrimaryKeyValues().isEmpty() ? dataRecord.getOldUniqueKeyValues() : dataRecord.getOldPrimaryKeyValues();
+        return oldPartitionKeyValues.stream().anyMatch(Objects::nonNull) && channelIndex != getChannelIndex(dataRecord.getOldPartitionKey());
     }
     
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
+    private void awaitAllRecordsAcked() {
+        synchronized (unackedRecords) {
+            while (!unackedRecords.isEmpty() && !closed) {
+                try {
+                    unackedRecords.wait(AWAIT_ACK_MILLIS);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
                 }
             }
         }
     }
     
-    private void assignmentChannel(final String threadId) {
-        for (int i = 0; i < channels.size(); i++) {
-            if (!channelAssignment.containsValue(i)) {
-                channelAssignment.put(threadId, i);
+    private void addUnackedRecord(final Record record, final int ackCount) {
+        synchronized (unackedRecords) {
+            unackedRecords.addLast(record);
+            remainingAckCounts.put(record, ackCount);
+        }
+    }
+    
+    private void onAck(final List<Record> records) {
+        List<Record> ackedRecords = new LinkedList<>();
+        synchronized (unackedRecords) {
+            for (Record each : records) {
+                remainingAckCounts.computeIfPresent(each, (key, value) -> 1 == value ? null : value - 1);
+            }
+            while (!unackedRecords.isEmpty() && !remainingAckCounts.containsKey(unackedRecords.peekFirst())) {
+                ackedRecords.add(unackedRecords.pollFirst());
+            }
+            if (ackedRecords.isEmpty()) {
                 return;
             }
+            ackCallback.onAck(ackedRecords);
+            if (unackedRecords.isEmpty()) {
+                unackedRecords.notifyAll();
+            }
         }
     }
     
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        return findChannel().fetchRecords(batchSize, timeoutSeconds);
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        findChannel().ack(records);
+    }
+    
+    private PipelineChannel findChannel() {
+        return channelAssignment.computeIfAbsent(Thread.currentThread().getId(), key -> channels.get(nextAssignedChannelIndex.getAndIncrement()));
+    }
+    
     @Override
     public void close() {
+        closed = true;
         for (PipelineChannel each : channels) {
             each.close();
         }
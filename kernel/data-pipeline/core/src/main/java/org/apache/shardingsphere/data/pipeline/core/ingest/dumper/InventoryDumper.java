@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPos
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
@@ -57,6 +58,8 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Inventory dumper.
@@ -124,13 +127,21 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
             setParameters(preparedStatement);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                List<Record> dataRecords = new ArrayList<>(batchSize);
                 while (resultSet.next()) {
-                    channel.pushRecord(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
+                    dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
+                    if (dataRecords.size() >= batchSize) {
+                        channel.pushRecords(dataRecords);
+                        dataRecords = new ArrayList<>(batchSize);
+                    }
                     if (!isRunning()) {
                         log.info("Broke because of inventory dump is not running.");
                         break;
                     }
                 }
+                if (!dataRecords.isEmpty()) {
+                    channel.pushRecords(dataRecords);
+                }
                 dumpStatement = null;
             }
         }
@@ -145,7 +156,10 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         PipelineColumnMetaData firstColumn = dumperConfig.getUniqueKeyColumns().get(0);
         if (PipelineJdbcUtils.isIntegerColumn(firstColumn.getDataType()) || PipelineJdbcUtils.isStringColumn(firstColumn.getDataType())) {
             if (null != position.getBeginValue() && null != position.getEndValue()) {
-                return sqlBuilder.buildDivisibleInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), firstColumn.getName());
+                // end value of string position is exclusive, since it is the begin value of next split range
+                return PipelineJdbcUtils.isStringColumn(firstColumn.getDataType())
+                        ? sqlBuilder.buildDivisibleInventoryDumpSQLExclusiveEnd(schemaName, dumperConfig.getActualTableName(), firstColumn.getName())
+                        : sqlBuilder.buildDivisibleInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), firstColumn.getName());
             }
             if (null != position.getBeginValue() && null == position.getEndValue()) {
                 return sqlBuilder.buildDivisibleInventoryDumpSQLNoEnd(schemaName, dumperConfig.getActualTableName(), firstColumn.getName());
@@ -181,7 +195,10 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         result.setType(IngestDataChangeType.INSERT);
         result.setTableName(dumperConfig.getLogicTableName());
         for (int i = 1; i <= columnCount; i++) {
-            result.addColumn(new Column(resultSetMetaData.getColumnName(i), columnValueReader.readValue(resultSet, resultSetMetaData, i), true, tableMetaData.getColumnMetaData(i).isUniqueKey()));
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i);
+            result.addColumn(
+                    new Column(resultSetMetaData.getColumnName(i), null, columnValueReader.readValue(resultSet, resultSetMetaData, i), true, columnMetaData.isUniqueKey(),
+                            columnMetaData.isPrimaryKey()));
         }
         return result;
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.prepare;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ImporterConfiguration;
@@ -49,10 +50,12 @@ import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
 import javax.sql.DataSource;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -66,6 +69,12 @@ import java.util.Optional;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int SAMPLE_ROWS_PER_SHARD = 100;
+    
+    private static final int BUCKETS_PER_SHARD = 4;
+    
+    private static final int MAX_RANGE_ESTIMATES = 1024;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperConfiguration dumperConfig;
@@ -221,42 +230,192 @@ public final class InventoryTaskSplitter {
     
     private Collection<IngestPosition<?>> getPositionByIntegerUniqueKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                              final InventoryDumperConfiguration dumperConfig) {
-        Collection<IngestPosition<?>> result = new LinkedList<>();
-        PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
+        long tableRecordsCount = getTableRecordsCount(jobItemContext, dataSource, dumperConfig);
+        jobItemContext.updateInventoryRecordsCount(tableRecordsCount);
         String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
-        String sql = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobConfig.getSourceDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), uniqueKey);
-        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        PipelineSQLBuilder pipelineSQLBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String sql = pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey);
         try (
                 Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            // TODO query minimum value less than 0
-            long beginId = 0;
-            long recordsCount = 0;
-            for (int i = 0; i < Integer.MAX_VALUE; i++) {
-                preparedStatement.setLong(1, beginId);
-                preparedStatement.setLong(2, shardingSize);
-                try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                    if (!resultSet.next()) {
-                        break;
-                    }
-                    long endId = resultSet.getLong(1);
-                    recordsCount += resultSet.getLong(2);
-                    if (0 == endId) {
-                        break;
-                    }
-                    result.add(new IntegerPrimaryKeyPosition(beginId, endId));
-                    beginId = endId + 1;
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long minValue = resultSet.getLong(1);
+            // fix empty table missing inventory task
+            if (resultSet.wasNull()) {
+                return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
+            }
+            long maxValue = resultSet.getLong(2);
+            Optional<List<Object>> keyBoundaries = getBoundaries(jobItemContext, dataSource, connection, pipelineSQLBuilder, dumperConfig, tableRecordsCount);
+            List<Long> boundaries = new LinkedList<>();
+            for (Object each : keyBoundaries.orElse(Collections.emptyList())) {
+                long boundary = ((Number) each).longValue();
+                if (boundary > minValue && boundary <= maxValue) {
+                    boundaries.add(boundary);
                 }
             }
-            jobItemContext.updateInventoryRecordsCount(recordsCount);
-            // fix empty table missing inventory task
-            if (result.isEmpty()) {
-                result.add(new IntegerPrimaryKeyPosition(0, 0));
+            if (!keyBoundaries.isPresent()) {
+                int shardCount = getShardCount(jobItemContext, tableRecordsCount);
+                boundaries = getEstimatedBoundaries(connection, pipelineSQLBuilder, dumperConfig, minValue, maxValue, shardCount).orElseGet(() -> getUniformBoundaries(minValue, maxValue, shardCount));
             }
+            Collection<IngestPosition<?>> result = new LinkedList<>();
+            long beginValue = minValue;
+            for (long each : boundaries) {
+                result.add(new IntegerPrimaryKeyPosition(beginValue, each - 1));
+                beginValue = each;
+            }
+            result.add(new IntegerPrimaryKeyPosition(beginValue, maxValue));
+            return result;
         } catch (final SQLException ex) {
             throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
         }
+    }
+    
+    private int getShardCount(final InventoryIncrementalJobItemContext jobItemContext, final long tableRecordsCount) {
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        return (int) Math.max(1L, Math.min(Integer.MAX_VALUE, (tableRecordsCount + shardingSize - 1) / shardingSize));
+    }
+    
+    private Optional<List<Object>> getBoundaries(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final Connection connection,
+                                                 final PipelineSQLBuilder pipelineSQLBuilder, final InventoryDumperConfiguration dumperConfig, final long tableRecordsCount) throws SQLException {
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+        int shardCount = getShardCount(jobItemContext, tableRecordsCount);
+        double samplePercent = Math.min(100D, 100D * shardCount * SAMPLE_ROWS_PER_SHARD / Math.max(1L, tableRecordsCount));
+        Optional<String> sampleSQL = pipelineSQLBuilder.buildUniqueKeySampleSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey, samplePercent);
+        if (!sampleSQL.isPresent()) {
+            return Optional.empty();
+        }
+        List<Object> result = shardCount <= 1 ? Collections.emptyList()
+                : getSampledBoundaries(jobItemContext, dataSource, connection, pipelineSQLBuilder, dumperConfig, sampleSQL.get(), tableRecordsCount * samplePercent / 100D, tableRecordsCount);
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private List<Object> getSampledBoundaries(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final Connection connection,
+                                              final PipelineSQLBuilder pipelineSQLBuilder, final InventoryDumperConfiguration dumperConfig, final String sampleSQL,
+                                              final double expectedSampleRows, final long tableRecordsCount) throws SQLException {
+        long startTimeMillis = System.currentTimeMillis();
+        List<Object> samples = new ArrayList<>();
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sampleSQL);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                samples.add(resultSet.getObject(1));
+            }
+        }
+        log.info("getSampledBoundaries, sampled {} rows, cost {} ms", samples.size(), System.currentTimeMillis() - startTimeMillis);
+        int shardCount = getShardCount(jobItemContext, tableRecordsCount);
+        // Estimated count might be stale, it's corrected by real count if sampled rows are far from expected
+        if (Math.max(expectedSampleRows, samples.size()) >= SAMPLE_ROWS_PER_SHARD && (samples.size() < expectedSampleRows / 2D || samples.size() > expectedSampleRows * 2D)) {
+            String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+            long realRecordsCount = getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, dumperConfig.getActualTableName()));
+            jobItemContext.updateInventoryRecordsCount(realRecordsCount - tableRecordsCount);
+            shardCount = getShardCount(jobItemContext, realRecordsCount);
+        }
+        List<Object> result = new ArrayList<>(shardCount - 1);
+        if (samples.isEmpty()) {
+            return result;
+        }
+        for (int i = 1; i < shardCount; i++) {
+            Object each = samples.get((int) ((long) i * samples.size() / shardCount));
+            if (null != each && (result.isEmpty() || !result.get(result.size() - 1).equals(each))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<List<Long>> getEstimatedBoundaries(final Connection connection, final PipelineSQLBuilder pipelineSQLBuilder, final InventoryDumperConfiguration dumperConfig,
+                                                        final long minValue, final long maxValue, final int shardCount) throws SQLException {
+        if (shardCount <= 1) {
+            return Optional.empty();
+        }
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        Optional<String> estimateSQL = pipelineSQLBuilder.buildUniqueKeyRangeRowsEstimateSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKeyColumns().get(0).getName());
+        if (!estimateSQL.isPresent()) {
+            return Optional.empty();
+        }
+        long startTimeMillis = System.currentTimeMillis();
+        List<EstimatedBucket> buckets;
+        // Rows of key range are estimated by database without reading them, buckets with too many rows are divided again until estimates are used up
+        try (PreparedStatement preparedStatement = connection.prepareStatement(estimateSQL.get())) {
+            buckets = estimateBuckets(preparedStatement, minValue, maxValue, (int) Math.min(MAX_RANGE_ESTIMATES, (long) shardCount * BUCKETS_PER_SHARD));
+            long maxBucketRows = Math.max(1L, getRows(buckets) / shardCount / BUCKETS_PER_SHARD);
+            int remainingEstimates = MAX_RANGE_ESTIMATES - buckets.size();
+            boolean divided = true;
+            while (divided && remainingEstimates > 0) {
+                divided = false;
+                List<EstimatedBucket> dividedBuckets = new ArrayList<>(buckets.size());
+                for (EstimatedBucket each : buckets) {
+                    int bucketCount = getBucketCount(each, Math.min(remainingEstimates, each.getRows() / maxBucketRows * BUCKETS_PER_SHARD));
+                    if (each.getRows() <= maxBucketRows || bucketCount <= 1) {
+                        dividedBuckets.add(each);
+                        continue;
+                    }
+                    List<EstimatedBucket> subBuckets = estimateBuckets(preparedStatement, each.getBeginValue(), each.getEndValue(), bucketCount);
+                    remainingEstimates -= subBuckets.size();
+                    dividedBuckets.addAll(subBuckets);
+                    divided = true;
+                }
+                buckets = dividedBuckets;
+            }
+        }
+        long totalRows = getRows(buckets);
+        log.info("getEstimatedBoundaries, estimated {} rows by {} buckets, cost {} ms", totalRows, buckets.size(), System.currentTimeMillis() - startTimeMillis);
+        if (0L == totalRows) {
+            return Optional.empty();
+        }
+        List<Long> result = new LinkedList<>();
+        long accumulatedRows = 0L;
+        int shardIndex = 1;
+        for (int i = 0; i < buckets.size() - 1 && shardIndex < shardCount; i++) {
+            accumulatedRows += buckets.get(i).getRows();
+            if (accumulatedRows * shardCount < totalRows * shardIndex) {
+                continue;
+            }
+            result.add(buckets.get(i + 1).getBeginValue());
+            while (shardIndex < shardCount && accumulatedRows * shardCount >= totalRows * shardIndex) {
+                shardIndex++;
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private List<EstimatedBucket> estimateBuckets(final PreparedStatement preparedStatement, final long beginValue, final long endValue, final int bucketCount) throws SQLException {
+        List<Long> beginValues = new ArrayList<>(bucketCount);
+        beginValues.add(beginValue);
+        beginValues.addAll(getUniformBoundaries(beginValue, endValue, bucketCount));
+        List<EstimatedBucket> result = new ArrayList<>(beginValues.size());
+        for (int i = 0; i < beginValues.size(); i++) {
+            long bucketEndValue = i + 1 < beginValues.size() ? beginValues.get(i + 1) - 1L : endValue;
+            preparedStatement.setLong(1, beginValues.get(i));
+            preparedStatement.setLong(2, bucketEndValue);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                result.add(new EstimatedBucket(beginValues.get(i), bucketEndValue, resultSet.next() ? Math.max(0L, resultSet.getLong("rows")) : 0L));
+            }
+        }
+        return result;
+    }
+    
+    private int getBucketCount(final EstimatedBucket bucket, final long maxBucketCount) {
+        return BigInteger.valueOf(bucket.getEndValue()).subtract(BigInteger.valueOf(bucket.getBeginValue())).add(BigInteger.ONE).min(BigInteger.valueOf(maxBucketCount)).intValue();
+    }
+    
+    private long getRows(final List<EstimatedBucket> buckets) {
+        return buckets.stream().mapToLong(EstimatedBucket::getRows).sum();
+    }
+    
+    private List<Long> getUniformBoundaries(final long minValue, final long maxValue, final int shardCount) {
+        List<Long> result = new LinkedList<>();
+        BigInteger step = BigInteger.valueOf(maxValue).subtract(BigInteger.valueOf(minValue)).add(BigInteger.valueOf(shardCount)).divide(BigInteger.valueOf(shardCount));
+        for (int i = 1; i < shardCount; i++) {
+            BigInteger boundary = BigInteger.valueOf(minValue).add(step.multiply(BigInteger.valueOf(i)));
+            if (boundary.compareTo(BigInteger.valueOf(maxValue)) > 0) {
+                break;
+            }
+            result.add(boundary.longValue());
+        }
         return result;
     }
     
@@ -264,9 +423,36 @@ public final class InventoryTaskSplitter {
                                                                             final InventoryDumperConfiguration dumperConfig) {
         long tableRecordsCount = getTableRecordsCount(jobItemContext, dataSource, dumperConfig);
         jobItemContext.updateInventoryRecordsCount(tableRecordsCount);
-        Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition(null, null));
-        return result;
+        String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+        PipelineSQLBuilder pipelineSQLBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String sql = pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            String minValue = resultSet.getString(1);
+            if (null == minValue) {
+                return Collections.singletonList(new StringPrimaryKeyPosition(null, null));
+            }
+            // String range end value is exclusive, boundaries are kept in database collation order
+            Collection<IngestPosition<?>> result = new LinkedList<>();
+            String beginValue = minValue;
+            for (Object each : getBoundaries(jobItemContext, dataSource, connection, pipelineSQLBuilder, dumperConfig, tableRecordsCount).orElse(Collections.emptyList())) {
+                String boundary = each.toString();
+                // Position is persisted as comma separated string
+                if (boundary.isEmpty() || boundary.contains(",") || boundary.equals(beginValue)) {
+                    continue;
+                }
+                result.add(new StringPrimaryKeyPosition(beginValue, boundary));
+                beginValue = boundary;
+            }
+            result.add(new StringPrimaryKeyPosition(beginValue, null));
+            return result;
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
+        }
     }
     
     private Collection<IngestPosition<?>> getUnsupportedPosition(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
@@ -275,4 +461,15 @@ public final class InventoryTaskSplitter {
         jobItemContext.updateInventoryRecordsCount(tableRecordsCount);
         return Collections.singletonList(new UnsupportedKeyPosition());
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class EstimatedBucket {
+        
+        private final long beginValue;
+        
+        private final long endValue;
+        
+        private final long rows;
+    }
 }
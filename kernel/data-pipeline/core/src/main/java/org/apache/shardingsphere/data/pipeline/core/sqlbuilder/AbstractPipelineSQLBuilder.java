@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -84,6 +85,13 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT * FROM %s WHERE %s>=? ORDER BY %s ASC", qualifiedTableName, quotedUniqueKey, quotedUniqueKey);
     }
     
+    @Override
+    public String buildDivisibleInventoryDumpSQLExclusiveEnd(final String schemaName, final String tableName, final String uniqueKey) {
+        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
+        String quotedUniqueKey = quote(uniqueKey);
+        return String.format("SELECT * FROM %s WHERE %s>=? AND %s<? ORDER BY %s ASC", qualifiedTableName, quotedUniqueKey, quotedUniqueKey, quotedUniqueKey);
+    }
+    
     @Override
     public String buildIndivisibleInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey) {
         String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
@@ -108,11 +116,24 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
+        return buildInsertSQL(schemaName, dataRecord, 1);
+    }
+    
+    @Override
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns()));
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        if (1 == rowCount) {
+            return sqlCacheMap.get(sqlCacheKey);
+        }
+        StringBuilder result = new StringBuilder(sqlCacheMap.get(sqlCacheKey));
+        String valuesLiteral = String.format(",(%s)", String.join(",", Collections.nCopies(dataRecord.getColumnCount(), "?")));
+        for (int i = 1; i < rowCount; i++) {
+            result.append(valuesLiteral);
+        }
+        return result.toString();
     }
     
     private String buildInsertSQLInternal(final String schemaName, final String tableName, final List<Column> columns) {
@@ -191,15 +212,23 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
                 : String.format("SELECT * FROM %s WHERE %s>? ORDER BY %s ASC", qualifiedTableName, quotedUniqueKey, quotedUniqueKey);
     }
     
+    @Override
+    public String buildQueryRangeOrderingSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
+        String quotedUniqueKey = quote(uniqueKey);
+        return firstQuery
+                ? String.format("SELECT * FROM %s WHERE %s<=? ORDER BY %s ASC", qualifiedTableName, quotedUniqueKey, quotedUniqueKey)
+                : String.format("SELECT * FROM %s WHERE %s>? AND %s<=? ORDER BY %s ASC", qualifiedTableName, quotedUniqueKey, quotedUniqueKey, quotedUniqueKey);
+    }
+    
     @Override
     public String buildCheckEmptySQL(final String schemaName, final String tableName) {
         return String.format("SELECT * FROM %s LIMIT 1", getQualifiedTableName(schemaName, tableName));
     }
     
     @Override
-    public String buildSplitByPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey) {
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
         String quotedUniqueKey = quote(uniqueKey);
-        return String.format("SELECT MAX(%s),COUNT(1) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
-                quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
+        return String.format("SELECT MIN(%s),MAX(%s) FROM %s", quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName));
     }
 }
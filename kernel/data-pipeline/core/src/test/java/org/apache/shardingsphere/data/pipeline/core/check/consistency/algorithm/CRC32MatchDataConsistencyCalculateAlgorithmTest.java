@@ -22,6 +22,8 @@ import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsist
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,16 +37,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,34 +67,71 @@ public final class CRC32MatchDataConsistencyCalculateAlgorithmTest {
     @BeforeEach
     public void setUp() throws SQLException {
         PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true);
-        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, null,
-                "foo_tbl", Arrays.asList("foo_col", "bar_col"), "FIXTURE", "FIXTURE", uniqueKey, Collections.emptyMap());
+        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, null, "foo_tbl", Arrays.asList("foo_col", "bar_col"), "FIXTURE", "FIXTURE", uniqueKey, null);
         when(pipelineDataSource.getConnection()).thenReturn(connection);
     }
     
     @Test
     public void assertCalculateSuccess() throws SQLException {
-        PreparedStatement preparedStatement0 = mockPreparedStatement(123L, 10);
-        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl")).thenReturn(preparedStatement0);
-        PreparedStatement preparedStatement1 = mockPreparedStatement(456L, 10);
-        when(connection.prepareStatement("SELECT CRC32(bar_col) FROM foo_tbl")).thenReturn(preparedStatement1);
+        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, null, "foo_tbl", Arrays.asList("foo_col", "bar_col"), "FIXTURE", "FIXTURE", parameter.getUniqueKey(), 5);
+        parameter.setUniqueKeyUpperBound(10);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getLong(1)).thenReturn(123L);
+        when(resultSet.getInt(2)).thenReturn(5);
+        when(connection.prepareStatement("SELECT CRC32(foo_col,bar_col) FROM foo_tbl")).thenReturn(preparedStatement);
         Iterator<DataConsistencyCalculatedResult> actual = new CRC32MatchDataConsistencyCalculateAlgorithm().calculate(parameter).iterator();
-        assertThat(actual.next().getRecordsCount(), is(10));
+        DataConsistencyCalculatedResult firstChunk = actual.next();
+        assertThat(firstChunk.getRecordsCount(), is(5));
+        assertThat(firstChunk.getMaxUniqueKeyValue(), is(Optional.of(10)));
         assertFalse(actual.hasNext());
+        verify(preparedStatement).setObject(1, 5);
+        verify(preparedStatement).setObject(2, 10);
     }
     
-    private PreparedStatement mockPreparedStatement(final long expectedCRC32Result, final int expectedRecordsCount) throws SQLException {
+    @Test
+    public void assertGetRangeUpperBounds() throws SQLException {
+        PreparedStatement minValueStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        when(minValueStatement.executeQuery().next()).thenReturn(true);
+        when(minValueStatement.executeQuery().getObject(1)).thenReturn(1);
+        when(connection.prepareStatement("")).thenReturn(minValueStatement);
+        PreparedStatement boundaryStatement = mock(PreparedStatement.class);
         ResultSet resultSet = mock(ResultSet.class);
-        PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
-        when(result.executeQuery()).thenReturn(resultSet);
-        when(resultSet.getLong(1)).thenReturn(expectedCRC32Result);
-        when(resultSet.getInt(2)).thenReturn(expectedRecordsCount);
-        return result;
+        when(boundaryStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getObject(1)).thenReturn(2, 2, 4);
+        when(connection.prepareStatement("SELECT id FROM foo_tbl")).thenReturn(boundaryStatement);
+        CRC32MatchDataConsistencyCalculateAlgorithm algorithm = new CRC32MatchDataConsistencyCalculateAlgorithm();
+        algorithm.init(PropertiesBuilder.build(new Property("chunk-size", "2")));
+        Iterator<Object> actual = algorithm.getRangeUpperBounds(parameter);
+        verify(boundaryStatement, never()).executeQuery();
+        assertThat(actual.next(), is(2));
+        verify(boundaryStatement).setLong(2, 1L);
+        assertThat(actual.next(), is(4));
+        verify(boundaryStatement).setLong(2, 4L);
+        assertTrue(actual.hasNext());
+        assertNull(actual.next());
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertCalculateWithoutUniqueKey() throws SQLException {
+        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, null, "foo_tbl", Arrays.asList("foo_col", "bar_col"), "FIXTURE", "FIXTURE", null, null);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getLong(1)).thenReturn(123L);
+        when(resultSet.getInt(2)).thenReturn(10);
+        when(connection.prepareStatement("SELECT CRC32(foo_col,bar_col) FROM foo_tbl")).thenReturn(preparedStatement);
+        Iterator<DataConsistencyCalculatedResult> actual = new CRC32MatchDataConsistencyCalculateAlgorithm().calculate(parameter).iterator();
+        assertThat(actual.next().getRecordsCount(), is(10));
+        assertFalse(actual.hasNext());
     }
     
     @Test
     public void assertCalculateFailed() throws SQLException {
         when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
-        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> new CRC32MatchDataConsistencyCalculateAlgorithm().calculate(parameter));
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> new CRC32MatchDataConsistencyCalculateAlgorithm().calculate(parameter).iterator().hasNext());
     }
 }
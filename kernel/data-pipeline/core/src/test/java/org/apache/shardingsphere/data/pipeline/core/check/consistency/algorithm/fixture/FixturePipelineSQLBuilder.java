@@ -38,6 +38,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildDivisibleInventoryDumpSQLExclusiveEnd(final String schemaName, final String tableName, final String uniqueKey) {
+        return "";
+    }
+    
     @Override
     public String buildIndivisibleInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey) {
         return "";
@@ -48,6 +53,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        return "";
+    }
+    
     @Override
     public String buildUpdateSQL(final String schemaName, final DataRecord dataRecord, final Collection<Column> conditionColumns) {
         return "";
@@ -83,19 +93,30 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildQueryRangeOrderingSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        return "";
+    }
+    
     @Override
     public String buildCheckEmptySQL(final String schemaName, final String tableName) {
         return null;
     }
     
     @Override
-    public String buildSplitByPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey) {
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
         return "";
     }
     
     @Override
-    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
-        return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
+    public Optional<String> buildUniqueKeyBoundarySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return Optional.of(String.format("SELECT %s FROM %s", uniqueKey, tableName));
+    }
+    
+    @Override
+    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey,
+                                          final boolean hasLowerBound, final boolean hasUpperBound) {
+        return Optional.of(String.format("SELECT CRC32(%s) FROM %s", String.join(",", columnNames), tableName));
     }
     
     @Override
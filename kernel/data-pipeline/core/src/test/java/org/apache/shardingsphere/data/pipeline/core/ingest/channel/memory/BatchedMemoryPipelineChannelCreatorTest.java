@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class BatchedMemoryPipelineChannelCreatorTest {
+    
+    @Test
+    public void assertInitWithProperties() throws Exception {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "BATCHED_MEMORY",
+                PropertiesBuilder.build(new Property("ring-buffer-size", "1024"), new Property("memory-budget-bytes", "1048576"), new Property("max-latency-millis", "5")));
+        assertThat(Plugins.getMemberAccessor().get(BatchedMemoryPipelineChannelCreator.class.getDeclaredField("ringBufferSize"), creator), is(1024));
+        assertThat(Plugins.getMemberAccessor().get(BatchedMemoryPipelineChannelCreator.class.getDeclaredField("memoryBudgetBytes"), creator), is(1048576L));
+        assertThat(Plugins.getMemberAccessor().get(BatchedMemoryPipelineChannelCreator.class.getDeclaredField("maxLatencyMillis"), creator), is(5L));
+    }
+    
+    @Test
+    public void assertInitWithoutProperties() throws Exception {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "BATCHED_MEMORY");
+        assertThat(Plugins.getMemberAccessor().get(BatchedMemoryPipelineChannelCreator.class.getDeclaredField("ringBufferSize"), creator), is(16384));
+        assertThat(Plugins.getMemberAccessor().get(BatchedMemoryPipelineChannelCreator.class.getDeclaredField("memoryBudgetBytes"), creator), is(67108864L));
+        assertThat(Plugins.getMemberAccessor().get(BatchedMemoryPipelineChannelCreator.class.getDeclaredField("maxLatencyMillis"), creator), is(10L));
+    }
+    
+    @Test
+    public void assertCreateBatchedMemoryPipelineChannel() {
+        assertThat(TypedSPILoader.getService(PipelineChannelCreator.class, "BATCHED_MEMORY").createPipelineChannel(1, mock(AckCallback.class)), instanceOf(BatchedMemoryPipelineChannel.class));
+    }
+    
+    @Test
+    public void assertCreateMultiplexMemoryPipelineChannel() {
+        assertThat(TypedSPILoader.getService(PipelineChannelCreator.class, "BATCHED_MEMORY").createPipelineChannel(2, mock(AckCallback.class)), instanceOf(MultiplexMemoryPipelineChannel.class));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class BatchedMemoryPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsWhenBatchSizeReached() {
+        BatchedMemoryPipelineChannel channel = new BatchedMemoryPipelineChannel(16, Long.MAX_VALUE, 60000L, mock(AckCallback.class));
+        List<Record> records = Arrays.asList(new PlaceholderRecord(new PlaceholderPosition()), new PlaceholderRecord(new PlaceholderPosition()), new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecords(records);
+        assertThat(channel.fetchRecords(2, 60), is(records.subList(0, 2)));
+        assertThat(channel.fetchRecords(1, 60), is(records.subList(2, 3)));
+    }
+    
+    @Test
+    public void assertFetchRecordsWhenMaxLatencyReached() {
+        BatchedMemoryPipelineChannel channel = new BatchedMemoryPipelineChannel(16, Long.MAX_VALUE, 10L, mock(AckCallback.class));
+        Record record = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecord(record);
+        long start = System.nanoTime();
+        assertThat(channel.fetchRecords(100, 60), is(Collections.singletonList(record)));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30L));
+    }
+    
+    @Test
+    public void assertFetchRecordsWhenTimeout() {
+        BatchedMemoryPipelineChannel channel = new BatchedMemoryPipelineChannel(16, Long.MAX_VALUE, 10L, mock(AckCallback.class));
+        assertTrue(channel.fetchRecords(100, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertPushRecordsBlockedByMemoryBudget() throws Exception {
+        BatchedMemoryPipelineChannel channel = new BatchedMemoryPipelineChannel(16, 1L, 0L, mock(AckCallback.class));
+        Record first = new PlaceholderRecord(new PlaceholderPosition());
+        Record second = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecord(first);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(second));
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(future.isDone());
+        assertThat(channel.fetchRecords(1, 60), is(Collections.singletonList(first)));
+        future.get(30L, TimeUnit.SECONDS);
+        assertThat(channel.fetchRecords(1, 60), is(Collections.singletonList(second)));
+    }
+    
+    @Test
+    public void assertPushRecordsWrapAroundRingBuffer() {
+        BatchedMemoryPipelineChannel channel = new BatchedMemoryPipelineChannel(2, Long.MAX_VALUE, 0L, mock(AckCallback.class));
+        for (int i = 0; i < 5; i++) {
+            Record record = new PlaceholderRecord(new PlaceholderPosition());
+            channel.pushRecord(record);
+            assertThat(channel.fetchRecords(2, 60), is(Collections.singletonList(record)));
+        }
+    }
+    
+    @Test
+    public void assertCloseWakeUpBlockedConsumer() throws Exception {
+        BatchedMemoryPipelineChannel channel = new BatchedMemoryPipelineChannel(16, Long.MAX_VALUE, 60000L, mock(AckCallback.class));
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> channel.fetchRecords(100, 60));
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(future.isDone());
+        channel.close();
+        assertTrue(future.get(30L, TimeUnit.SECONDS).isEmpty());
+    }
+    
+    @Test
+    public void assertCloseWakeUpBlockedProducer() throws Exception {
+        BatchedMemoryPipelineChannel channel = new BatchedMemoryPipelineChannel(2, Long.MAX_VALUE, 0L, mock(AckCallback.class));
+        channel.pushRecords(Arrays.asList(new PlaceholderRecord(new PlaceholderPosition()), new PlaceholderRecord(new PlaceholderPosition())));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(future.isDone());
+        channel.close();
+        future.get(30L, TimeUnit.SECONDS);
+        assertThat(channel.fetchRecords(16, 0).size(), is(2));
+    }
+    
+    @Test
+    public void assertAck() {
+        AckCallback ackCallback = mock(AckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition()));
+        new BatchedMemoryPipelineChannel(16, Long.MAX_VALUE, 10L, ackCallback).ack(records);
+        verify(ackCallback).onAck(records);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MultiplexMemoryPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsOfSameKeyFromSameChannel() {
+        MultiplexMemoryPipelineChannel channel = new MultiplexMemoryPipelineChannel(2, 100, records -> {
+        });
+        DataRecord insertRecord = createDataRecord(findUniqueKeyValue(0), IngestDataChangeType.INSERT);
+        DataRecord updateRecord = createDataRecord(findUniqueKeyValue(0), IngestDataChangeType.UPDATE);
+        DataRecord deleteRecord = createDataRecord(findUniqueKeyValue(0), IngestDataChangeType.DELETE);
+        channel.pushRecord(insertRecord);
+        channel.pushRecord(updateRecord);
+        channel.pushRecord(deleteRecord);
+        assertThat(channel.fetchRecords(3, 0), is(Arrays.<Record>asList(insertRecord, updateRecord, deleteRecord)));
+    }
+    
+    @Test
+    public void assertFetchRecordsOfSamePrimaryKeyWithDifferentUniqueKeyColumns() {
+        MultiplexMemoryPipelineChannel channel = new MultiplexMemoryPipelineChannel(2, 100, records -> {
+        });
+        int orderId = findUniqueKeyValue(0);
+        int orderNo = findOrderNo(orderId, 1);
+        DataRecord insertRecord = createDataRecord(orderId, IngestDataChangeType.INSERT);
+        insertRecord.addColumn(new Column("order_no", orderNo, true, true));
+        DataRecord updateRecord = createDataRecord(orderId, IngestDataChangeType.UPDATE);
+        updateRecord.addColumn(new Column("order_no", orderNo, true, false));
+        DataRecord deleteRecord = createDataRecord(orderId, IngestDataChangeType.DELETE);
+        channel.pushRecord(insertRecord);
+        channel.pushRecord(updateRecord);
+        channel.pushRecord(deleteRecord);
+        assertThat(channel.fetchRecords(3, 0), is(Arrays.<Record>asList(insertRecord, updateRecord, deleteRecord)));
+    }
+    
+    @Test
+    public void assertPartitionKeyOfByteArrayValue() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn(new Column("order_id", null, new byte[]{1, 2}, true, true, true));
+        DataRecord anotherDataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        anotherDataRecord.setTableName("t_order");
+        anotherDataRecord.addColumn(new Column("order_id", null, new byte[]{1, 2}, true, true, true));
+        assertThat(dataRecord.getPartitionKey(), is(anotherDataRecord.getPartitionKey()));
+        assertThat(dataRecord.getPartitionKey().hashCode(), is(anotherDataRecord.getPartitionKey().hashCode()));
+    }
+    
+    @Test
+    public void assertAckInPushOrder() throws Exception {
+        List<Record> actual = new LinkedList<>();
+        MultiplexMemoryPipelineChannel channel = new MultiplexMemoryPipelineChannel(2, 100, actual::addAll);
+        DataRecord firstRecord = createDataRecord(findUniqueKeyValue(0), IngestDataChangeType.INSERT);
+        DataRecord secondRecord = createDataRecord(findUniqueKeyValue(1), IngestDataChangeType.INSERT);
+        channel.pushRecord(firstRecord);
+        channel.pushRecord(secondRecord);
+        List<Record> firstRecords = channel.fetchRecords(1, 0);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture.runAsync(() -> channel.ack(channel.fetchRecords(1, 0)), executorService).get(30L, TimeUnit.SECONDS);
+            assertTrue(actual.isEmpty());
+            channel.ack(firstRecords);
+            assertThat(actual, is(Arrays.<Record>asList(firstRecord, secondRecord)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertAckFinishedRecordAfterAllChannelsAcked() throws Exception {
+        List<Record> actual = new LinkedList<>();
+        MultiplexMemoryPipelineChannel channel = new MultiplexMemoryPipelineChannel(2, 100, actual::addAll);
+        FinishedRecord finishedRecord = new FinishedRecord(new FinishedPosition());
+        channel.pushRecord(finishedRecord);
+        channel.ack(channel.fetchRecords(1, 0));
+        assertTrue(actual.isEmpty());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture.runAsync(() -> channel.ack(channel.fetchRecords(1, 0)), executorService).get(30L, TimeUnit.SECONDS);
+            assertThat(actual, is(Collections.<Record>singletonList(finishedRecord)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private int findUniqueKeyValue(final int channelIndex) {
+        int result = 0;
+        while (channelIndex != Math.abs(createDataRecord(result, IngestDataChangeType.INSERT).getPartitionKey().hashCode() % 2)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int findOrderNo(final int orderId, final int channelIndex) {
+        int result = 0;
+        while (channelIndex != Math.abs(new DataRecord.Key("t_order", Arrays.asList(orderId, result)).hashCode() % 2)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final int uniqueKeyValue, final String type) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 1);
+        result.setTableName("t_order");
+        result.setType(type);
+        result.addColumn(new Column("order_id", null, uniqueKeyValue, true, true, true));
+        return result;
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
@@ -55,6 +56,8 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -136,18 +139,21 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     }
     
     private void handleWriteRowsEvent(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> records = new ArrayList<>(event.getAfterRows().size());
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.INSERT);
             for (int i = 0; i < each.length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), null, handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey(), columnMetaData.isPrimaryKey()));
             }
-            channel.pushRecord(record);
+            records.add(record);
         }
+        channel.pushRecords(records);
     }
     
     private void handleUpdateRowsEvent(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> records = new ArrayList<>(event.getBeforeRows().size());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -160,22 +166,25 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(j + 1);
                 record.addColumn(new Column(columnMetaData.getName(),
                         handleValue(columnMetaData, oldValue),
-                        handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey()));
+                        handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey(), columnMetaData.isPrimaryKey()));
             }
-            channel.pushRecord(record);
+            records.add(record);
         }
+        channel.pushRecords(records);
     }
     
     private void handleDeleteRowsEvent(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> records = new ArrayList<>(event.getBeforeRows().size());
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.DELETE);
             for (int i = 0, length = each.length; i < length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), null, handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey(), columnMetaData.isPrimaryKey()));
             }
-            channel.pushRecord(record);
+            records.add(record);
         }
+        channel.pushRecords(records);
     }
     
     private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
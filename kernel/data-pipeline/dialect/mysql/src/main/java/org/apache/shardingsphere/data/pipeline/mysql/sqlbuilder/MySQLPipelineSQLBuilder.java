@@ -22,8 +22,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -63,8 +66,8 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        return super.buildInsertSQL(schemaName, dataRecord) + buildDuplicateUpdateSQL(dataRecord);
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        return super.buildInsertSQL(schemaName, dataRecord, rowCount) + buildDuplicateUpdateSQL(dataRecord);
     }
     
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
@@ -85,8 +88,23 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     }
     
     @Override
-    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
-        return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
+    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey,
+                                          final boolean hasLowerBound, final boolean hasUpperBound) {
+        // Every column is hashed separately, so values can not be shifted between adjacent columns, and NULL differs from any string
+        String columnChecksums = columnNames.stream().map(each -> String.format("IFNULL(CRC32(%s),-1)", quote(each))).collect(Collectors.joining(","));
+        String sql = String.format("SELECT BIT_XOR(CAST(CRC32(CONCAT_WS('#',%s)) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnChecksums, getQualifiedTableName(schemaName, tableName));
+        if (null == uniqueKey || !hasLowerBound && !hasUpperBound) {
+            return Optional.of(sql);
+        }
+        String quotedUniqueKey = quote(uniqueKey);
+        Collection<String> conditions = new LinkedList<>();
+        if (hasLowerBound) {
+            conditions.add(String.format("%s>?", quotedUniqueKey));
+        }
+        if (hasUpperBound) {
+            conditions.add(String.format("%s<=?", quotedUniqueKey));
+        }
+        return Optional.of(String.format("%s WHERE %s", sql, String.join(" AND ", conditions)));
     }
     
     @Override
@@ -95,6 +113,18 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
                 getQualifiedTableName(schemaName, tableName)));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyBoundarySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s>=? ORDER BY %s ASC LIMIT ?, 1", quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
+    @Override
+    public Optional<String> buildUniqueKeyRangeRowsEstimateSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("EXPLAIN SELECT %s FROM %s WHERE %s>=? AND %s<=?", quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
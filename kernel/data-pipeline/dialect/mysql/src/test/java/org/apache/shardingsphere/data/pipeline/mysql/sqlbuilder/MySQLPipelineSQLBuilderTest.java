@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -44,11 +45,45 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(null, mockDataRecord("t1"), 3);
+        assertThat(actual, is("INSERT INTO t1(id,sc,c1,c2,c3) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+    }
+    
+    @Test
+    public void assertBuildUniqueKeyBoundarySQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyBoundarySQL(null, "t_order", "order_id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT order_id FROM t_order WHERE order_id>=? ORDER BY order_id ASC LIMIT ?, 1"));
+    }
+    
+    @Test
+    public void assertBuildUniqueKeyRangeRowsEstimateSQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyRangeRowsEstimateSQL(null, "t_order", "order_id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("EXPLAIN SELECT order_id FROM t_order WHERE order_id>=? AND order_id<=?"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
-        Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", "id");
+        Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", Arrays.asList("id", "c1"), null, false, false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(CONCAT_WS('#',IFNULL(CRC32(id),-1),IFNULL(CRC32(c1),-1))) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
+    }
+    
+    @Test
+    public void assertBuildRangedCrc32SQL() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", Arrays.asList("id", "c1"), "id", true, true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(CONCAT_WS('#',IFNULL(CRC32(id),-1),IFNULL(CRC32(c1),-1))) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2 WHERE id>? AND id<=?"));
+    }
+    
+    @Test
+    public void assertBuildUpperBoundedCrc32SQL() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", Arrays.asList("id", "c1"), "id", false, true);
         assertTrue(actual.isPresent());
-        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(CONCAT_WS('#',IFNULL(CRC32(id),-1),IFNULL(CRC32(c1),-1))) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2 WHERE id<=?"));
     }
     
     private DataRecord mockDataRecord(final String tableName) {
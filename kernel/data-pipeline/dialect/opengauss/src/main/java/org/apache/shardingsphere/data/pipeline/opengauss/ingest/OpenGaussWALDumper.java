@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExe
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.dumper.IncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
@@ -44,6 +45,7 @@ import org.opengauss.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -124,10 +126,14 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
         }
         if (event instanceof CommitTXEvent) {
             Long csn = ((CommitTXEvent) event).getCsn();
+            List<Record> records = new ArrayList<>(rowEvents.size() + 1);
             for (AbstractRowEvent each : rowEvents) {
                 each.setCsn(csn);
-                channel.pushRecord(walEventConverter.convert(each));
+                records.add(walEventConverter.convert(each));
             }
+            records.add(walEventConverter.convert(event));
+            channel.pushRecords(records);
+            return;
         }
         channel.pushRecord(walEventConverter.convert(event));
     }
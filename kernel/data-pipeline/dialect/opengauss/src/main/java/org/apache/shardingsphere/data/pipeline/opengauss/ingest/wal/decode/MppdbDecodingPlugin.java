@@ -139,6 +139,9 @@ public final class MppdbDecodingPlugin implements DecodingPlugin {
     
     private AbstractRowEvent readUpdateRowEvent(final MppTableData data) {
         UpdateRowEvent result = new UpdateRowEvent();
+        if (null != data.getOldKeysType()) {
+            result.setBeforePrimaryKeys(getDeleteColumnDataFromMppDataEvent(data));
+        }
         result.setAfterRow(getColumnDataFromMppDataEvent(data));
         return result;
     }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -65,8 +66,8 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
     }
     
     @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        return super.buildInsertSQL(schemaName, dataRecord) + buildConflictSQL(dataRecord);
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        return super.buildInsertSQL(schemaName, dataRecord, rowCount) + buildConflictSQL(dataRecord);
     }
     
     @Override
@@ -93,6 +94,13 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeySampleSQL(final String schemaName, final String tableName, final String uniqueKey, final double samplePercent) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT %s FROM %s TABLESAMPLE SYSTEM (%s) ORDER BY %s ASC",
+                quotedUniqueKey, getQualifiedTableName(schemaName, tableName), BigDecimal.valueOf(samplePercent).toPlainString(), quotedUniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "openGauss";
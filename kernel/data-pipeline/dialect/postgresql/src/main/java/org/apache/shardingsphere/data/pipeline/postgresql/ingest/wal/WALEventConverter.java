@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderReco
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
@@ -36,7 +37,10 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.Updat
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * WAL event converter.
@@ -96,7 +100,7 @@ public final class WALEventConverter {
     private DataRecord handleWriteRowsEvent(final WriteRowEvent writeRowEvent) {
         DataRecord result = createDataRecord(writeRowEvent, writeRowEvent.getAfterRow().size());
         result.setType(IngestDataChangeType.INSERT);
-        putColumnsIntoDataRecord(result, getPipelineTableMetaData(writeRowEvent.getTableName()), writeRowEvent.getAfterRow());
+        putColumnsIntoDataRecord(result, getPipelineTableMetaData(writeRowEvent.getTableName()), writeRowEvent.getAfterRow(), Collections.emptyMap());
         return result;
     }
     
@@ -107,7 +111,29 @@ public final class WALEventConverter {
     private DataRecord handleUpdateRowsEvent(final UpdateRowEvent updateRowEvent) {
         DataRecord result = createDataRecord(updateRowEvent, updateRowEvent.getAfterRow().size());
         result.setType(IngestDataChangeType.UPDATE);
-        putColumnsIntoDataRecord(result, getPipelineTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow());
+        PipelineTableMetaData tableMetaData = getPipelineTableMetaData(updateRowEvent.getTableName());
+        putColumnsIntoDataRecord(result, tableMetaData, updateRowEvent.getAfterRow(), getBeforePrimaryKeyValues(tableMetaData, updateRowEvent));
+        return result;
+    }
+    
+    private Map<String, Object> getBeforePrimaryKeyValues(final PipelineTableMetaData tableMetaData, final UpdateRowEvent updateRowEvent) {
+        List<Object> beforePrimaryKeys = updateRowEvent.getBeforePrimaryKeys();
+        if (null == beforePrimaryKeys || beforePrimaryKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> result = new HashMap<>();
+        if (beforePrimaryKeys.size() == updateRowEvent.getAfterRow().size()) {
+            for (int i = 0; i < beforePrimaryKeys.size(); i++) {
+                if (tableMetaData.getColumnMetaData(i + 1).isPrimaryKey()) {
+                    result.put(tableMetaData.getColumnMetaData(i + 1).getName(), beforePrimaryKeys.get(i));
+                }
+            }
+            return result;
+        }
+        List<String> primaryKeyColumns = tableMetaData.getPrimaryKeyColumns();
+        for (int i = 0; i < Math.min(primaryKeyColumns.size(), beforePrimaryKeys.size()); i++) {
+            result.put(primaryKeyColumns.get(i), beforePrimaryKeys.get(i));
+        }
         return result;
     }
     
@@ -118,7 +144,7 @@ public final class WALEventConverter {
         // TODO Unique key may be a column within unique index
         List<String> primaryKeyColumns = getPipelineTableMetaData(event.getTableName()).getPrimaryKeyColumns();
         for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            result.addColumn(new Column(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), true, true));
+            result.addColumn(new Column(primaryKeyColumns.get(i), null, event.getPrimaryKeys().get(i), true, true, true));
         }
         return result;
     }
@@ -130,11 +156,12 @@ public final class WALEventConverter {
         return result;
     }
     
-    private void putColumnsIntoDataRecord(final DataRecord dataRecord, final PipelineTableMetaData tableMetaData, final List<Object> values) {
+    private void putColumnsIntoDataRecord(final DataRecord dataRecord, final PipelineTableMetaData tableMetaData, final List<Object> values, final Map<String, Object> beforePrimaryKeyValues) {
         for (int i = 0, count = values.size(); i < count; i++) {
-            boolean isUniqueKey = tableMetaData.getColumnMetaData(i + 1).isUniqueKey();
-            Object uniqueKeyOldValue = isUniqueKey ? values.get(i) : null;
-            Column column = new Column(tableMetaData.getColumnMetaData(i + 1).getName(), uniqueKeyOldValue, values.get(i), true, isUniqueKey);
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
+            boolean isUniqueKey = columnMetaData.isUniqueKey();
+            Object uniqueKeyOldValue = isUniqueKey ? beforePrimaryKeyValues.getOrDefault(columnMetaData.getName(), values.get(i)) : null;
+            Column column = new Column(columnMetaData.getName(), uniqueKeyOldValue, values.get(i), true, isUniqueKey, columnMetaData.isPrimaryKey());
             dataRecord.addColumn(column);
         }
     }
@@ -89,6 +89,13 @@ public final class TestDecodingPlugin implements DecodingPlugin {
     
     private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
         UpdateRowEvent result = new UpdateRowEvent();
+        if (readExpectedSegment(data, "old-key:")) {
+            List<Object> beforePrimaryKeys = new LinkedList<>();
+            while (data.hasRemaining() && !readExpectedSegment(data, "new-tuple:")) {
+                beforePrimaryKeys.add(readColumn(data));
+            }
+            result.setBeforePrimaryKeys(beforePrimaryKeys);
+        }
         List<Object> afterColumns = new LinkedList<>();
         while (data.hasRemaining()) {
             afterColumns.add(readColumn(data));
@@ -199,6 +206,15 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         }
     }
     
+    private boolean readExpectedSegment(final ByteBuffer data, final String expectedSegment) {
+        data.mark();
+        if (expectedSegment.equals(readNextSegment(data))) {
+            return true;
+        }
+        data.reset();
+        return false;
+    }
+    
     private String readNextSegment(final ByteBuffer data) {
         StringBuilder eventType = new StringBuilder();
         while (data.hasRemaining()) {
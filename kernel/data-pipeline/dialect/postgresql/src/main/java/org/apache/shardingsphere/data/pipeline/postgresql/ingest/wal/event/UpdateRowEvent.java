@@ -31,5 +31,7 @@ import java.util.List;
 @ToString(callSuper = true)
 public final class UpdateRowEvent extends AbstractRowEvent {
     
+    private List<Object> beforePrimaryKeys;
+    
     private List<Object> afterRow;
 }
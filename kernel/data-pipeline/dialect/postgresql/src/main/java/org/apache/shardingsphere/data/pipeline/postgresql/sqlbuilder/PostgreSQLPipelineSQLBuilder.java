@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -62,8 +63,8 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
     }
     
     @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        String result = super.buildInsertSQL(schemaName, dataRecord);
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        String result = super.buildInsertSQL(schemaName, dataRecord, rowCount);
         // TODO without unique key, job has been interrupted, which may lead to data duplication
         if (dataRecord.getUniqueKeyValue().isEmpty()) {
             return result;
@@ -96,6 +97,13 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeySampleSQL(final String schemaName, final String tableName, final String uniqueKey, final double samplePercent) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT %s FROM %s TABLESAMPLE SYSTEM (%s) ORDER BY %s ASC",
+                quotedUniqueKey, getQualifiedTableName(schemaName, tableName), BigDecimal.valueOf(samplePercent).toPlainString(), quotedUniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
@@ -53,6 +53,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -129,6 +130,18 @@ public final class WALEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(IngestDataChangeType.UPDATE));
     }
     
+    @Test
+    public void assertConvertUpdateRowEventWithBeforePrimaryKeys() {
+        UpdateRowEvent updateRowEvent = (UpdateRowEvent) mockUpdateRowEvent();
+        updateRowEvent.setBeforePrimaryKeys(Collections.singletonList(1));
+        updateRowEvent.setAfterRow(Arrays.asList(2, "user_id"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(updateRowEvent);
+        assertThat(actual.getColumn(0).getOldValue(), is(1));
+        assertThat(actual.getColumn(0).getValue(), is(2));
+        assertTrue(actual.getColumn(0).isPrimaryKey());
+        assertThat(actual.getOldPartitionKey(), not(actual.getPartitionKey()));
+    }
+    
     @Test
     public void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
@@ -30,6 +30,8 @@ import org.postgresql.replication.LogSequenceNumber;
 
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -69,6 +71,14 @@ public final class TestDecodingPluginTest {
         assertThat(actual.getAfterRow().get(2), is("{\"test\":\"中中{中中}' 中\"}"));
     }
     
+    @Test
+    public void assertDecodeUpdateRowEventWithOldKey() {
+        ByteBuffer data = ByteBuffer.wrap("table public.test: UPDATE: old-key: id[integer]:1 new-tuple: id[integer]:2 name[character varying]:'foo'".getBytes());
+        UpdateRowEvent actual = (UpdateRowEvent) new TestDecodingPlugin(null).decode(data, logSequenceNumber);
+        assertThat(actual.getBeforePrimaryKeys(), is(Collections.singletonList(1)));
+        assertThat(actual.getAfterRow(), is(Arrays.asList(2, "foo")));
+    }
+    
     @Test
     public void assertDecodeDeleteRowEvent() {
         ByteBuffer data = ByteBuffer.wrap("table public.test: DELETE: data[integer]:1".getBytes());
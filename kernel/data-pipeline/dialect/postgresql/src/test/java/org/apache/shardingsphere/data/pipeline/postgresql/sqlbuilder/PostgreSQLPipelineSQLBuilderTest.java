@@ -41,6 +41,13 @@ public final class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL("schema1", mockDataRecord(), 2);
+        assertThat(actual, is("INSERT INTO schema1.t_order(order_id,user_id,status) VALUES(?,?,?),(?,?,?) ON CONFLICT (order_id)"
+                + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
@@ -61,6 +68,13 @@ public final class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actualDropSQL, is(expectedDropSQL));
     }
     
+    @Test
+    public void assertBuildUniqueKeySampleSQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeySampleSQL("schema1", "t_order", "order_id", 0.0001D);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT order_id FROM schema1.t_order TABLESAMPLE SYSTEM (0.0001) ORDER BY order_id ASC"));
+    }
+    
     @Test
     public void assertBuilderDropSQLWithoutKeyword() {
         String actualDropSQL = sqlBuilder.buildDropSQL("test_normal", "t_order");
@@ -37,11 +37,14 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final boolean sqlParameterizedCacheEnabled;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        sqlParameterizedCacheEnabled = ruleConfig.isSqlParameterizedCacheEnabled();
     }
     
     /**
@@ -51,7 +54,7 @@ public final class SQLParserRule implements GlobalRule {
      * @return SQL parser engine
      */
     public ShardingSphereSQLParserEngine getSQLParserEngine(final String databaseType) {
-        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled);
+        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled, sqlParameterizedCacheEnabled);
     }
     
     @Override
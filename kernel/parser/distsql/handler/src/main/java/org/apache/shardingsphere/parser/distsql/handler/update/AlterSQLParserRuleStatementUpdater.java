@@ -40,7 +40,9 @@ public final class AlterSQLParserRuleStatementUpdater implements GlobalRuleRALUp
         CacheOption sqlStatementCache =
                 null == sqlStatement.getSqlStatementCache() ? currentRuleConfig.getSqlStatementCache()
                         : createCacheOption(currentRuleConfig.getSqlStatementCache(), sqlStatement.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache);
+        boolean sqlParameterizedCacheEnabled =
+                null == sqlStatement.getSqlParameterizedCacheEnable() ? currentRuleConfig.isSqlParameterizedCacheEnabled() : sqlStatement.getSqlParameterizedCacheEnable();
+        return new SQLParserRuleConfiguration(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache, sqlParameterizedCacheEnabled);
     }
     
     private CacheOption createCacheOption(final CacheOption cacheOption, final CacheOptionSegment segment) {
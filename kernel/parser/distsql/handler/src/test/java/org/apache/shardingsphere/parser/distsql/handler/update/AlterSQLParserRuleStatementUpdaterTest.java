@@ -32,13 +32,23 @@ public final class AlterSQLParserRuleStatementUpdaterTest {
     @Test
     public void assertExecute() {
         AlterSQLParserRuleStatementUpdater updater = new AlterSQLParserRuleStatementUpdater();
-        AlterSQLParserRuleStatement sqlStatement = new AlterSQLParserRuleStatement(true, new CacheOptionSegment(64, 512L), new CacheOptionSegment(1000, 1000L));
+        AlterSQLParserRuleStatement sqlStatement = new AlterSQLParserRuleStatement(true, new CacheOptionSegment(64, 512L), new CacheOptionSegment(1000, 1000L), true);
         SQLParserRuleConfiguration actual = updater.buildAlteredRuleConfiguration(getSQLParserRuleConfiguration(), sqlStatement);
         assertTrue(actual.isSqlCommentParseEnabled());
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(1000));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(1000L));
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(64));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(512L));
+        assertTrue(actual.isSqlParameterizedCacheEnabled());
+    }
+    
+    @Test
+    public void assertExecuteWithoutSQLParameterizedCacheEnable() {
+        AlterSQLParserRuleStatementUpdater updater = new AlterSQLParserRuleStatementUpdater();
+        AlterSQLParserRuleStatement sqlStatement = new AlterSQLParserRuleStatement(true, null, null, null);
+        SQLParserRuleConfiguration currentRuleConfig = getSQLParserRuleConfiguration();
+        SQLParserRuleConfiguration actual = updater.buildAlteredRuleConfiguration(currentRuleConfig, sqlStatement);
+        assertThat(actual.isSqlParameterizedCacheEnabled(), is(currentRuleConfig.isSqlParameterizedCacheEnabled()));
     }
     
     private SQLParserRuleConfiguration getSQLParserRuleConfiguration() {
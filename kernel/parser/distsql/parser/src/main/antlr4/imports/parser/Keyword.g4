@@ -59,6 +59,10 @@ MAXIMUM_SIZE
     : M A X I M U M UL_ S I Z E
     ;
 
+SQL_PARAMETERIZED_CACHE_ENABLE
+    : S Q L UL_ P A R A M E T E R I Z E D UL_ C A C H E UL_ E N A B L E
+    ;
+
 CONCURRENCY_LEVEL
     : C O N C U R R E N C Y UL_ L E V E L
     ;
@@ -28,13 +28,17 @@ alterSQLParserRule
     ;
 
 sqlParserRuleDefinition
-    : SQL_COMMENT_PARSE_ENABLE EQ_ sqlCommentParseEnable (COMMA_ PARSE_TREE_CACHE LP_ parseTreeCache RP_)? (COMMA_ SQL_STATEMENT_CACHE LP_ sqlStatementCache RP_)?
+    : SQL_COMMENT_PARSE_ENABLE EQ_ sqlCommentParseEnable (COMMA_ PARSE_TREE_CACHE LP_ parseTreeCache RP_)? (COMMA_ SQL_STATEMENT_CACHE LP_ sqlStatementCache RP_)? (COMMA_ SQL_PARAMETERIZED_CACHE_ENABLE EQ_ sqlParameterizedCacheEnable)?
     ;
 
 sqlCommentParseEnable
     : TRUE | FALSE
     ;
 
+sqlParameterizedCacheEnable
+    : TRUE | FALSE
+    ;
+
 parseTreeCache
     : cacheOption
     ;
@@ -50,7 +50,8 @@ public final class SQLParserDistSQLStatementVisitor extends SQLParserDistSQLStat
         Boolean sqlCommentParseEnable = null == ctx.sqlCommentParseEnable() ? null : Boolean.parseBoolean(getIdentifierValue(ctx.sqlCommentParseEnable()));
         CacheOptionSegment parseTreeCache = null == ctx.parseTreeCache() ? null : visitCacheOption(ctx.parseTreeCache().cacheOption());
         CacheOptionSegment sqlStatementCache = null == ctx.sqlStatementCache() ? null : visitCacheOption(ctx.sqlStatementCache().cacheOption());
-        return new AlterSQLParserRuleStatement(sqlCommentParseEnable, parseTreeCache, sqlStatementCache);
+        Boolean sqlParameterizedCacheEnable = null == ctx.sqlParameterizedCacheEnable() ? null : Boolean.parseBoolean(getIdentifierValue(ctx.sqlParameterizedCacheEnable()));
+        return new AlterSQLParserRuleStatement(sqlCommentParseEnable, parseTreeCache, sqlStatementCache, sqlParameterizedCacheEnable);
     }
     
     @Override
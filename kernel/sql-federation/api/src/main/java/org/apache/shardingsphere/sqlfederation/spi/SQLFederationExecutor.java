@@ -66,6 +66,20 @@ public interface SQLFederationExecutor extends TypedSPI, AutoCloseable {
      */
     ResultSet getResultSet() throws SQLException;
     
+    /**
+     * Invalidate cached plans of database.
+     *
+     * @param databaseName database name
+     */
+    void invalidatePlanCache(String databaseName);
+    
+    /**
+     * Get plan cache statistics.
+     *
+     * @return plan cache statistics
+     */
+    SQLFederationPlanCacheStatistics getPlanCacheStatistics();
+    
     @Override
     void close() throws SQLException;
 }
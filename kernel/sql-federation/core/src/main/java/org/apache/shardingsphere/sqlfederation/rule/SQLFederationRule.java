@@ -23,16 +23,19 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MetaDataHeldRule;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sqlfederation.api.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.enums.SQLFederationTypeEnum;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationPlanCacheStatistics;
 
 /**
  * SQL federation rule.
  */
-public final class SQLFederationRule implements GlobalRule {
+public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule {
     
     @Getter
     private final SQLFederationRuleConfiguration configuration;
@@ -66,6 +69,25 @@ public final class SQLFederationRule implements GlobalRule {
         return sqlFederationExecutor;
     }
     
+    /**
+     * Get plan cache statistics.
+     *
+     * @return plan cache statistics
+     */
+    public SQLFederationPlanCacheStatistics getPlanCacheStatistics() {
+        return sqlFederationExecutor.getPlanCacheStatistics();
+    }
+    
+    @Override
+    public void alterDatabase(final ShardingSphereDatabase database) {
+        sqlFederationExecutor.invalidatePlanCache(database.getName());
+    }
+    
+    @Override
+    public void dropDatabase(final String databaseName) {
+        sqlFederationExecutor.invalidatePlanCache(databaseName);
+    }
+    
     @Override
     public String getType() {
         return SQLFederationRule.class.getSimpleName();
@@ -46,6 +46,8 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sqlfederation.SQLFederationDataContext;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationExecutionPlan;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCache;
 import org.apache.shardingsphere.sqlfederation.advanced.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.executor.FilterableTableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
@@ -56,9 +58,11 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContex
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationStatisticBuilder;
 import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlannerUtil;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationPlanCacheStatistics;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -75,6 +79,8 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
     
     private static final JavaTypeFactory JAVA_TYPE_FACTORY = new JavaTypeFactoryImpl();
     
+    private final SQLFederationPlanCache planCache = new SQLFederationPlanCache();
+    
     private String databaseName;
     
     private String schemaName;
@@ -111,7 +117,7 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         ShardingSphereSchema schema = database.getSchema(schemaName);
         AbstractSchema sqlFederationSchema = createSQLFederationSchema(prepareEngine, database.getProtocolType(), schema, callback, federationContext);
         Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
-        resultSet = execute((SelectStatementContext) sqlStatementContext, schema, sqlFederationSchema, params);
+        resultSet = execute((SelectStatementContext) sqlStatementContext, federationContext.getQueryContext().getSql(), schema, sqlFederationSchema, params);
         return resultSet;
     }
     
@@ -131,22 +137,28 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         // TODO replace FilterableTableScanExecutor with TranslatableTableScanExecutor
         TableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, data);
         // TODO replace FilterableSchema with TranslatableSchema
-        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor);
+        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor, new FederationStatisticBuilder(databaseName, data));
     }
     
-    @SuppressWarnings("unchecked")
-    private ResultSet execute(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final AbstractSchema sqlFederationSchema, final Map<String, Object> params) {
+    private ResultSet execute(final SelectStatementContext selectStatementContext, final String sql, final ShardingSphereSchema schema, final AbstractSchema sqlFederationSchema,
+                              final Map<String, Object> params) {
         OptimizerParserContext parserContext = optimizerContext.getParserContext(databaseName);
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(parserContext.getDialectProps());
         CalciteCatalogReader catalogReader = SQLFederationPlannerUtil.createCatalogReader(schemaName, sqlFederationSchema, JAVA_TYPE_FACTORY, connectionConfig);
         SqlValidator validator = SQLFederationPlannerUtil.createSqlValidator(catalogReader, JAVA_TYPE_FACTORY, parserContext.getDatabaseType(), connectionConfig);
         SqlToRelConverter converter = SQLFederationPlannerUtil.createSqlToRelConverter(catalogReader, validator,
                 SQLFederationPlannerUtil.createRelOptCluster(JAVA_TYPE_FACTORY), optimizerContext.getSqlParserRule(), parserContext.getDatabaseType(), true);
+        SQLFederationExecutionPlan executionPlan = planCache.getPlan(databaseName, schemaName, sql, () -> createExecutionPlan(selectStatementContext, converter));
+        Enumerator<Object> enumerator = executionPlan.getExecutablePlan().bind(new SQLFederationDataContext(validator, converter, params)).enumerator();
+        return new SQLFederationResultSet(enumerator, schema, sqlFederationSchema, selectStatementContext, executionPlan.getOptimizeContext().getValidatedNodeType());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLFederationExecutionPlan createExecutionPlan(final SelectStatementContext selectStatementContext, final SqlToRelConverter converter) {
         RelOptPlanner hepPlanner = optimizerContext.getPlannerContext(databaseName).getHepPlanner();
         SQLOptimizeContext optimizeContext = new SQLOptimizeEngine(converter, hepPlanner).optimize(selectStatementContext.getSqlStatement());
         Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) optimizeContext.getBestPlan(), EnumerableRel.Prefer.ARRAY);
-        Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationDataContext(validator, converter, params)).enumerator();
-        return new SQLFederationResultSet(enumerator, schema, sqlFederationSchema, selectStatementContext, optimizeContext.getValidatedNodeType());
+        return new SQLFederationExecutionPlan(optimizeContext, executablePlan);
     }
     
     @Override
@@ -154,6 +166,16 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         return resultSet;
     }
     
+    @Override
+    public void invalidatePlanCache(final String databaseName) {
+        planCache.invalidate(databaseName);
+    }
+    
+    @Override
+    public SQLFederationPlanCacheStatistics getPlanCacheStatistics() {
+        return planCache.getStatistics();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != resultSet) {
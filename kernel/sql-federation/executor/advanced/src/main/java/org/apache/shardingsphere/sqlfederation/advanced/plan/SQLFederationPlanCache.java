@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationPlanCacheStatistics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SQL federation plan cache.
+ * 
+ * <p>
+ * Plans are keyed by SQL and meta data version of database, the version is increased when meta data of database is altered,
+ * so plans built with stale meta data will never be hit again.
+ * </p>
+ */
+public final class SQLFederationPlanCache {
+    
+    private static final int INITIAL_CAPACITY = 128;
+    
+    private static final long MAXIMUM_SIZE = 1024L;
+    
+    private final Cache<SQLFederationPlanCacheKey, SQLFederationExecutionPlan> plans;
+    
+    private final Map<String, AtomicLong> metaDataVersions = new ConcurrentHashMap<>();
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    public SQLFederationPlanCache() {
+        this(INITIAL_CAPACITY, MAXIMUM_SIZE);
+    }
+    
+    public SQLFederationPlanCache(final int initialCapacity, final long maximumSize) {
+        plans = Caffeine.newBuilder().softValues().initialCapacity(initialCapacity).maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get execution plan.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param planLoader plan loader to build execution plan when cache missed
+     * @return execution plan
+     */
+    public SQLFederationExecutionPlan getPlan(final String databaseName, final String schemaName, final String sql, final Supplier<SQLFederationExecutionPlan> planLoader) {
+        String lowerCaseDatabaseName = databaseName.toLowerCase();
+        SQLFederationPlanCacheKey key = new SQLFederationPlanCacheKey(lowerCaseDatabaseName, schemaName, getMetaDataVersion(lowerCaseDatabaseName).get(), sql);
+        SQLFederationExecutionPlan result = plans.getIfPresent(key);
+        if (null != result) {
+            hitCount.increment();
+            return result;
+        }
+        missCount.increment();
+        result = planLoader.get();
+        plans.put(key, result);
+        return result;
+    }
+    
+    private AtomicLong getMetaDataVersion(final String lowerCaseDatabaseName) {
+        return metaDataVersions.computeIfAbsent(lowerCaseDatabaseName, key -> new AtomicLong());
+    }
+    
+    /**
+     * Invalidate plans of database.
+     *
+     * @param databaseName database name
+     */
+    public void invalidate(final String databaseName) {
+        String lowerCaseDatabaseName = databaseName.toLowerCase();
+        getMetaDataVersion(lowerCaseDatabaseName).incrementAndGet();
+        plans.asMap().keySet().removeIf(each -> each.getDatabaseName().equals(lowerCaseDatabaseName));
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return plan cache statistics
+     */
+    public SQLFederationPlanCacheStatistics getStatistics() {
+        return new SQLFederationPlanCacheStatistics(plans.estimatedSize(), hitCount.sum(), missCount.sum());
+    }
+}
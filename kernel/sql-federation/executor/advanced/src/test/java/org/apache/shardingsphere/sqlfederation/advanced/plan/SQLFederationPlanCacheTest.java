@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationPlanCacheStatistics;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SQLFederationPlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ?";
+    
+    @Test
+    public void assertGetPlanWithCacheHit() {
+        SQLFederationPlanCache planCache = new SQLFederationPlanCache();
+        SQLFederationExecutionPlan expected = planCache.getPlan("foo_db", "foo_schema", SQL, () -> mock(SQLFederationExecutionPlan.class));
+        assertThat(planCache.getPlan("FOO_DB", "foo_schema", SQL, () -> mock(SQLFederationExecutionPlan.class)), sameInstance(expected));
+        assertStatistics(planCache.getStatistics(), 1L, 1L, 1L);
+    }
+    
+    @Test
+    public void assertGetPlanWithDifferentSchema() {
+        SQLFederationPlanCache planCache = new SQLFederationPlanCache();
+        SQLFederationExecutionPlan expected = planCache.getPlan("foo_db", "foo_schema", SQL, () -> mock(SQLFederationExecutionPlan.class));
+        assertThat(planCache.getPlan("foo_db", "bar_schema", SQL, () -> mock(SQLFederationExecutionPlan.class)), not(sameInstance(expected)));
+        assertStatistics(planCache.getStatistics(), 2L, 0L, 2L);
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        SQLFederationPlanCache planCache = new SQLFederationPlanCache();
+        SQLFederationExecutionPlan invalidated = planCache.getPlan("foo_db", "foo_schema", SQL, () -> mock(SQLFederationExecutionPlan.class));
+        SQLFederationExecutionPlan retained = planCache.getPlan("bar_db", "foo_schema", SQL, () -> mock(SQLFederationExecutionPlan.class));
+        planCache.invalidate("FOO_DB");
+        assertThat(planCache.getPlan("foo_db", "foo_schema", SQL, () -> mock(SQLFederationExecutionPlan.class)), not(sameInstance(invalidated)));
+        assertThat(planCache.getPlan("bar_db", "foo_schema", SQL, () -> mock(SQLFederationExecutionPlan.class)), sameInstance(retained));
+        assertStatistics(planCache.getStatistics(), 2L, 1L, 3L);
+    }
+    
+    private void assertStatistics(final SQLFederationPlanCacheStatistics actual, final long expectedSize, final long expectedHitCount, final long expectedMissCount) {
+        assertThat(actual.getSize(), is(expectedSize));
+        assertThat(actual.getHitCount(), is(expectedHitCount));
+        assertThat(actual.getMissCount(), is(expectedMissCount));
+    }
+}
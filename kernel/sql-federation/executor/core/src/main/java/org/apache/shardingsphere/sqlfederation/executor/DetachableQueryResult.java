@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectQueryResultDataRowLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Detachable query result.
+ *
+ * <p>Rows are streamed from storage unit until detached. Detaching loads current and remaining rows into memory, so the connection can execute another scan.</p>
+ */
+public final class DetachableQueryResult implements QueryResult {
+    
+    private final JDBCStreamQueryResult streamQueryResult;
+    
+    private final DatabaseType databaseType;
+    
+    private QueryResult delegate;
+    
+    private boolean positioned;
+    
+    public DetachableQueryResult(final JDBCStreamQueryResult streamQueryResult, final DatabaseType databaseType) {
+        this.streamQueryResult = streamQueryResult;
+        this.databaseType = databaseType;
+        delegate = streamQueryResult;
+    }
+    
+    /**
+     * Load current and remaining rows into memory.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void detach() throws SQLException {
+        ResultSet resultSet = streamQueryResult.getResultSet();
+        if (delegate != streamQueryResult || resultSet.isClosed()) {
+            return;
+        }
+        int columnCount = streamQueryResult.getMetaData().getColumnCount();
+        Collection<MemoryQueryResultDataRow> rows = new LinkedList<>();
+        if (positioned) {
+            rows.add(loadCurrentRow(columnCount));
+        }
+        rows.addAll(TypedSPILoader.getService(DialectQueryResultDataRowLoader.class, databaseType.getType()).load(columnCount, resultSet));
+        delegate = new DetachedQueryResult(streamQueryResult.getMetaData(), rows);
+        if (positioned) {
+            delegate.next();
+        }
+    }
+    
+    private MemoryQueryResultDataRow loadCurrentRow(final int columnCount) throws SQLException {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.add(streamQueryResult.getValue(i, Object.class));
+        }
+        return new MemoryQueryResultDataRow(result);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        positioned = delegate.next();
+        return positioned;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return delegate.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return delegate.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return delegate.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return delegate.wasNull();
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return streamQueryResult.getMetaData();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        streamQueryResult.close();
+    }
+    
+    private static final class DetachedQueryResult extends AbstractMemoryQueryResult {
+        
+        DetachedQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+            super(metaData, rows);
+        }
+    }
+}
@@ -31,6 +31,11 @@ import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.RelFactories;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
@@ -56,8 +61,6 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
@@ -85,6 +88,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlann
 import org.apache.shardingsphere.sqlfederation.row.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.row.MemoryEnumerator;
 import org.apache.shardingsphere.sqlfederation.row.SQLFederationRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.row.SQLFederationScanResult;
+import org.apache.shardingsphere.sqlfederation.row.SortedRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 
 import java.sql.Connection;
@@ -126,6 +131,8 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
     
     private final ShardingSphereData data;
     
+    private final Collection<DetachableQueryResult> streamQueryResults = new LinkedList<>();
+    
     @Override
     public Enumerable<Object> executeScalar(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
         String databaseName = executorContext.getDatabaseName().toLowerCase();
@@ -144,7 +151,7 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         if (databaseType.getSystemSchemas().contains(schemaName)) {
             return executeByScalarShardingSphereData(databaseName, schemaName, table);
         }
-        return executeScalarEnumerable(databaseType, queryContext, database, context);
+        return createScalarEnumerable(databaseType, queryContext, database, context, ((TranslatableScanNodeExecutorContext) scanContext).getSortKeys());
     }
     
     private AbstractEnumerable<Object> createEmptyScalarEnumerable() {
@@ -173,47 +180,18 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         };
     }
     
-    private AbstractEnumerable<Object> executeScalarEnumerable(final DatabaseType databaseType, final QueryContext queryContext,
-                                                               final ShardingSphereDatabase database, final ExecutionContext context) {
-        ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
-        try {
-            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
-                    prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
-            setParameters(executionGroupContext.getInputGroups());
-            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext());
-            List<QueryResult> queryResults = execute(executionGroupContext, databaseType);
-            MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
-            MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createScalarEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements);
-        } catch (final SQLException ex) {
-            throw new SQLWrapperException(ex);
-        } finally {
-            executeProcessEngine.cleanExecution();
-        }
-    }
-    
-    private AbstractEnumerable<Object> createScalarEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) throws SQLException {
-        // TODO remove getRows when mergedResult support JDBC first method
-        Collection<Object> rows = getScalarRows(mergedResult, metaData);
+    private AbstractEnumerable<Object> createScalarEnumerable(final DatabaseType databaseType, final QueryContext queryContext,
+                                                              final ShardingSphereDatabase database, final ExecutionContext context, final int[] sortKeys) {
         return new AbstractEnumerable<Object>() {
             
             @Override
             public Enumerator<Object> enumerator() {
-                return new SQLFederationRowEnumerator<>(rows, statements);
+                Enumerator<Object> result = new SQLFederationRowEnumerator<>(() -> execute(databaseType, queryContext, database, context), true);
+                return isSorted(sortKeys) ? new SortedRowEnumerator<>(result, sortKeys, true) : result;
             }
         };
     }
     
-    private Collection<Object> getScalarRows(final MergedResult mergedResult, final QueryResultMetaData metaData) throws SQLException {
-        Collection<Object> result = new LinkedList<>();
-        while (mergedResult.next()) {
-            Object currentRow = mergedResult.getValue(1, Object.class);
-            result.add(currentRow);
-        }
-        return result;
-    }
-    
     @Override
     public Enumerable<Object[]> execute(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
         String databaseName = executorContext.getDatabaseName().toLowerCase();
@@ -232,12 +210,13 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         if (databaseType.getSystemSchemas().contains(schemaName)) {
             return executeByShardingSphereData(databaseName, schemaName, table);
         }
-        return execute(databaseType, queryContext, database, context);
+        return createEnumerable(databaseType, queryContext, database, context, ((TranslatableScanNodeExecutorContext) scanContext).getSortKeys());
     }
     
-    private AbstractEnumerable<Object[]> execute(final DatabaseType databaseType, final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+    private SQLFederationScanResult execute(final DatabaseType databaseType, final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
+            detachStreamQueryResults();
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
                     prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
             setParameters(executionGroupContext.getInputGroups());
@@ -246,7 +225,7 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
             MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
             MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
             Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements);
+            return new SQLFederationScanResult(mergedResult, queryResults.get(0).getMetaData(), statements);
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
         } finally {
@@ -258,14 +237,24 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         List<QueryResult> result = new LinkedList<>();
         for (QueryResult each : queryResults) {
-            QueryResult queryResult = each instanceof JDBCStreamQueryResult
-                    ? new JDBCMemoryQueryResult(((JDBCStreamQueryResult) each).getResultSet(), databaseType)
-                    : each;
-            result.add(queryResult);
+            if (each instanceof JDBCStreamQueryResult) {
+                DetachableQueryResult queryResult = new DetachableQueryResult((JDBCStreamQueryResult) each, databaseType);
+                streamQueryResults.add(queryResult);
+                result.add(queryResult);
+            } else {
+                result.add(each);
+            }
         }
         return result;
     }
     
+    private void detachStreamQueryResults() throws SQLException {
+        for (DetachableQueryResult each : streamQueryResults) {
+            each.detach();
+        }
+        streamQueryResults.clear();
+    }
+    
     private Enumerable<Object[]> executeByShardingSphereData(final String databaseName, final String schemaName, final ShardingSphereTable table) {
         Optional<ShardingSphereTableData> tableData = Optional.ofNullable(data.getDatabaseData().get(databaseName)).map(optional -> optional.getSchemaData().get(schemaName))
                 .map(ShardingSphereSchemaData::getTableData).map(shardingSphereData -> shardingSphereData.get(table.getName()));
@@ -329,9 +318,20 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         if (null != scanContext.getProjects()) {
             builder.project(createProjections(scanContext.getProjects(), builder, table.getColumnNames()));
         }
+        if (isSorted(scanContext.getSortKeys())) {
+            builder.sort(createCollation(scanContext.getSortKeys()));
+        }
         return builder.build();
     }
     
+    private RelCollation createCollation(final int[] sortKeys) {
+        List<RelFieldCollation> result = new ArrayList<>(sortKeys.length);
+        for (int each : sortKeys) {
+            result.add(new RelFieldCollation(each, Direction.ASCENDING, NullDirection.UNSPECIFIED));
+        }
+        return RelCollations.of(result);
+    }
+    
     private Collection<RexNode> createFilters(final String[] filterValues, final SQLFederationDataContext context) {
         Collection<RexNode> result = new LinkedList<>();
         JavaTypeFactory typeFactory = new JavaTypeFactoryImpl(RelDataTypeSystem.DEFAULT);
@@ -367,35 +367,27 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         return result;
     }
     
-    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) throws SQLException {
-        // TODO remove getRows when mergedResult support JDBC first method
-        Collection<Object[]> rows = getRows(mergedResult, metaData);
+    private AbstractEnumerable<Object[]> createEnumerable(final DatabaseType databaseType, final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context,
+                                                          final int[] sortKeys) {
         return new AbstractEnumerable<Object[]>() {
             
             @Override
             public Enumerator<Object[]> enumerator() {
-                return new SQLFederationRowEnumerator<>(rows, statements);
+                Enumerator<Object[]> result = new SQLFederationRowEnumerator<>(() -> execute(databaseType, queryContext, database, context), false);
+                return isSorted(sortKeys) ? new SortedRowEnumerator<>(result, sortKeys, false) : result;
             }
         };
     }
     
-    private Collection<Object[]> getRows(final MergedResult mergedResult, final QueryResultMetaData metaData) throws SQLException {
-        Collection<Object[]> result = new LinkedList<>();
-        while (mergedResult.next()) {
-            Object[] currentRow = new Object[metaData.getColumnCount()];
-            for (int i = 0; i < metaData.getColumnCount(); i++) {
-                currentRow[i] = mergedResult.getValue(i + 1, Object.class);
-            }
-            result.add(currentRow);
-        }
-        return result;
+    private boolean isSorted(final int[] sortKeys) {
+        return null != sortKeys && sortKeys.length > 0;
     }
     
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final SqlString sqlString, final DatabaseType databaseType) {
         String sql = sqlString.getSql().replace("\n", " ");
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getType(),
                 optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache(),
-                optimizerContext.getSqlParserRule().isSqlCommentParseEnabled()).parse(sql, false);
+                optimizerContext.getSqlParserRule().isSqlCommentParseEnabled(), optimizerContext.getSqlParserRule().isSqlParameterizedCacheEnabled()).parse(sql, false);
         List<Object> params = getParameters(sqlString.getDynamicParameters());
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, params, sqlStatement, executorContext.getDatabaseName());
         return new QueryContext(sqlStatementContext, sql, params);
@@ -22,26 +22,33 @@ import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.function.Supplier;
 
 /**
  * SQL federation row enumerator.
+ *
+ * <p>Scan is executed on first move, rows are pulled from merged result on demand, and statements are closed once enumeration is exhausted, reset or closed.
+ * Reset re-executes the scan, so the enumerator can be read more than once, e.g. as inner side of nested loop join.</p>
  */
 public final class SQLFederationRowEnumerator<T> implements Enumerator<T> {
     
-    private final Collection<T> rows;
+    private final Supplier<SQLFederationScanResult> scanExecutor;
+    
+    private final boolean scalar;
     
-    private final Collection<Statement> statements;
+    private SQLFederationScanResult scanResult;
     
-    private Iterator<T> iterator;
+    private int columnCount;
     
     private T currentRow;
     
-    public SQLFederationRowEnumerator(final Collection<T> rows, final Collection<Statement> statements) {
-        this.rows = rows;
-        this.statements = statements;
-        iterator = rows.iterator();
+    private boolean exhausted;
+    
+    private boolean closed;
+    
+    public SQLFederationRowEnumerator(final Supplier<SQLFederationScanResult> scanExecutor, final boolean scalar) {
+        this.scanExecutor = scanExecutor;
+        this.scalar = scalar;
     }
     
     @Override
@@ -51,29 +58,66 @@ public final class SQLFederationRowEnumerator<T> implements Enumerator<T> {
     
     @Override
     public boolean moveNext() {
-        if (iterator.hasNext()) {
-            currentRow = iterator.next();
-            return true;
+        if (closed || exhausted) {
+            return false;
+        }
+        try {
+            if (null == scanResult) {
+                scanResult = scanExecutor.get();
+                columnCount = scanResult.getMetaData().getColumnCount();
+            }
+            if (scanResult.getMergedResult().next()) {
+                currentRow = loadCurrentRow();
+                return true;
+            }
+        } catch (final SQLException ex) {
+            close();
+            throw new SQLWrapperException(ex);
         }
+        exhausted = true;
         currentRow = null;
-        iterator = rows.iterator();
+        closeScanResult();
         return false;
     }
     
+    @SuppressWarnings("unchecked")
+    private T loadCurrentRow() throws SQLException {
+        if (scalar) {
+            return (T) scanResult.getMergedResult().getValue(1, Object.class);
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = scanResult.getMergedResult().getValue(i + 1, Object.class);
+        }
+        return (T) result;
+    }
+    
     @Override
     public void reset() {
+        currentRow = null;
+        exhausted = false;
+        closeScanResult();
     }
     
     @Override
     public void close() {
+        currentRow = null;
+        closed = true;
+        closeScanResult();
+    }
+    
+    private void closeScanResult() {
+        if (null == scanResult) {
+            return;
+        }
         try {
-            for (Statement each : statements) {
+            for (Statement each : scanResult.getStatements()) {
                 each.close();
             }
-            currentRow = null;
-            iterator = rows.iterator();
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
+        } finally {
+            scanResult = null;
         }
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Sorted row enumerator.
+ *
+ * <p>
+ * Rows are sorted by storage units in ascending order, but storage units may put null values before non-null values.
+ * Rows with null sort key are deferred to the end of the group which has same preceding sort keys, so rows are sorted with nulls last as calcite expected.
+ * </p>
+ */
+public final class SortedRowEnumerator<T> implements Enumerator<T> {
+    
+    private final Enumerator<T> delegate;
+    
+    private final int[] sortKeys;
+    
+    private final boolean scalar;
+    
+    private final List<List<T>> deferredRows;
+    
+    private final Queue<T> pendingRows = new LinkedList<>();
+    
+    private T previousRow;
+    
+    private T currentRow;
+    
+    private boolean exhausted;
+    
+    public SortedRowEnumerator(final Enumerator<T> delegate, final int[] sortKeys, final boolean scalar) {
+        this.delegate = delegate;
+        this.sortKeys = sortKeys;
+        this.scalar = scalar;
+        deferredRows = new ArrayList<>(sortKeys.length);
+        for (int i = 0; i < sortKeys.length; i++) {
+            deferredRows.add(new ArrayList<>());
+        }
+    }
+    
+    @Override
+    public T current() {
+        return currentRow;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        while (pendingRows.isEmpty() && !exhausted) {
+            if (delegate.moveNext()) {
+                accept(delegate.current());
+            } else {
+                exhausted = true;
+                flushDeferredRows(0);
+            }
+        }
+        if (pendingRows.isEmpty()) {
+            currentRow = null;
+            return false;
+        }
+        currentRow = pendingRows.poll();
+        return true;
+    }
+    
+    private void accept(final T row) {
+        if (null != previousRow) {
+            flushDeferredRows(getFirstDifferentSortKeyLevel(previousRow, row) + 1);
+        }
+        previousRow = row;
+        int nullSortKeyLevel = getFirstNullSortKeyLevel(row);
+        if (nullSortKeyLevel < 0) {
+            pendingRows.add(row);
+        } else {
+            deferredRows.get(nullSortKeyLevel).add(row);
+        }
+    }
+    
+    private int getFirstDifferentSortKeyLevel(final T previous, final T current) {
+        for (int i = 0; i < sortKeys.length; i++) {
+            if (!Objects.equals(getSortKeyValue(previous, i), getSortKeyValue(current, i))) {
+                return i;
+            }
+        }
+        return sortKeys.length;
+    }
+    
+    private int getFirstNullSortKeyLevel(final T row) {
+        for (int i = 0; i < sortKeys.length; i++) {
+            if (null == getSortKeyValue(row, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private void flushDeferredRows(final int fromLevel) {
+        for (int level = sortKeys.length - 1; level >= fromLevel; level--) {
+            List<T> rows = deferredRows.get(level);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            rows.sort(createNullsLastComparator(level + 1));
+            pendingRows.addAll(rows);
+            rows.clear();
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<T> createNullsLastComparator(final int fromLevel) {
+        return (row1, row2) -> {
+            for (int i = fromLevel; i < sortKeys.length; i++) {
+                int result = Comparator.nullsLast(Comparator.<Comparable>naturalOrder()).compare((Comparable) getSortKeyValue(row1, i), (Comparable) getSortKeyValue(row2, i));
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+    
+    private Object getSortKeyValue(final T row, final int level) {
+        return scalar ? row : ((Object[]) row)[sortKeys[level]];
+    }
+    
+    @Override
+    public void reset() {
+        delegate.reset();
+        deferredRows.forEach(List::clear);
+        pendingRows.clear();
+        previousRow = null;
+        currentRow = null;
+        exhausted = false;
+    }
+    
+    @Override
+    public void close() {
+        currentRow = null;
+        delegate.close();
+    }
+}
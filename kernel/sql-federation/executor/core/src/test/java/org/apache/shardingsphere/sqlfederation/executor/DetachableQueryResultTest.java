@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DetachableQueryResultTest {
+    
+    @Test
+    public void assertDetachKeepsCurrentAndRemainingRows() throws SQLException {
+        ResultSet resultSet = createResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1);
+        when(resultSet.getInt(1)).thenReturn(2, 3);
+        DetachableQueryResult actual = new DetachableQueryResult(new JDBCStreamQueryResult(resultSet), createDatabaseType());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        actual.detach();
+        verify(resultSet, times(4)).next();
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertDetachBeforeIteration() throws SQLException {
+        ResultSet resultSet = createResultSet();
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt(1)).thenReturn(1);
+        DetachableQueryResult actual = new DetachableQueryResult(new JDBCStreamQueryResult(resultSet), createDatabaseType());
+        actual.detach();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertDetachWithClosedResultSet() throws SQLException {
+        ResultSet resultSet = createResultSet();
+        when(resultSet.isClosed()).thenReturn(true);
+        DetachableQueryResult actual = new DetachableQueryResult(new JDBCStreamQueryResult(resultSet), createDatabaseType());
+        actual.detach();
+        verify(resultSet, times(0)).next();
+    }
+    
+    private ResultSet createResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(metaData);
+        return result;
+    }
+    
+    private DatabaseType createDatabaseType() {
+        DatabaseType result = mock(DatabaseType.class);
+        when(result.getType()).thenReturn("MySQL");
+        return result;
+    }
+}
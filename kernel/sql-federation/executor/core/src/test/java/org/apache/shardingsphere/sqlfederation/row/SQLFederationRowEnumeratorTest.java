@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.EnumerableDefaults;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.JoinType;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLFederationRowEnumeratorTest {
+    
+    @Test
+    public void assertMoveNextPullsRowsOnDemand() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("foo", "bar");
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator<Object[]> enumerator = new SQLFederationRowEnumerator<>(() -> createScanResult(mergedResult, 2, statement), false);
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(new Object[]{1, "foo"}));
+        verify(mergedResult, times(1)).next();
+        verify(statement, never()).close();
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(new Object[]{2, "bar"}));
+        assertFalse(enumerator.moveNext());
+        assertThat(enumerator.current(), is(nullValue()));
+        verify(statement).close();
+        assertFalse(enumerator.moveNext());
+        enumerator.close();
+        verify(mergedResult, times(3)).next();
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertMoveNextWithScalarRow() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        SQLFederationRowEnumerator<Object> enumerator = new SQLFederationRowEnumerator<>(() -> createScanResult(mergedResult, 1), true);
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(1));
+        assertFalse(enumerator.moveNext());
+    }
+    
+    @Test
+    public void assertCloseBeforeExhausted() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator<Object[]> enumerator = new SQLFederationRowEnumerator<>(() -> createScanResult(mergedResult, 1, statement), false);
+        assertTrue(enumerator.moveNext());
+        enumerator.close();
+        verify(statement).close();
+        assertFalse(enumerator.moveNext());
+        verify(mergedResult, times(1)).next();
+    }
+    
+    @Test
+    public void assertResetReExecutesScan() throws SQLException {
+        AtomicInteger executeCount = new AtomicInteger();
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator<Object> enumerator = new SQLFederationRowEnumerator<>(() -> {
+            executeCount.incrementAndGet();
+            return createScanResult(createScalarMergedResult(10, 20), 1, statement);
+        }, true);
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(10));
+        enumerator.reset();
+        verify(statement).close();
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(10));
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(20));
+        assertFalse(enumerator.moveNext());
+        enumerator.reset();
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(10));
+        enumerator.close();
+        assertThat(executeCount.get(), is(3));
+        verify(statement, times(3)).close();
+    }
+    
+    @Test
+    public void assertReadInnerSideOfNestedLoopJoinRepeatedly() {
+        AtomicInteger executeCount = new AtomicInteger();
+        Enumerable<Object> inner = new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return new SQLFederationRowEnumerator<>(() -> {
+                    executeCount.incrementAndGet();
+                    return createScanResult(createScalarMergedResult(10, 20), 1);
+                }, true);
+            }
+        };
+        List<String> actual = EnumerableDefaults.nestedLoopJoin(Linq4j.asEnumerable(Arrays.<Object>asList(1, 2)), inner,
+                (outerRow, innerRow) -> true, (outerRow, innerRow) -> outerRow + "-" + innerRow, JoinType.INNER).toList();
+        assertThat(actual, is(Arrays.asList("1-10", "1-20", "2-10", "2-20")));
+        assertThat(executeCount.get(), is(2));
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private MergedResult createScalarMergedResult(final Object... values) {
+        MergedResult result = mock(MergedResult.class);
+        Iterator<Object> iterator = Arrays.asList(values).iterator();
+        AtomicReference<Object> current = new AtomicReference<>();
+        when(result.next()).thenAnswer(invocation -> {
+            current.set(iterator.hasNext() ? iterator.next() : null);
+            return null != current.get();
+        });
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> current.get());
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private SQLFederationScanResult createScanResult(final MergedResult mergedResult, final int columnCount, final Statement... statements) {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columnCount);
+        return new SQLFederationScanResult(mergedResult, metaData, 0 == statements.length ? Collections.emptyList() : Arrays.asList(statements));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SortedRowEnumeratorTest {
+    
+    @Test
+    public void assertMoveNextWithNullsFirstRows() {
+        List<Object[]> rows = Arrays.asList(new Object[]{null, 1}, new Object[]{1, null}, new Object[]{1, 2}, new Object[]{1, 3}, new Object[]{2, null}, new Object[]{2, 1});
+        List<Object[]> actual = collect(new SortedRowEnumerator<>(Linq4j.enumerator(rows), new int[]{0, 1}, false));
+        assertThat(actual.toArray(), is(new Object[]{new Object[]{1, 2}, new Object[]{1, 3}, new Object[]{1, null}, new Object[]{2, 1}, new Object[]{2, null}, new Object[]{null, 1}}));
+    }
+    
+    @Test
+    public void assertMoveNextWithNullsLastRows() {
+        List<Object[]> rows = Arrays.asList(new Object[]{1, 2}, new Object[]{1, null}, new Object[]{2, 1}, new Object[]{null, 1}, new Object[]{null, null});
+        List<Object[]> actual = collect(new SortedRowEnumerator<>(Linq4j.enumerator(rows), new int[]{0, 1}, false));
+        assertThat(actual.toArray(), is(new Object[]{new Object[]{1, 2}, new Object[]{1, null}, new Object[]{2, 1}, new Object[]{null, 1}, new Object[]{null, null}}));
+    }
+    
+    @Test
+    public void assertMoveNextWithScalarRows() {
+        List<Object> actual = collect(new SortedRowEnumerator<>(Linq4j.enumerator(Arrays.asList(null, null, 1, 2)), new int[]{0}, true));
+        assertThat(actual, is(Arrays.asList(1, 2, null, null)));
+    }
+    
+    private <T> List<T> collect(final Enumerator<T> enumerator) {
+        List<T> result = new LinkedList<>();
+        while (enumerator.moveNext()) {
+            result.add(enumerator.current());
+        }
+        return result;
+    }
+}
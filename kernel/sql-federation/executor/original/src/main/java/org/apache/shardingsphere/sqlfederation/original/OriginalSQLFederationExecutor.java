@@ -38,6 +38,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContex
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableDatabase;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationPlanCacheStatistics;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -136,6 +137,15 @@ public final class OriginalSQLFederationExecutor implements SQLFederationExecuto
         return statement.getResultSet();
     }
     
+    @Override
+    public void invalidatePlanCache(final String databaseName) {
+    }
+    
+    @Override
+    public SQLFederationPlanCacheStatistics getPlanCacheStatistics() {
+        return new SQLFederationPlanCacheStatistics(0L, 0L, 0L);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != statement && !statement.isClosed()) {
@@ -33,4 +33,6 @@ public final class TranslatableScanNodeExecutorContext implements ScanNodeExecut
     private final String[] filterValues;
     
     private final int[] projects;
+    
+    private final int[] sortKeys;
 }
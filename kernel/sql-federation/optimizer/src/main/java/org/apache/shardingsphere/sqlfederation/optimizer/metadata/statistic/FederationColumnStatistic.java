@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Column statistic of federation table.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class FederationColumnStatistic {
+    
+    private final double distinctCount;
+    
+    private final BigDecimal minValue;
+    
+    private final BigDecimal maxValue;
+    
+    /**
+     * Judge whether value range is known or not.
+     *
+     * @return whether value range is known or not
+     */
+    public boolean isRangeKnown() {
+        return null != minValue && null != maxValue && maxValue.compareTo(minValue) > 0;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.translatable.TranslatableTableScan;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Column origins metadata handler of bindable and translatable table scan, which maps projected columns back to table columns.
+ */
+public final class FederationRelMdColumnOrigins implements MetadataHandler<BuiltInMetadata.ColumnOrigin> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new FederationRelMdColumnOrigins(), BuiltInMetadata.ColumnOrigin.Handler.class);
+    
+    @Override
+    public MetadataDef<BuiltInMetadata.ColumnOrigin> getDef() {
+        return BuiltInMetadata.ColumnOrigin.DEF;
+    }
+    
+    /**
+     * Get column origins of bindable table scan.
+     *
+     * @param rel bindable table scan
+     * @param mq metadata query
+     * @param outputColumn output column index
+     * @return column origins
+     */
+    public Set<RelColumnOrigin> getColumnOrigins(final BindableTableScan rel, final RelMetadataQuery mq, final int outputColumn) {
+        return Collections.singleton(new RelColumnOrigin(rel.getTable(), FederationStatisticUtil.getTableColumnIndex(rel, outputColumn), false));
+    }
+    
+    /**
+     * Get column origins of translatable table scan.
+     *
+     * @param rel translatable table scan
+     * @param mq metadata query
+     * @param outputColumn output column index
+     * @return column origins
+     */
+    public Set<RelColumnOrigin> getColumnOrigins(final TranslatableTableScan rel, final RelMetadataQuery mq, final int outputColumn) {
+        return Collections.singleton(new RelColumnOrigin(rel.getTable(), FederationStatisticUtil.getTableColumnIndex(rel, outputColumn), false));
+    }
+}
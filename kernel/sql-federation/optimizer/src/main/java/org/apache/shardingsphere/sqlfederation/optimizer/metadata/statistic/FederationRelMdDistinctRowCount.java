@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.Optional;
+
+/**
+ * Distinct row count metadata handler, which estimates distinct row count of table scan with federation column statistic.
+ */
+public final class FederationRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new FederationRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class);
+    
+    @Override
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Optional<FederationStatistic> statistic = FederationStatisticUtil.findStatistic(rel.getTable());
+        if (!statistic.isPresent() || groupKey.isEmpty()) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+        double result = 1D;
+        for (int each : groupKey) {
+            Optional<FederationColumnStatistic> columnStatistic = statistic.get().findColumnStatistic(FederationStatisticUtil.getTableColumnIndex(rel, each));
+            if (!columnStatistic.isPresent()) {
+                return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+            }
+            result *= columnStatistic.get().getDistinctCount();
+        }
+        Double rowCount = mq.getRowCount(rel);
+        if (null != predicate && null != rowCount) {
+            rowCount *= FederationStatisticUtil.estimateSelectivity(statistic.get(), predicate, column -> FederationStatisticUtil.getTableColumnIndex(rel, column));
+        }
+        return null == rowCount ? result : Math.max(1D, Math.min(result, rowCount));
+    }
+}
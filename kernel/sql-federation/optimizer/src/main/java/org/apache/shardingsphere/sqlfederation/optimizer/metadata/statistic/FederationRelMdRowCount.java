@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMdRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Row count metadata handler, which estimates row count of table scan and equi join with federation statistic.
+ */
+public final class FederationRelMdRowCount extends RelMdRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new FederationRelMdRowCount(), BuiltInMetadata.RowCount.Handler.class);
+    
+    @Override
+    public Double getRowCount(final TableScan rel, final RelMetadataQuery mq) {
+        List<RexNode> filters = FederationStatisticUtil.getPushedDownFilters(rel);
+        Optional<FederationStatistic> statistic = FederationStatisticUtil.findStatistic(rel.getTable());
+        if (!statistic.isPresent() || null == statistic.get().getRowCount()) {
+            Double result = super.getRowCount(rel, mq);
+            return null == result || filters.isEmpty() ? result : Math.max(result * RelMdUtil.guessSelectivity(RexUtil.composeConjunction(rel.getCluster().getRexBuilder(), filters)), 1D);
+        }
+        double result = statistic.get().getRowCount();
+        if (!filters.isEmpty()) {
+            result *= FederationStatisticUtil.estimateSelectivity(statistic.get(), RexUtil.composeConjunction(rel.getCluster().getRexBuilder(), filters), IntUnaryOperator.identity());
+        }
+        return Math.max(result, 1D);
+    }
+    
+    @Override
+    public Double getRowCount(final Join rel, final RelMetadataQuery mq) {
+        JoinInfo joinInfo = rel.analyzeCondition();
+        if (!rel.getJoinType().projectsRight() || joinInfo.leftKeys.isEmpty()) {
+            return super.getRowCount(rel, mq);
+        }
+        Double leftRowCount = mq.getRowCount(rel.getLeft());
+        Double rightRowCount = mq.getRowCount(rel.getRight());
+        if (null == leftRowCount || null == rightRowCount) {
+            return super.getRowCount(rel, mq);
+        }
+        double maxDistinctCount = 0D;
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            Optional<Double> leftDistinctCount = findDistinctCount(rel.getLeft(), mq, joinInfo.leftKeys.get(i));
+            Optional<Double> rightDistinctCount = findDistinctCount(rel.getRight(), mq, joinInfo.rightKeys.get(i));
+            if (leftDistinctCount.isPresent() && rightDistinctCount.isPresent()) {
+                maxDistinctCount = Math.max(maxDistinctCount, Math.max(Math.min(leftDistinctCount.get(), leftRowCount), Math.min(rightDistinctCount.get(), rightRowCount)));
+            }
+        }
+        if (maxDistinctCount < 1D) {
+            return super.getRowCount(rel, mq);
+        }
+        double result = leftRowCount * rightRowCount / maxDistinctCount;
+        if (!joinInfo.isEqui()) {
+            result *= RelMdUtil.guessSelectivity(joinInfo.getRemaining(rel.getCluster().getRexBuilder()));
+        }
+        switch (rel.getJoinType()) {
+            case LEFT:
+                return Math.max(result, leftRowCount);
+            case RIGHT:
+                return Math.max(result, rightRowCount);
+            case FULL:
+                return Math.max(result, Math.max(leftRowCount, rightRowCount));
+            default:
+                return result;
+        }
+    }
+    
+    private Optional<Double> findDistinctCount(final RelNode input, final RelMetadataQuery mq, final int column) {
+        RelColumnOrigin columnOrigin = mq.getColumnOrigin(input, column);
+        if (null == columnOrigin || columnOrigin.isDerived()) {
+            return Optional.empty();
+        }
+        return FederationStatisticUtil.findStatistic(columnOrigin.getOriginTable())
+                .flatMap(optional -> optional.findColumnStatistic(columnOrigin.getOriginColumnOrdinal())).map(FederationColumnStatistic::getDistinctCount);
+    }
+}
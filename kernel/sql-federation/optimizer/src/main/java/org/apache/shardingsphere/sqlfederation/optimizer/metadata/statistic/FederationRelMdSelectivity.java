@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdSelectivity;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.Optional;
+
+/**
+ * Selectivity metadata handler, which estimates selectivity of predicate on table scan with federation column statistic.
+ */
+public final class FederationRelMdSelectivity extends RelMdSelectivity {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new FederationRelMdSelectivity(), BuiltInMetadata.Selectivity.Handler.class);
+    
+    @Override
+    public Double getSelectivity(final TableScan rel, final RelMetadataQuery mq, final RexNode predicate) {
+        Optional<FederationStatistic> statistic = FederationStatisticUtil.findStatistic(rel.getTable());
+        if (!statistic.isPresent() || null == predicate) {
+            return super.getSelectivity(rel, mq, predicate);
+        }
+        return FederationStatisticUtil.estimateSelectivity(statistic.get(), predicate, column -> FederationStatisticUtil.getTableColumnIndex(rel, column));
+    }
+}
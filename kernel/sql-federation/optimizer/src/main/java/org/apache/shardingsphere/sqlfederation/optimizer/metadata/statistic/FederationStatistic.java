@@ -17,20 +17,56 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Statistic of federation table.
  */
+@RequiredArgsConstructor
 public final class FederationStatistic implements Statistic {
     
+    private final Double rowCount;
+    
+    private final List<ImmutableBitSet> keys;
+    
+    private final Map<Integer, FederationColumnStatistic> columnStatistics;
+    
+    public FederationStatistic() {
+        this(null, Collections.emptyList(), Collections.emptyMap());
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -45,4 +81,14 @@ public final class FederationStatistic implements Statistic {
     public RelDistribution getDistribution() {
         return RelDistributionTraitDef.INSTANCE.getDefault();
     }
+    
+    /**
+     * Find column statistic.
+     *
+     * @param columnIndex column index of table
+     * @return column statistic
+     */
+    public Optional<FederationColumnStatistic> findColumnStatistic(final int columnIndex) {
+        return Optional.ofNullable(columnStatistics.get(columnIndex));
+    }
 }
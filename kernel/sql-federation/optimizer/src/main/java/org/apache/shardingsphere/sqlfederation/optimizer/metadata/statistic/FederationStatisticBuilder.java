@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Federation statistic builder.
+ *
+ * <p>Statistics are built from sharding table statistics and sharding column statistics collected into ShardingSphere data.</p>
+ */
+public final class FederationStatisticBuilder {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private static final int COLUMN_NAME_INDEX = 3;
+    
+    private static final int DISTINCT_COUNT_UPPER_BOUND_INDEX = 4;
+    
+    private static final int MIN_VALUE_INDEX = 5;
+    
+    private static final int MAX_VALUE_INDEX = 6;
+    
+    private final Map<String, Double> rowCounts = new HashMap<>();
+    
+    private final Map<String, Map<String, FederationColumnStatistic>> columnStatistics = new HashMap<>();
+    
+    public FederationStatisticBuilder(final String databaseName, final ShardingSphereData data) {
+        if (null == data) {
+            return;
+        }
+        for (ShardingSphereRowData each : getRows(data, databaseName, SHARDING_TABLE_STATISTICS)) {
+            if (isSameDatabase(databaseName, each)) {
+                getNumber(getValue(each, ROW_COUNT_INDEX)).ifPresent(optional -> rowCounts.merge(getLogicTableName(each), optional.doubleValue(), Double::sum));
+            }
+        }
+        for (ShardingSphereRowData each : getRows(data, databaseName, SHARDING_COLUMN_STATISTICS)) {
+            if (isSameDatabase(databaseName, each)) {
+                Optional<BigDecimal> distinctCount = getNumber(getValue(each, DISTINCT_COUNT_UPPER_BOUND_INDEX));
+                if (distinctCount.isPresent() && distinctCount.get().signum() > 0) {
+                    columnStatistics.computeIfAbsent(getLogicTableName(each), key -> new HashMap<>()).put(String.valueOf(getValue(each, COLUMN_NAME_INDEX)).toLowerCase(),
+                            new FederationColumnStatistic(distinctCount.get().doubleValue(), getNumber(getValue(each, MIN_VALUE_INDEX)).orElse(null),
+                                    getNumber(getValue(each, MAX_VALUE_INDEX)).orElse(null)));
+                }
+            }
+        }
+    }
+    
+    private Collection<ShardingSphereRowData> getRows(final ShardingSphereData data, final String databaseName, final String tableName) {
+        Collection<ShardingSphereRowData> result = new LinkedList<>();
+        for (String each : new String[]{databaseName.toLowerCase(), SHARDING_SPHERE}) {
+            Optional.ofNullable(data.getDatabaseData().get(each)).map(ShardingSphereDatabaseData::getSchemaData).map(optional -> optional.get(SHARDING_SPHERE))
+                    .map(ShardingSphereSchemaData::getTableData).map(optional -> optional.get(tableName)).map(ShardingSphereTableData::getRows).ifPresent(result::addAll);
+            if (!result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSameDatabase(final String databaseName, final ShardingSphereRowData rowData) {
+        return databaseName.equalsIgnoreCase(String.valueOf(getValue(rowData, LOGIC_DATABASE_NAME_INDEX)));
+    }
+    
+    private String getLogicTableName(final ShardingSphereRowData rowData) {
+        return String.valueOf(getValue(rowData, LOGIC_TABLE_NAME_INDEX)).toLowerCase();
+    }
+    
+    private Object getValue(final ShardingSphereRowData rowData, final int index) {
+        return index < rowData.getRows().size() ? rowData.getRows().get(index) : null;
+    }
+    
+    private Optional<BigDecimal> getNumber(final Object value) {
+        if (null == value) {
+            return Optional.empty();
+        }
+        if (value instanceof BigDecimal) {
+            return Optional.of((BigDecimal) value);
+        }
+        try {
+            return Optional.of(new BigDecimal(value.toString().trim()));
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Build federation statistic.
+     *
+     * @param table table
+     * @return federation statistic
+     */
+    public FederationStatistic build(final ShardingSphereTable table) {
+        String tableName = table.getName().toLowerCase();
+        Map<String, FederationColumnStatistic> columnStatisticsOfTable = columnStatistics.getOrDefault(tableName, Collections.emptyMap());
+        Map<Integer, FederationColumnStatistic> columnStatisticsByIndex = new HashMap<>(columnStatisticsOfTable.size(), 1);
+        List<Integer> primaryKeyIndexes = new LinkedList<>();
+        int index = 0;
+        for (ShardingSphereColumn each : table.getColumns().values()) {
+            FederationColumnStatistic columnStatistic = columnStatisticsOfTable.get(each.getName().toLowerCase());
+            if (null != columnStatistic) {
+                columnStatisticsByIndex.put(index, columnStatistic);
+            }
+            if (each.isPrimaryKey()) {
+                primaryKeyIndexes.add(index);
+            }
+            index++;
+        }
+        List<ImmutableBitSet> keys = primaryKeyIndexes.isEmpty() ? Collections.emptyList() : Collections.singletonList(ImmutableBitSet.of(primaryKeyIndexes));
+        return new FederationStatistic(rowCounts.get(tableName), keys, columnStatisticsByIndex);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.translatable.TranslatableTableScan;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Federation statistic util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederationStatisticUtil {
+    
+    /**
+     * Find federation statistic of table.
+     *
+     * @param table relational table
+     * @return federation statistic
+     */
+    public static Optional<FederationStatistic> findStatistic(final RelOptTable table) {
+        Table result = null == table ? null : table.unwrap(Table.class);
+        return null != result && result.getStatistic() instanceof FederationStatistic ? Optional.of((FederationStatistic) result.getStatistic()) : Optional.empty();
+    }
+    
+    /**
+     * Get table column index of table scan output column.
+     *
+     * @param tableScan table scan
+     * @param outputColumn output column index of table scan
+     * @return table column index
+     */
+    public static int getTableColumnIndex(final TableScan tableScan, final int outputColumn) {
+        if (tableScan instanceof BindableTableScan) {
+            return ((BindableTableScan) tableScan).projects.get(outputColumn);
+        }
+        return tableScan instanceof TranslatableTableScan ? ((TranslatableTableScan) tableScan).getFields()[outputColumn] : outputColumn;
+    }
+    
+    /**
+     * Get filters pushed down into table scan, which reference table columns.
+     *
+     * @param tableScan table scan
+     * @return pushed down filters
+     */
+    public static List<RexNode> getPushedDownFilters(final TableScan tableScan) {
+        if (tableScan instanceof BindableTableScan) {
+            return ((BindableTableScan) tableScan).filters;
+        }
+        if (tableScan instanceof TranslatableTableScan && null != ((TranslatableTableScan) tableScan).getFilters()) {
+            return ((TranslatableTableScan) tableScan).getFilters();
+        }
+        return Collections.emptyList();
+    }
+    
+    /**
+     * Estimate selectivity of predicate with column statistics.
+     *
+     * @param statistic federation statistic
+     * @param predicate predicate
+     * @param columnMapping mapping from input reference index to table column index
+     * @return selectivity
+     */
+    public static double estimateSelectivity(final FederationStatistic statistic, final RexNode predicate, final IntUnaryOperator columnMapping) {
+        double result = 1D;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            result *= estimateConjunctionSelectivity(statistic, each, columnMapping);
+        }
+        return result;
+    }
+    
+    private static double estimateConjunctionSelectivity(final FederationStatistic statistic, final RexNode predicate, final IntUnaryOperator columnMapping) {
+        if (predicate.isA(SqlKind.OR)) {
+            double unselected = 1D;
+            for (RexNode each : RelOptUtil.disjunctions(predicate)) {
+                unselected *= 1D - estimateSelectivity(statistic, each, columnMapping);
+            }
+            return 1D - unselected;
+        }
+        if (!predicate.isA(SqlKind.COMPARISON) || 2 != ((RexCall) predicate).getOperands().size()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        RexNode left = ((RexCall) predicate).getOperands().get(0);
+        RexNode right = ((RexCall) predicate).getOperands().get(1);
+        if (left instanceof RexInputRef) {
+            return estimateComparisonSelectivity(statistic, predicate, predicate.getKind(), ((RexInputRef) left).getIndex(), right, columnMapping);
+        }
+        if (right instanceof RexInputRef) {
+            return estimateComparisonSelectivity(statistic, predicate, predicate.getKind().reverse(), ((RexInputRef) right).getIndex(), left, columnMapping);
+        }
+        return RelMdUtil.guessSelectivity(predicate);
+    }
+    
+    private static double estimateComparisonSelectivity(final FederationStatistic statistic, final RexNode predicate, final SqlKind kind, final int inputIndex,
+                                                        final RexNode value, final IntUnaryOperator columnMapping) {
+        Optional<FederationColumnStatistic> columnStatistic = statistic.findColumnStatistic(columnMapping.applyAsInt(inputIndex));
+        if (!columnStatistic.isPresent()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        switch (kind) {
+            case EQUALS:
+                return 1D / columnStatistic.get().getDistinctCount();
+            case NOT_EQUALS:
+                return 1D - 1D / columnStatistic.get().getDistinctCount();
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return estimateRangeSelectivity(columnStatistic.get(), value, false).orElseGet(() -> RelMdUtil.guessSelectivity(predicate));
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return estimateRangeSelectivity(columnStatistic.get(), value, true).orElseGet(() -> RelMdUtil.guessSelectivity(predicate));
+            default:
+                return RelMdUtil.guessSelectivity(predicate);
+        }
+    }
+    
+    private static Optional<Double> estimateRangeSelectivity(final FederationColumnStatistic columnStatistic, final RexNode value, final boolean greater) {
+        if (!columnStatistic.isRangeKnown() || !(value instanceof RexLiteral) || !SqlTypeUtil.isNumeric(value.getType())) {
+            return Optional.empty();
+        }
+        BigDecimal literal = ((RexLiteral) value).getValueAs(BigDecimal.class);
+        if (null == literal) {
+            return Optional.empty();
+        }
+        BigDecimal range = columnStatistic.getMaxValue().subtract(columnStatistic.getMinValue());
+        BigDecimal selected = greater ? columnStatistic.getMaxValue().subtract(literal) : literal.subtract(columnStatistic.getMinValue());
+        double result = selected.divide(range, MathContext.DECIMAL64).doubleValue();
+        return Optional.of(Math.min(1D, Math.max(0D, result)));
+    }
+}
@@ -67,10 +67,11 @@ public final class FederationTranslatableTable extends AbstractTable implements
      * @param root data context
      * @param filterValues right value in filter condition
      * @param projects fields to be projected
+     * @param sortKeys indexes of projected fields which rows are sorted by
      * @return enumerable result
      */
-    public Enumerable<Object> projectAndFilterScalar(final DataContext root, final String[] filterValues, final int[] projects) {
-        return executor.executeScalar(table, new TranslatableScanNodeExecutorContext(root, filterValues, projects));
+    public Enumerable<Object> projectAndFilterScalar(final DataContext root, final String[] filterValues, final int[] projects, final int[] sortKeys) {
+        return executor.executeScalar(table, new TranslatableScanNodeExecutorContext(root, filterValues, projects, sortKeys));
     }
     
     /**
@@ -78,10 +79,11 @@ public final class FederationTranslatableTable extends AbstractTable implements
      *
      * @param root data context
      * @param projects fields to be projected
+     * @param sortKeys indexes of projected fields which rows are sorted by
      * @return enumerable result
      */
-    public Enumerable<Object> projectScalar(final DataContext root, final int[] projects) {
-        return executor.executeScalar(table, new TranslatableScanNodeExecutorContext(root, null, projects));
+    public Enumerable<Object> projectScalar(final DataContext root, final int[] projects, final int[] sortKeys) {
+        return executor.executeScalar(table, new TranslatableScanNodeExecutorContext(root, null, projects, sortKeys));
     }
     
     /**
@@ -90,10 +92,11 @@ public final class FederationTranslatableTable extends AbstractTable implements
      * @param root data context
      * @param filterValues right value in filter condition
      * @param projects fields to be projected
+     * @param sortKeys indexes of projected fields which rows are sorted by
      * @return enumerable result
      */
-    public Enumerable<Object[]> projectAndFilter(final DataContext root, final String[] filterValues, final int[] projects) {
-        return executor.execute(table, new TranslatableScanNodeExecutorContext(root, filterValues, projects));
+    public Enumerable<Object[]> projectAndFilter(final DataContext root, final String[] filterValues, final int[] projects, final int[] sortKeys) {
+        return executor.execute(table, new TranslatableScanNodeExecutorContext(root, filterValues, projects, sortKeys));
     }
     
     /**
@@ -101,10 +104,11 @@ public final class FederationTranslatableTable extends AbstractTable implements
      *
      * @param root data context
      * @param projects fields to be projected
+     * @param sortKeys indexes of projected fields which rows are sorted by
      * @return enumerable result
      */
-    public Enumerable<Object[]> project(final DataContext root, final int[] projects) {
-        return executor.execute(table, new TranslatableScanNodeExecutorContext(root, null, projects));
+    public Enumerable<Object[]> project(final DataContext root, final int[] projects, final int[] sortKeys) {
+        return executor.execute(table, new TranslatableScanNodeExecutorContext(root, null, projects, sortKeys));
     }
     
     /**
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.translatable;
+
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.tools.RelBuilderFactory;
+
+/**
+ * Planner rule for pushing sort into table scan.
+ *
+ * <p>
+ * Storage units sort the rows and the sorted results of shards are merged by stream, so sort merge join can use the table scan directly.
+ * Only ascending numeric and datetime sort keys are pushed down, because character collation of storage units may differ from the comparison of java.
+ * </p>
+ *
+ * <p>
+ * The join is still executed by {@code EnumerableMergeJoin} of calcite, this rule only saves the sort of its inputs.
+ * </p>
+ */
+public class TranslatableSortRule extends RelOptRule {
+    
+    public static final TranslatableSortRule INSTANCE = new TranslatableSortRule(RelFactories.LOGICAL_BUILDER);
+    
+    public TranslatableSortRule(final RelBuilderFactory relBuilderFactory) {
+        super(operand(EnumerableSort.class, operand(TranslatableTableScan.class, none())), relBuilderFactory, "TranslatableSortRule");
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        EnumerableSort sort = call.rel(0);
+        TranslatableTableScan scan = call.rel(1);
+        if (null != sort.offset || null != sort.fetch || scan.isSorted() || sort.getCollation().getFieldCollations().isEmpty()) {
+            return false;
+        }
+        for (RelFieldCollation each : sort.getCollation().getFieldCollations()) {
+            if (!isSupportedSortKey(each, scan.getRowType().getFieldList().get(each.getFieldIndex()).getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSupportedSortKey(final RelFieldCollation fieldCollation, final RelDataType type) {
+        return Direction.ASCENDING == fieldCollation.getDirection() && NullDirection.FIRST != fieldCollation.nullDirection && (SqlTypeUtil.isNumeric(type) || SqlTypeUtil.isDatetime(type));
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        EnumerableSort sort = call.rel(0);
+        TranslatableTableScan scan = call.rel(1);
+        call.transformTo(new TranslatableTableScan(scan.getCluster(), scan.getTable(), scan.getTranslatableTable(), scan.getFilters(), scan.getFields(), scan.getNumber(), scan.getExpressions(),
+                sort.getCollation()));
+    }
+}
@@ -32,6 +32,9 @@ import org.apache.calcite.plan.RelOptCost;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
@@ -55,6 +58,8 @@ import java.util.Map;
 @Getter
 public class TranslatableTableScan extends TableScan implements EnumerableRel {
     
+    private static final double SORT_COST_PER_ROW = 0.5D;
+    
     private final FederationTranslatableTable translatableTable;
     
     private final int[] fields;
@@ -65,6 +70,8 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
     
     private final List<RexNode> expressions;
     
+    private final RelCollation collation;
+    
     public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable, final int[] fields) {
         super(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE), ImmutableList.of(), table);
         this.translatableTable = translatableTable;
@@ -72,6 +79,7 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
         this.number = fields.length;
         this.filters = null;
         this.expressions = new ArrayList<>();
+        this.collation = RelCollations.EMPTY;
     }
     
     public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable, final int[] fields, final int number) {
@@ -81,6 +89,7 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
         this.number = number;
         this.filters = null;
         this.expressions = new ArrayList<>();
+        this.collation = RelCollations.EMPTY;
     }
     
     public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable,
@@ -91,6 +100,7 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
         this.number = fields.length;
         this.filters = filters;
         this.expressions = new ArrayList<>();
+        this.collation = RelCollations.EMPTY;
     }
     
     public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable,
@@ -101,6 +111,18 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
         this.number = number;
         this.filters = filters;
         this.expressions = expressions;
+        this.collation = RelCollations.EMPTY;
+    }
+    
+    public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable,
+                                 final List<RexNode> filters, final int[] fields, final int number, final List<RexNode> expressions, final RelCollation collation) {
+        super(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE).replace(collation), ImmutableList.of(), table);
+        this.translatableTable = translatableTable;
+        this.fields = fields;
+        this.number = number;
+        this.filters = filters;
+        this.expressions = expressions;
+        this.collation = collation;
     }
     
     @Override
@@ -121,11 +143,11 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
     @Override
     public RelWriter explainTerms(final RelWriter relWriter) {
         if (null == filters) {
-            return super.explainTerms(relWriter).item("fields", Primitive.asList(fields));
+            return super.explainTerms(relWriter).item("fields", Primitive.asList(fields)).itemIf("sort", collation, isSorted());
         }
         String[] filterValues = new String[number];
         addFilter(filters, filterValues);
-        return super.explainTerms(relWriter).item("fields", Primitive.asList(fields)).item("filters", Primitive.asList(filterValues));
+        return super.explainTerms(relWriter).item("fields", Primitive.asList(fields)).item("filters", Primitive.asList(filterValues)).itemIf("sort", collation, isSorted());
     }
     
     @Override
@@ -143,11 +165,26 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
         planner.addRule(TranslatableProjectFilterRule.INSTANCE);
         planner.addRule(TranslatableFilterRule.INSTANCE);
         planner.addRule(TranslatableProjectRule.INSTANCE);
+        planner.addRule(TranslatableSortRule.INSTANCE);
     }
     
     @Override
     public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
-        return super.computeSelfCost(planner, mq).multiplyBy(((double) number + 2D) / ((double) table.getRowType().getFieldCount() + 2D));
+        RelOptCost result = super.computeSelfCost(planner, mq).multiplyBy(((double) number + 2D) / ((double) table.getRowType().getFieldCount() + 2D));
+        if (!isSorted()) {
+            return result;
+        }
+        double sortCost = mq.getRowCount(this) * SORT_COST_PER_ROW;
+        return result.plus(planner.getCostFactory().makeCost(sortCost, sortCost, 0D));
+    }
+    
+    /**
+     * Judge whether rows of table scan are sorted by storage units.
+     *
+     * @return rows are sorted or not
+     */
+    public boolean isSorted() {
+        return !collation.getFieldCollations().isEmpty();
     }
     
     /**
@@ -171,19 +208,23 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
     private Result generateCodeForNullFilters(final EnumerableRelImplementor implementor, final PhysType physType) {
         if (fields.length == 1) {
             return implementor.result(physType, Blocks.toBlock(Expressions.call(table.getExpression(FederationTranslatableTable.class),
-                    "projectScalar", implementor.getRootExpression(), Expressions.constant(fields))));
+                    "projectScalar", implementor.getRootExpression(), Expressions.constant(fields), Expressions.constant(getSortKeys()))));
         }
         return implementor.result(physType, Blocks.toBlock(Expressions.call(table.getExpression(FederationTranslatableTable.class),
-                "project", implementor.getRootExpression(), Expressions.constant(fields))));
+                "project", implementor.getRootExpression(), Expressions.constant(fields), Expressions.constant(getSortKeys()))));
     }
     
     private Result generateCodeForFilters(final EnumerableRelImplementor implementor, final PhysType physType, final String[] filterValues) {
         if (fields.length == 1) {
             return implementor.result(physType, Blocks.toBlock(Expressions.call(table.getExpression(FederationTranslatableTable.class),
-                    "projectAndFilterScalar", implementor.getRootExpression(), Expressions.constant(filterValues), Expressions.constant(fields))));
+                    "projectAndFilterScalar", implementor.getRootExpression(), Expressions.constant(filterValues), Expressions.constant(fields), Expressions.constant(getSortKeys()))));
         }
         return implementor.result(physType, Blocks.toBlock(Expressions.call(table.getExpression(FederationTranslatableTable.class),
-                "projectAndFilter", implementor.getRootExpression(), Expressions.constant(filterValues), Expressions.constant(fields))));
+                "projectAndFilter", implementor.getRootExpression(), Expressions.constant(filterValues), Expressions.constant(fields), Expressions.constant(getSortKeys()))));
+    }
+    
+    private int[] getSortKeys() {
+        return collation.getFieldCollations().stream().mapToInt(RelFieldCollation::getFieldIndex).toArray();
     }
     
     private void addFilter(final List<RexNode> filters, final String[] filterValues) {
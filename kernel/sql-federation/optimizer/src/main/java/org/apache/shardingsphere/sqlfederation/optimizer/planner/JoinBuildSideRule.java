@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner;
+
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rules.JoinCommuteRule;
+import org.apache.calcite.tools.RelBuilderFactory;
+
+/**
+ * Planner rule for swapping inputs of inner join to make the smaller input as build side of hash join.
+ *
+ * <p>
+ * Hash join builds hash table from right input and probes it with rows of left input, so the input with less estimated rows should be right input.
+ * </p>
+ *
+ * <p>
+ * The join is still executed by {@code EnumerableHashJoin} of calcite, this rule only chooses its build side.
+ * The build side is held in memory and is not spilled to disk.
+ * </p>
+ */
+public class JoinBuildSideRule extends RelOptRule {
+    
+    public static final JoinBuildSideRule INSTANCE = new JoinBuildSideRule(RelFactories.LOGICAL_BUILDER);
+    
+    public JoinBuildSideRule(final RelBuilderFactory relBuilderFactory) {
+        super(operand(LogicalJoin.class, any()), relBuilderFactory, "JoinBuildSideRule");
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin join = call.rel(0);
+        if (JoinRelType.INNER != join.getJoinType()) {
+            return false;
+        }
+        RelMetadataQuery metadataQuery = call.getMetadataQuery();
+        Double leftRowCount = metadataQuery.getRowCount(join.getLeft());
+        Double rightRowCount = metadataQuery.getRowCount(join.getRight());
+        return null != leftRowCount && null != rightRowCount && rightRowCount > leftRowCount;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        RelNode swapped = JoinCommuteRule.swap(call.rel(0), false, call.builder());
+        if (null != swapped) {
+            call.transformTo(swapped);
+        }
+    }
+}
@@ -33,6 +33,9 @@ import org.apache.calcite.plan.hep.HepProgramBuilder;
 import org.apache.calcite.plan.volcano.VolcanoPlanner;
 import org.apache.calcite.prepare.CalciteCatalogReader;
 import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.rules.AggregateExpandDistinctAggregatesRule;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
@@ -53,9 +56,14 @@ import org.apache.calcite.sql2rel.StandardConvertletTable;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.expander.ShardingSphereViewExpander;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationRelMdColumnOrigins;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationRelMdDistinctRowCount;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationRelMdRowCount;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationRelMdSelectivity;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.translatable.TranslatableFilterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.translatable.TranslatableProjectFilterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.translatable.TranslatableProjectRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.JoinBuildSideRule;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -74,6 +82,9 @@ public final class SQLFederationPlannerUtil {
     
     private static final Map<String, SqlLibrary> DATABASE_TYPE_SQL_LIBRARIES = new HashMap<>();
     
+    private static final RelMetadataProvider METADATA_PROVIDER = ChainedRelMetadataProvider.of(Arrays.asList(FederationRelMdColumnOrigins.SOURCE,
+            FederationRelMdRowCount.SOURCE, FederationRelMdDistinctRowCount.SOURCE, FederationRelMdSelectivity.SOURCE, DefaultRelMetadataProvider.INSTANCE));
+    
     static {
         DATABASE_TYPE_SQL_LIBRARIES.put("MySQL", SqlLibrary.MYSQL);
         DATABASE_TYPE_SQL_LIBRARIES.put("PostgreSQL", SqlLibrary.POSTGRESQL);
@@ -100,6 +111,7 @@ public final class SQLFederationPlannerUtil {
     public static RelOptPlanner createHepPlanner() {
         HepProgramBuilder builder = new HepProgramBuilder();
         builder.addGroupBegin().addRuleCollection(getFilterRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addGroupBegin().addRuleCollection(getJoinRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getProjectRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getAggregationRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
@@ -164,6 +176,12 @@ public final class SQLFederationPlannerUtil {
         return result;
     }
     
+    private static Collection<RelOptRule> getJoinRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(JoinBuildSideRule.INSTANCE);
+        return result;
+    }
+    
     private static Collection<RelOptRule> getAggregationRules() {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(CoreRules.AGGREGATE_MERGE);
@@ -269,6 +287,8 @@ public final class SQLFederationPlannerUtil {
      * @return rel opt cluster
      */
     public static RelOptCluster createRelOptCluster(final RelDataTypeFactory relDataTypeFactory) {
-        return RelOptCluster.create(SQLFederationPlannerUtil.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        RelOptCluster result = RelOptCluster.create(SQLFederationPlannerUtil.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        result.setMetadataProvider(METADATA_PROVIDER);
+        return result;
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlannerUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class FederationRelMdRowCountTest {
+    
+    private static final String SCHEMA_NAME = "sharding_db";
+    
+    private RelDataTypeFactory typeFactory;
+    
+    private CalciteCatalogReader catalogReader;
+    
+    private RelOptCluster cluster;
+    
+    @Before
+    public void setUp() {
+        typeFactory = new JavaTypeFactoryImpl();
+        Map<String, ShardingSphereTable> tables = new LinkedHashMap<>(3, 1);
+        tables.put("t_order", createTable("t_order", "order_id"));
+        tables.put("t_user", createTable("t_user", "user_id"));
+        tables.put("t_unknown", createTable("t_unknown", "unknown_id"));
+        FilterableSchema schema = new FilterableSchema(SCHEMA_NAME, new ShardingSphereSchema(tables, Collections.emptyMap()), DatabaseTypeEngine.getDatabaseType("MySQL"),
+                new JavaTypeFactoryImpl(), null, new FederationStatisticBuilder(SCHEMA_NAME, createShardingSphereData()));
+        catalogReader = SQLFederationPlannerUtil.createCatalogReader(SCHEMA_NAME, schema, typeFactory, new CalciteConnectionConfigImpl(new Properties()));
+        cluster = SQLFederationPlannerUtil.createRelOptCluster(typeFactory);
+    }
+    
+    private ShardingSphereTable createTable(final String tableName, final String primaryKeyColumnName) {
+        ShardingSphereColumn primaryKeyColumn = new ShardingSphereColumn(primaryKeyColumnName, Types.INTEGER, true, false, false, true, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false);
+        return new ShardingSphereTable(tableName, "user_id".equals(primaryKeyColumnName) ? Collections.singletonList(primaryKeyColumn) : Arrays.asList(primaryKeyColumn, userIdColumn),
+                Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereTableData tableStatistics = new ShardingSphereTableData("sharding_table_statistics");
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, SCHEMA_NAME, "t_order", "ds_0", "t_order_0", new BigDecimal("500"), BigDecimal.ZERO)));
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(2, SCHEMA_NAME, "t_order", "ds_1", "t_order_1", new BigDecimal("500"), BigDecimal.ZERO)));
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(3, SCHEMA_NAME, "t_user", "ds_0", "t_user_0", new BigDecimal("10"), BigDecimal.ZERO)));
+        ShardingSphereTableData columnStatistics = new ShardingSphereTableData("sharding_column_statistics");
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, SCHEMA_NAME, "t_order", "user_id", new BigDecimal("10"), "1", "101")));
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(2, SCHEMA_NAME, "t_user", "user_id", new BigDecimal("10"), "1", "101")));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.getTableData().put("sharding_table_statistics", tableStatistics);
+        schemaData.getTableData().put("sharding_column_statistics", columnStatistics);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.getSchemaData().put("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.getDatabaseData().put(SCHEMA_NAME, databaseData);
+        return result;
+    }
+    
+    @Test
+    public void assertGetRowCountOfTableScan() {
+        assertThat(getRowCount(createRelBuilder().scan("t_order").build()), is(1000D));
+        assertThat(getRowCount(createRelBuilder().scan("t_unknown").build()), is(100D));
+    }
+    
+    @Test
+    public void assertGetRowCountOfFilter() {
+        RelBuilder equalsBuilder = createRelBuilder().scan("t_order");
+        assertThat(getRowCount(equalsBuilder.filter(equalsBuilder.equals(equalsBuilder.field("user_id"), equalsBuilder.literal(5))).build()), is(100D));
+        RelBuilder rangeBuilder = createRelBuilder().scan("t_order");
+        assertThat(getRowCount(rangeBuilder.filter(rangeBuilder.call(SqlStdOperatorTable.GREATER_THAN, rangeBuilder.field("user_id"), rangeBuilder.literal(76))).build()), is(250D));
+    }
+    
+    @Test
+    public void assertGetRowCountOfBindableTableScanWithFilters() {
+        RelBuilder relBuilder = createRelBuilder().scan("t_order");
+        RelNode scan = relBuilder.build();
+        BindableTableScan bindableTableScan = BindableTableScan.create(cluster, scan.getTable(),
+                Collections.singletonList(relBuilder.getRexBuilder().makeCall(SqlStdOperatorTable.EQUALS, relBuilder.getRexBuilder().makeInputRef(scan, 1),
+                        relBuilder.getRexBuilder().makeExactLiteral(BigDecimal.ONE))),
+                Collections.singletonList(1));
+        assertThat(getRowCount(bindableTableScan), is(100D));
+        assertThat(cluster.getMetadataQuery().getDistinctRowCount(bindableTableScan, ImmutableBitSet.of(0), null), is(10D));
+    }
+    
+    @Test
+    public void assertGetRowCountOfJoin() {
+        RelBuilder relBuilder = createRelBuilder().scan("t_order").scan("t_user");
+        RelNode join = relBuilder.join(JoinRelType.INNER, relBuilder.equals(relBuilder.field(2, 0, "user_id"), relBuilder.field(2, 1, "user_id"))).build();
+        assertThat(getRowCount(join), is(1000D));
+    }
+    
+    private RelBuilder createRelBuilder() {
+        return RelFactories.LOGICAL_BUILDER.create(cluster, catalogReader);
+    }
+    
+    private double getRowCount(final RelNode relNode) {
+        RelMetadataQuery mq = cluster.getMetadataQuery();
+        return mq.getRowCount(relNode);
+    }
+}
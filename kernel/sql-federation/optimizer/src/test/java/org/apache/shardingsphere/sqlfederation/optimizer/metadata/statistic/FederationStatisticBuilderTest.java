@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class FederationStatisticBuilderTest {
+    
+    @Test
+    public void assertBuildWithCollectedStatistics() {
+        FederationStatistic actual = new FederationStatisticBuilder("sharding_db", createShardingSphereData()).build(createTable());
+        assertThat(actual.getRowCount(), is(300D));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(1)));
+        assertTrue(actual.findColumnStatistic(1).isPresent());
+        assertThat(actual.findColumnStatistic(1).get().getDistinctCount(), is(10D));
+        assertThat(actual.findColumnStatistic(1).get().getMinValue(), is(new BigDecimal("1")));
+        assertThat(actual.findColumnStatistic(1).get().getMaxValue(), is(new BigDecimal("100")));
+        assertFalse(actual.findColumnStatistic(0).isPresent());
+    }
+    
+    @Test
+    public void assertBuildWithoutShardingSphereData() {
+        FederationStatistic actual = new FederationStatisticBuilder("sharding_db", null).build(createTable());
+        assertThat(actual.getRowCount(), is(nullValue()));
+        assertFalse(actual.findColumnStatistic(1).isPresent());
+    }
+    
+    @Test
+    public void assertBuildWithStatisticsOfOtherDatabase() {
+        FederationStatistic actual = new FederationStatisticBuilder("other_db", createShardingSphereData()).build(createTable());
+        assertThat(actual.getRowCount(), is(nullValue()));
+        assertFalse(actual.findColumnStatistic(1).isPresent());
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereTableData tableStatistics = new ShardingSphereTableData("sharding_table_statistics");
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "sharding_db", "t_order", "ds_1", "t_order_1", new BigDecimal("200"), BigDecimal.ZERO)));
+        ShardingSphereTableData columnStatistics = new ShardingSphereTableData("sharding_column_statistics");
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "t_order", "user_id", new BigDecimal("10"), "1", "100")));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.getTableData().put("sharding_table_statistics", tableStatistics);
+        schemaData.getTableData().put("sharding_column_statistics", columnStatistics);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.getSchemaData().put("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.getDatabaseData().put("shardingsphere", databaseData);
+        return result;
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false);
+        return new ShardingSphereTable("t_order", Arrays.asList(orderIdColumn, userIdColumn), Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -44,8 +44,10 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MetaDataHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.infra.state.cluster.ClusterStateContext;
@@ -56,6 +58,7 @@ import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
 import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.storage.event.DataSourcesDeletedEvent;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -86,6 +89,8 @@ public final class ContextManager implements AutoCloseable {
     
     private final ClusterStateContext clusterStateContext = new ClusterStateContext();
     
+    private volatile long metaDataVersion;
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
@@ -122,6 +127,7 @@ public final class ContextManager implements AutoCloseable {
         }
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(Collections.emptyMap(), metaDataContexts.getMetaData().getProps());
         metaDataContexts.getMetaData().addDatabase(databaseName, protocolType);
+        metaDataVersion++;
     }
     
     /**
@@ -134,7 +140,10 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
+        instanceContext.getEventBusContext().post(new DataSourcesDeletedEvent(metaDataContexts.getMetaData().getDatabase(actualDatabaseName).getResourceMetaData().getDataSources().values()));
         metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
+        SQLRewriteTemplateCache.getInstance().invalidate(actualDatabaseName);
+        metaDataVersion++;
     }
     
     /**
@@ -148,6 +157,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchema());
+        alterMetaDataHeldRule(metaDataContexts.getMetaData().getDatabase(databaseName));
     }
     
     /**
@@ -161,6 +171,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getMetaData().getDatabase(databaseName).removeSchema(schemaName);
+        alterMetaDataHeldRule(metaDataContexts.getMetaData().getDatabase(databaseName));
     }
     
     /**
@@ -174,6 +185,7 @@ public final class ContextManager implements AutoCloseable {
     public synchronized void alterSchema(final String databaseName, final String schemaName, final String toBeDeletedTableName, final String toBeDeletedViewName) {
         Optional.ofNullable(toBeDeletedTableName).ifPresent(optional -> dropTable(databaseName, schemaName, optional));
         Optional.ofNullable(toBeDeletedViewName).ifPresent(optional -> dropView(databaseName, schemaName, optional));
+        alterMetaDataHeldRule(metaDataContexts.getMetaData().getDatabase(databaseName));
     }
     
     /**
@@ -190,6 +202,7 @@ public final class ContextManager implements AutoCloseable {
         }
         Optional.ofNullable(toBeChangedTable).ifPresent(optional -> alterTable(databaseName, schemaName, optional));
         Optional.ofNullable(toBeChangedView).ifPresent(optional -> alterView(databaseName, schemaName, optional));
+        alterMetaDataHeldRule(metaDataContexts.getMetaData().getDatabase(databaseName));
     }
     
     private synchronized void dropTable(final String databaseName, final String schemaName, final String toBeDeletedTableName) {
@@ -220,6 +233,14 @@ public final class ContextManager implements AutoCloseable {
         database.getSchema(schemaName).putView(beBoChangedView.getName(), beBoChangedView);
     }
     
+    private void alterMetaDataHeldRule(final ShardingSphereDatabase database) {
+        metaDataVersion++;
+        if (null != database) {
+            SQLRewriteTemplateCache.getInstance().invalidate(database.getName());
+            metaDataContexts.getMetaData().getGlobalRuleMetaData().findRules(MetaDataHeldRule.class).forEach(each -> each.alterDatabase(database));
+        }
+    }
+    
     private boolean containsMutableDataNodeRule(final ShardingSphereDatabase database, final String tableName) {
         return database.getRuleMetaData().findRules(DataNodeContainedRule.class).stream()
                 .filter(each -> !(each instanceof MutableDataNodeRule)).anyMatch(each -> each.getAllTables().contains(tableName));
@@ -283,7 +304,7 @@ public final class ContextManager implements AutoCloseable {
             alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.getMetaData().getDatabase(databaseName));
             metaDataContexts = reloadMetaDataContexts;
             metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(switchingResource);
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source configuration failed", databaseName, ex);
         }
@@ -305,6 +326,16 @@ public final class ContextManager implements AutoCloseable {
                         database.getRuleMetaData(), database.getSchemas()));
     }
     
+    /**
+     * Close stale data sources.
+     * 
+     * @param switchingResource switching resource
+     */
+    public void closeStaleDataSources(final SwitchingResource switchingResource) {
+        instanceContext.getEventBusContext().post(new DataSourcesDeletedEvent(switchingResource.getStaleDataSources().values()));
+        switchingResource.closeStaleDataSources();
+    }
+    
     /**
      * Alter data source and rule configuration.
      * 
@@ -321,7 +352,7 @@ public final class ContextManager implements AutoCloseable {
             SwitchingResource switchingResource = new ResourceSwitchManager().create(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), dataSourcePropsMap);
             metaDataContexts = createMetaDataContexts(databaseName, switchingResource, ruleConfigs);
             metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(switchingResource);
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
         }
@@ -458,7 +489,7 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts = reloadedMetaDataContexts;
             metaDataContexts.getMetaData().getDatabases().values().forEach(
                     each -> each.getSchemas().forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(each.getName(), schemaName, schema)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(switchingResource);
         } catch (final SQLException ex) {
             log.error("Reload database meta data: {} failed", databaseName, ex);
         }
@@ -493,6 +524,7 @@ public final class ContextManager implements AutoCloseable {
                 metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, reloadedSchema);
                 metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, reloadedSchema);
             }
+            alterMetaDataHeldRule(metaDataContexts.getMetaData().getDatabase(databaseName));
         } catch (final SQLException ex) {
             log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
         }
@@ -553,6 +585,7 @@ public final class ContextManager implements AutoCloseable {
         } else {
             dropTable(databaseName, schemaName, tableName);
         }
+        alterMetaDataHeldRule(database);
         metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, database.getSchema(schemaName));
     }
     
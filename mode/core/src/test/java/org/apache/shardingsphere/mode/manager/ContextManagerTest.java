@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.service.DatabaseMetaDataPersistService;
@@ -84,11 +85,14 @@ public final class ContextManagerTest {
         when(metaDataContexts.getMetaData().getDatabase("foo_db")).thenReturn(database);
         when(metaDataContexts.getMetaData().getDatabase("foo_db").containsSchema("foo_schema")).thenReturn(true);
         when(metaDataContexts.getMetaData().getDatabases().values()).thenReturn(Collections.singleton(database));
-        contextManager = new ContextManager(metaDataContexts, mock(InstanceContext.class));
+        InstanceContext instanceContext = mock(InstanceContext.class);
+        when(instanceContext.getEventBusContext()).thenReturn(new EventBusContext());
+        contextManager = new ContextManager(metaDataContexts, instanceContext);
     }
     
     private ShardingSphereDatabase mockDatabase() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
         when(result.getProtocolType()).thenReturn(new MySQLDatabaseType());
         when(result.getResourceMetaData().getStorageTypes()).thenReturn(Collections.singletonMap("ds_0", new MySQLDatabaseType()));
         MutableDataNodeRule mutableDataNodeRule = mock(MutableDataNodeRule.class, RETURNS_DEEP_STUBS);
@@ -118,6 +122,7 @@ public final class ContextManagerTest {
     public void assertAddDatabase() {
         contextManager.addDatabase("new_db");
         verify(metaDataContexts.getMetaData()).addDatabase(eq("new_db"), any(DatabaseType.class));
+        assertThat(contextManager.getMetaDataVersion(), is(1L));
     }
     
     @Test
@@ -125,6 +130,7 @@ public final class ContextManagerTest {
         when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
         contextManager.addDatabase("foo_db");
         verify(metaDataContexts.getMetaData(), times(0)).addDatabase(eq("foo_db"), any(DatabaseType.class));
+        assertThat(contextManager.getMetaDataVersion(), is(0L));
     }
     
     @Test
@@ -145,6 +151,7 @@ public final class ContextManagerTest {
     public void assertAddSchema() {
         contextManager.addSchema("foo_db", "bar_schema");
         verify(metaDataContexts.getMetaData().getDatabase("foo_db")).putSchema(anyString(), any(ShardingSphereSchema.class));
+        assertThat(contextManager.getMetaDataVersion(), is(1L));
     }
     
     @Test
@@ -220,7 +220,7 @@ public final class StandaloneModeContextManager implements ModeContextManager, C
                 .putAll(contextManager.newShardingSphereDatabase(contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName)));
         contextManager.getMetaDataContexts().getPersistService().getDataSourceService().append(contextManager.getMetaDataContexts().getMetaData().getActualDatabaseName(databaseName),
                 toBeUpdatedStorageUnitProps);
-        switchingResource.closeStaleDataSources();
+        contextManager.closeStaleDataSources(switchingResource);
         clearServiceCache();
     }
     
@@ -240,7 +240,7 @@ public final class StandaloneModeContextManager implements ModeContextManager, C
         Map<String, DataSourceProperties> toBeReversedDataSourcePropsMap = getToBeReversedDataSourcePropsMap(dataSourcePropsMap, toBeDroppedStorageUnitNames);
         contextManager.getMetaDataContexts().getPersistService().getDataSourceService().persist(contextManager.getMetaDataContexts().getMetaData().getActualDatabaseName(databaseName),
                 toBeReversedDataSourcePropsMap);
-        switchingResource.closeStaleDataSources();
+        contextManager.closeStaleDataSources(switchingResource);
         clearServiceCache();
     }
     
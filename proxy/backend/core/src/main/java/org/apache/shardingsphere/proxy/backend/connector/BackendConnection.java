@@ -26,6 +26,9 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.SessionState;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.SessionStateConnection;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.SessionStateConnectionCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -33,6 +36,7 @@ import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtil;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -41,6 +45,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -55,6 +60,8 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
+    private final Map<Connection, SessionStateConnection> sessionStateConnections = new ConcurrentHashMap<>();
+    
     private final Collection<ProxyBackendHandler> backendHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
     
     private final Collection<ProxyBackendHandler> inUseBackendHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
@@ -93,6 +100,30 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     }
     
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+        if (connectionSession.getTransactionStatus().isInTransaction() || dataSourceName.contains(".")) {
+            return createBackendConnections(dataSourceName, connectionSize, connectionMode);
+        }
+        DataSource dataSource = ProxyContext.getInstance().getBackendDataSource().getDataSource(connectionSession.getDatabaseName().toLowerCase(), dataSourceName);
+        if (null == dataSource) {
+            return createBackendConnections(dataSourceName, connectionSize, connectionMode);
+        }
+        SessionState sessionState = createSessionState();
+        List<Connection> result = changeSessionVariablesIfNecessary(SessionStateConnectionCache.getInstance().poll(dataSource, sessionState, connectionSize), sessionState);
+        if (result.size() < connectionSize) {
+            try {
+                result.addAll(createBackendConnections(dataSourceName, connectionSize - result.size(), connectionMode));
+            } catch (final SQLException ex) {
+                closeCreatedConnections(result, ex);
+                throw ex;
+            }
+        }
+        for (Connection each : result) {
+            sessionStateConnections.put(each, new SessionStateConnection(dataSource, each, sessionState));
+        }
+        return result;
+    }
+    
+    private List<Connection> createBackendConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode);
         setSessionVariablesIfNecessary(result);
         for (Connection each : result) {
@@ -106,6 +137,43 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         return result;
     }
     
+    private SessionState createSessionState() {
+        Integer transactionIsolation = null == connectionSession.getIsolationLevel() ? null : TransactionUtil.getTransactionIsolationLevel(connectionSession.getIsolationLevel());
+        return new SessionState(connectionSession.getRequiredSessionVariableRecorder().getVariables(), connectionSession.isReadOnly(), transactionIsolation);
+    }
+    
+    private List<Connection> changeSessionVariablesIfNecessary(final List<SessionStateConnection> polledConnections, final SessionState sessionState) throws SQLException {
+        List<Connection> result = new ArrayList<>(polledConnections.size());
+        for (SessionStateConnection each : polledConnections) {
+            result.add(each.getConnection());
+        }
+        for (SessionStateConnection each : polledConnections) {
+            if (sessionState.equals(each.getSessionState())) {
+                continue;
+            }
+            try (Statement statement = each.getConnection().createStatement()) {
+                String databaseType = each.getConnection().getMetaData().getDatabaseProductName();
+                for (String eachChangeSQL : connectionSession.getRequiredSessionVariableRecorder().toChangeSQLs(databaseType, each.getSessionState().getVariables())) {
+                    statement.execute(eachChangeSQL);
+                }
+            } catch (final SQLException ex) {
+                closeCreatedConnections(result, ex);
+                throw ex;
+            }
+        }
+        return result;
+    }
+    
+    private void closeCreatedConnections(final Collection<Connection> connections, final SQLException sqlException) {
+        for (Connection each : connections) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                sqlException.setNextException(ex);
+            }
+        }
+    }
+    
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
             return;
@@ -282,8 +350,11 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
         synchronized (cachedConnections) {
-            resetSessionVariablesIfNecessary(cachedConnections.values(), result);
-            for (Connection each : cachedConnections.values()) {
+            Collection<Connection> connections = forceRollback || closed.get() || connectionSession.getTransactionStatus().isInTransaction()
+                    ? cachedConnections.values()
+                    : keepSessionStateConnections(cachedConnections.values());
+            resetSessionVariablesIfNecessary(connections, result);
+            for (Connection each : connections) {
                 try {
                     if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                         each.rollback();
@@ -293,7 +364,9 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
                     result.add(ex);
                 }
             }
+            connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
             cachedConnections.clear();
+            sessionStateConnections.clear();
         }
         if (!forceRollback) {
             connectionPostProcessors.clear();
@@ -301,6 +374,34 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         return result;
     }
     
+    private Collection<Connection> keepSessionStateConnections(final Collection<Connection> connections) {
+        Collection<Connection> result = new LinkedList<>();
+        for (Connection each : connections) {
+            SessionStateConnection sessionStateConnection = sessionStateConnections.get(each);
+            if (null == sessionStateConnection || sessionStateConnection.getSessionState().isDefault() || !isAutoCommit(each)
+                    || !SessionStateConnectionCache.getInstance().offer(sessionStateConnection, getResetSQLs(each))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isAutoCommit(final Connection connection) {
+        try {
+            return connection.getAutoCommit();
+        } catch (final SQLException ignored) {
+            return false;
+        }
+    }
+    
+    private List<String> getResetSQLs(final Connection connection) {
+        try {
+            return connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(connection.getMetaData().getDatabaseProductName());
+        } catch (final SQLException ignored) {
+            return Collections.emptyList();
+        }
+    }
+    
     private void resetSessionVariablesIfNecessary(final Collection<Connection> values, final Collection<SQLException> exceptions) {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
@@ -322,6 +423,5 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
                 exceptions.add(ex);
             }
         }
-        connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
     }
 }
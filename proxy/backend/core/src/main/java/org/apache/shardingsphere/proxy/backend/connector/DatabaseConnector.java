@@ -79,6 +79,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -341,6 +342,21 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get row values.
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public List<Object> getRowValues() throws SQLException {
+        Object[] result = new Object[queryHeaders.size()];
+        for (int columnIndex = 1; columnIndex <= result.length; columnIndex++) {
+            result[columnIndex - 1] = mergedResult.getValue(columnIndex, Object.class);
+        }
+        return Arrays.asList(result);
+    }
+    
     /**
      * Close database connector.
      *
@@ -349,6 +365,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeFederationExecutor().ifPresent(result::add);
@@ -360,6 +377,17 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
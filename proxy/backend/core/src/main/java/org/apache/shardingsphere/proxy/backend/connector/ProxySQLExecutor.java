@@ -151,8 +151,8 @@ public final class ProxySQLExecutor {
     private boolean isNeedImplicitCommitTransaction(final ExecutionContext executionContext) {
         TransactionStatus transactionStatus = backendConnection.getConnectionSession().getTransactionStatus();
         SQLStatement sqlStatement = executionContext.getSqlStatementContext().getSqlStatement();
-        return TransactionType.isDistributedTransaction(transactionStatus.getTransactionType()) && !transactionStatus.isInTransaction() && sqlStatement instanceof DMLStatement
-                && !(sqlStatement instanceof SelectStatement) && executionContext.getExecutionUnits().size() > 1;
+        return (TransactionType.isDistributedTransaction(transactionStatus.getTransactionType()) || executionContext.isInsertValuesChunked()) && !transactionStatus.isInTransaction()
+                && sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement) && executionContext.getExecutionUnits().size() > 1;
     }
     
     private List<ExecuteResult> doExecuteWithImplicitCommitTransaction(final ExecutionContext executionContext) throws SQLException {
@@ -37,12 +37,14 @@ public final class ResourceLock {
     
     /**
      * Await.
+     *
+     * @return notified before timeout or not
      */
     @SneakyThrows(InterruptedException.class)
-    public void doAwait() {
+    public boolean doAwait() {
         lock.lock();
         try {
-            condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            return condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
         } finally {
             lock.unlock();
         }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Session state applied on backend connection.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public final class SessionState {
+    
+    private final Map<String, String> variables;
+    
+    private final boolean readOnly;
+    
+    private final Integer transactionIsolation;
+    
+    /**
+     * Judge whether session state is same as default state of connection.
+     *
+     * @return is default or not
+     */
+    public boolean isDefault() {
+        return variables.isEmpty() && !readOnly && null == transactionIsolation;
+    }
+    
+    /**
+     * Judge whether transaction options are same as another session state.
+     *
+     * @param other other session state
+     * @return same transaction options or not
+     */
+    public boolean isSameTransactionOptions(final SessionState other) {
+        return readOnly == other.readOnly && Objects.equals(transactionIsolation, other.transactionIsolation);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.metadata.storage.event.DataSourcesDeletedEvent;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session state connection cache.
+ *
+ * <p>
+ * Backend connections with session state are kept here instead of resetting session variables and returning to pool after each statement.
+ * Acquiring prefers connections whose session state is same as session, so that session variables need not be replayed,
+ * and then connections with same transaction options, so that only changed session variables are replayed.
+ * Connections idle too long are reset and returned to pool by a background evictor,
+ * and connections of deleted data sources are returned at once, so that stale data sources can be closed.
+ * </p>
+ */
+@Slf4j
+public final class SessionStateConnectionCache {
+    
+    private static final SessionStateConnectionCache INSTANCE = new SessionStateConnectionCache();
+    
+    private static final int MAX_IDLE_CONNECTIONS_PER_DATA_SOURCE = 8;
+    
+    private static final long IDLE_TIMEOUT_MILLIS = 30000L;
+    
+    private static final long EVICT_INTERVAL_MILLIS = 1000L;
+    
+    private final Map<DataSource, Deque<IdleConnection>> idleConnections = new ConcurrentHashMap<>();
+    
+    private SessionStateConnectionCache() {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("session-state-connection-evictor-%d"));
+        evictor.scheduleWithFixedDelay(() -> evictExpiredConnections(System.currentTimeMillis()), EVICT_INTERVAL_MILLIS, EVICT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Get session state connection cache instance.
+     *
+     * @return session state connection cache
+     */
+    public static SessionStateConnectionCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Poll idle connections which can be used by session state.
+     *
+     * @param dataSource data source
+     * @param sessionState session state
+     * @param maxSize max size of connections to be polled
+     * @return polled connections
+     */
+    public List<SessionStateConnection> poll(final DataSource dataSource, final SessionState sessionState, final int maxSize) {
+        Deque<IdleConnection> connections = idleConnections.get(dataSource);
+        if (null == connections) {
+            return Collections.emptyList();
+        }
+        List<SessionStateConnection> result = new ArrayList<>(Math.min(maxSize, MAX_IDLE_CONNECTIONS_PER_DATA_SOURCE));
+        Collection<IdleConnection> expiredConnections = new LinkedList<>();
+        synchronized (connections) {
+            removeExpiredConnections(connections, System.currentTimeMillis(), expiredConnections);
+            pollConnections(connections, true, sessionState, maxSize, result);
+            pollConnections(connections, false, sessionState, maxSize, result);
+        }
+        expiredConnections.forEach(this::close);
+        return result;
+    }
+    
+    private void pollConnections(final Deque<IdleConnection> connections, final boolean sameStateOnly, final SessionState sessionState, final int maxSize, final List<SessionStateConnection> result) {
+        Iterator<IdleConnection> iterator = connections.descendingIterator();
+        while (result.size() < maxSize && iterator.hasNext()) {
+            SessionStateConnection each = iterator.next().getConnection();
+            if (sameStateOnly ? sessionState.equals(each.getSessionState()) : sessionState.isSameTransactionOptions(each.getSessionState())) {
+                iterator.remove();
+                result.add(each);
+            }
+        }
+    }
+    
+    /**
+     * Offer connection to be kept idle.
+     *
+     * @param connection session state connection
+     * @param resetSQLs SQLs to reset session variables before returning connection to pool
+     * @return offered or not
+     */
+    public boolean offer(final SessionStateConnection connection, final List<String> resetSQLs) {
+        Deque<IdleConnection> connections = idleConnections.computeIfAbsent(connection.getDataSource(), key -> new LinkedList<>());
+        synchronized (connections) {
+            if (connections.size() >= MAX_IDLE_CONNECTIONS_PER_DATA_SOURCE || connections != idleConnections.get(connection.getDataSource())) {
+                return false;
+            }
+            connections.addLast(new IdleConnection(connection, resetSQLs, System.currentTimeMillis()));
+            return true;
+        }
+    }
+    
+    private void evictExpiredConnections(final long currentMillis) {
+        Collection<IdleConnection> expiredConnections = new LinkedList<>();
+        for (Deque<IdleConnection> each : idleConnections.values()) {
+            synchronized (each) {
+                removeExpiredConnections(each, currentMillis, expiredConnections);
+            }
+        }
+        expiredConnections.forEach(this::close);
+    }
+    
+    /**
+     * Return idle connections of deleted data sources to pool.
+     *
+     * @param event data sources deleted event
+     */
+    @Subscribe
+    public void invalidate(final DataSourcesDeletedEvent event) {
+        Collection<IdleConnection> staleConnections = new LinkedList<>();
+        for (DataSource each : event.getDataSources()) {
+            Deque<IdleConnection> connections = idleConnections.remove(each);
+            if (null != connections) {
+                synchronized (connections) {
+                    staleConnections.addAll(connections);
+                    connections.clear();
+                }
+            }
+        }
+        staleConnections.forEach(this::close);
+    }
+    
+    private void removeExpiredConnections(final Deque<IdleConnection> connections, final long currentMillis, final Collection<IdleConnection> expiredConnections) {
+        Iterator<IdleConnection> iterator = connections.iterator();
+        while (iterator.hasNext()) {
+            IdleConnection each = iterator.next();
+            if (currentMillis - each.getIdleMillis() >= IDLE_TIMEOUT_MILLIS || isClosed(each.getConnection().getConnection())) {
+                iterator.remove();
+                expiredConnections.add(each);
+            }
+        }
+    }
+    
+    private boolean isClosed(final Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (final SQLException ignored) {
+            return true;
+        }
+    }
+    
+    private void close(final IdleConnection idleConnection) {
+        Connection connection = idleConnection.getConnection().getConnection();
+        if (!isClosed(connection)) {
+            resetSessionVariables(connection, idleConnection.getResetSQLs());
+        }
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            log.warn("Close idle connection failed.", ex);
+        }
+    }
+    
+    private void resetSessionVariables(final Connection connection, final List<String> resetSQLs) {
+        try (Statement statement = connection.createStatement()) {
+            for (String each : resetSQLs) {
+                statement.execute(each);
+            }
+        } catch (final SQLException ex) {
+            log.warn("Reset session variables of idle connection failed.", ex);
+        }
+    }
+    
+    /**
+     * Get idle connection count.
+     *
+     * @return idle connection count
+     */
+    public int getIdleConnectionCount() {
+        int result = 0;
+        for (Deque<IdleConnection> each : idleConnections.values()) {
+            synchronized (each) {
+                result += each.size();
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class IdleConnection {
+        
+        private final SessionStateConnection connection;
+        
+        private final List<String> resetSQLs;
+        
+        private final long idleMillis;
+    }
+}
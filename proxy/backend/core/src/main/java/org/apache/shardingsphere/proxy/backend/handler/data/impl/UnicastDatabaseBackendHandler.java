@@ -34,6 +34,7 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -88,6 +89,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseConnector.getRowData();
     }
     
+    @Override
+    public List<Object> getRowValues() throws SQLException {
+        return databaseConnector.getRowValues();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseConnector) {
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -119,6 +120,64 @@ public final class RequiredSessionVariableRecorder {
         return result.toString();
     }
     
+    /**
+     * Get variables.
+     *
+     * @return variables
+     */
+    public Map<String, String> getVariables() {
+        return new HashMap<>(sessionVariables);
+    }
+    
+    /**
+     * Get SQLs for database to change variables applied on connection to recorded variables.
+     *
+     * @param databaseType database type
+     * @param appliedVariables variables applied on connection
+     * @return change SQLs
+     */
+    public List<String> toChangeSQLs(final String databaseType, final Map<String, String> appliedVariables) {
+        Map<String, String> changedVariables = new HashMap<>(sessionVariables.size() + appliedVariables.size(), 1);
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            if (!entry.getValue().equals(appliedVariables.get(entry.getKey()))) {
+                changedVariables.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String each : appliedVariables.keySet()) {
+            if (!sessionVariables.containsKey(each)) {
+                changedVariables.put(each, null);
+            }
+        }
+        if (changedVariables.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // TODO Refactor the following switch by SPI if we support more database in future
+        switch (databaseType) {
+            case "MySQL":
+                return Collections.singletonList(aggregateToMySQLChangeSQL(changedVariables));
+            case "PostgreSQL":
+                return convertToPostgreSQLChangeSQLs(changedVariables);
+            default:
+                return Collections.emptyList();
+        }
+    }
+    
+    private String aggregateToMySQLChangeSQL(final Map<String, String> changedVariables) {
+        StringJoiner result = new StringJoiner(",", "SET ", "");
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
+            result.add(entry.getKey() + "=" + (null == entry.getValue() ? DEFAULT : entry.getValue()));
+        }
+        return result.toString();
+    }
+    
+    private List<String> convertToPostgreSQLChangeSQLs(final Map<String, String> changedVariables) {
+        List<String> result = new ArrayList<>(changedVariables.size());
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
+            result.add(null == entry.getValue() ? "RESET " + entry.getKey() : "SET " + entry.getKey() + "=" + entry.getValue());
+        }
+        return result;
+    }
+    
     /**
      * Remove variables with default value.
      */
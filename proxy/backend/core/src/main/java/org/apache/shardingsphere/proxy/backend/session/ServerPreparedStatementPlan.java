@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plan of {@link ServerPreparedStatement} shared by connections preparing the same SQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ServerPreparedStatementPlan {
+    
+    private final String sql;
+    
+    private final SQLStatement sqlStatement;
+    
+    private final SQLStatementContext<?> sqlStatementContext;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger referenceCount = new AtomicInteger();
+    
+    @Getter(AccessLevel.NONE)
+    private MetaDataContexts metaDataContexts;
+    
+    @Getter(AccessLevel.NONE)
+    private long metaDataVersion;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private Object key;
+    
+    /**
+     * Create SQL statement context to execute.
+     * 
+     * <p>
+     * SQL statement context of plan is shared by connections and is read only. Parameter aware SQL statement context is set up with parameters
+     * and changed while executing, so a new one is created with meta data which plan is loaded from for the prepared statement to execute;
+     * otherwise the shared one is returned.
+     * </p>
+     *
+     * @param defaultDatabaseName default database name
+     * @return SQL statement context to execute
+     */
+    public SQLStatementContext<?> createExecutionSQLStatementContext(final String defaultDatabaseName) {
+        return sqlStatementContext instanceof ParameterAware ? SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData(), sqlStatement, defaultDatabaseName) : sqlStatementContext;
+    }
+    
+    void bind(final Object key, final MetaDataContexts metaDataContexts, final long metaDataVersion) {
+        this.key = key;
+        this.metaDataContexts = metaDataContexts;
+        this.metaDataVersion = metaDataVersion;
+    }
+    
+    boolean isValid(final MetaDataContexts metaDataContexts, final long metaDataVersion) {
+        return this.metaDataContexts == metaDataContexts && this.metaDataVersion == metaDataVersion;
+    }
+    
+    boolean isNewerThan(final long metaDataVersion) {
+        return this.metaDataVersion > metaDataVersion;
+    }
+    
+    int retain() {
+        return referenceCount.incrementAndGet();
+    }
+    
+    boolean tryRetain() {
+        int count;
+        do {
+            count = referenceCount.get();
+            if (0 == count) {
+                return false;
+            }
+        } while (!referenceCount.compareAndSet(count, count + 1));
+        return true;
+    }
+    
+    int release() {
+        return referenceCount.decrementAndGet();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link ServerPreparedStatementPlan} cache shared by all connections.
+ *
+ * <p>
+ * Plans are keyed by database, SQL and parameter types, and are reference counted by prepared statements of connections.
+ * A plan is removed when it is not referenced any more, and is reloaded when meta data or rules changed after it was loaded.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ServerPreparedStatementPlanCache {
+    
+    private static final ServerPreparedStatementPlanCache INSTANCE = new ServerPreparedStatementPlanCache();
+    
+    private final Map<PlanKey, ServerPreparedStatementPlan> plans = new ConcurrentHashMap<>();
+    
+    /**
+     * Get server prepared statement plan cache instance.
+     *
+     * @return server prepared statement plan cache
+     */
+    public static ServerPreparedStatementPlanCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Acquire plan and increase its reference count.
+     * 
+     * <p>
+     * Meta data contexts and meta data version should be captured by caller together, and the same meta data contexts should be used by plan loader,
+     * so a plan loaded from stale meta data is never bound to a newer version. Plan loader is called outside of the lock of cache,
+     * so parsing and binding SQL of a connection never blocks connections preparing other SQLs.
+     * Plan loaded with meta data older than the cached one is returned without being cached.
+     * </p>
+     *
+     * @param metaDataContexts meta data contexts captured by caller
+     * @param metaDataVersion meta data version captured by caller together with meta data contexts
+     * @param databaseName database name
+     * @param sql SQL
+     * @param parameterTypes parameter types specified by client
+     * @param planLoader loader of plan if absent or stale, which should load plan with the given meta data contexts
+     * @return plan
+     */
+    public ServerPreparedStatementPlan acquire(final MetaDataContexts metaDataContexts, final long metaDataVersion,
+                                               final String databaseName, final String sql, final List<?> parameterTypes, final Supplier<ServerPreparedStatementPlan> planLoader) {
+        PlanKey key = new PlanKey(databaseName, sql, new ArrayList<>(parameterTypes));
+        ServerPreparedStatementPlan loaded = null;
+        while (true) {
+            ServerPreparedStatementPlan cached = plans.get(key);
+            if (null != cached && cached.isValid(metaDataContexts, metaDataVersion) && cached.tryRetain()) {
+                return cached;
+            }
+            if (null == loaded) {
+                loaded = planLoader.get();
+                loaded.bind(key, metaDataContexts, metaDataVersion);
+                loaded.retain();
+            }
+            if (null != cached && cached.isNewerThan(metaDataVersion)) {
+                return loaded;
+            }
+            if (null == cached ? null == plans.putIfAbsent(key, loaded) : plans.replace(key, cached, loaded)) {
+                return loaded;
+            }
+        }
+    }
+    
+    /**
+     * Release plan and decrease its reference count.
+     *
+     * @param plan plan to be released
+     */
+    public void release(final ServerPreparedStatementPlan plan) {
+        if (0 == plan.release()) {
+            plans.remove(plan.getKey(), plan);
+        }
+    }
+    
+    /**
+     * Get cached plan count.
+     *
+     * @return cached plan count
+     */
+    public int getPlanCount() {
+        return plans.size();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PlanKey {
+        
+        private final String databaseName;
+        
+        private final String sql;
+        
+        private final List<?> parameterTypes;
+    }
+}
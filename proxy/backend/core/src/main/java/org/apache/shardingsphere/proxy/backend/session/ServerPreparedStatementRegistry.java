@@ -27,6 +27,8 @@ public final class ServerPreparedStatementRegistry {
     
     private final Map<Object, ServerPreparedStatement> preparedStatements = new ConcurrentHashMap<>();
     
+    private final Map<Object, ServerPreparedStatementPlan> plans = new ConcurrentHashMap<>();
+    
     /**
      * Add {@link ServerPreparedStatement} into registry.
      *
@@ -35,6 +37,19 @@ public final class ServerPreparedStatementRegistry {
      */
     public void addPreparedStatement(final Object statementId, final ServerPreparedStatement serverPreparedStatement) {
         preparedStatements.put(statementId, serverPreparedStatement);
+        releasePlan(statementId);
+    }
+    
+    /**
+     * Add {@link ServerPreparedStatement} created from shared {@link ServerPreparedStatementPlan} into registry.
+     *
+     * @param statementId statement ID
+     * @param serverPreparedStatement server prepared statement
+     * @param plan plan acquired from {@link ServerPreparedStatementPlanCache}, which is released when the prepared statement is removed
+     */
+    public void addPreparedStatement(final Object statementId, final ServerPreparedStatement serverPreparedStatement, final ServerPreparedStatementPlan plan) {
+        addPreparedStatement(statementId, serverPreparedStatement);
+        plans.put(statementId, plan);
     }
     
     /**
@@ -56,6 +71,7 @@ public final class ServerPreparedStatementRegistry {
      */
     public void removePreparedStatement(final Object statementId) {
         preparedStatements.remove(statementId);
+        releasePlan(statementId);
     }
     
     /**
@@ -63,5 +79,14 @@ public final class ServerPreparedStatementRegistry {
      */
     public void clear() {
         preparedStatements.clear();
+        plans.values().forEach(ServerPreparedStatementPlanCache.getInstance()::release);
+        plans.clear();
+    }
+    
+    private void releasePlan(final Object statementId) {
+        ServerPreparedStatementPlan plan = plans.remove(statementId);
+        if (null != plan) {
+            ServerPreparedStatementPlanCache.getInstance().release(plan);
+        }
     }
 }
@@ -158,6 +158,7 @@ public final class DatabaseConnectorTest {
         QueryResponseRow actualRow = engine.getRowData();
         assertThat(actualRow.getCells().get(0).getJdbcType(), is(Types.INTEGER));
         assertThat(actualRow.getCells().get(0).getData(), is(Integer.MAX_VALUE));
+        assertThat(engine.getRowValues(), is(Collections.singletonList(Integer.MAX_VALUE)));
         assertFalse(engine.next());
         engine.close();
         verify(federationExecutor).close();
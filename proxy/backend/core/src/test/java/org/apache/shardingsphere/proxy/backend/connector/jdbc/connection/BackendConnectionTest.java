@@ -44,6 +44,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -243,6 +244,32 @@ public final class BackendConnectionTest {
         }
     }
     
+    @Test
+    public void assertGetConnectionsWithKeptSessionState() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        DataSource dataSource = mock(DataSource.class);
+        when(proxyContext.getBackendDataSource().getDataSource(anyString(), anyString())).thenReturn(dataSource);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        assertThat(backendConnection.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(connection)));
+        backendConnection.closeConnections(false);
+        verify(connection, never()).close();
+        assertThat(backendConnection.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(connection)));
+        verify(proxyContext.getBackendDataSource()).getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class));
+        verify(connection.createStatement()).execute("SET key=value");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "other");
+        backendConnection.closeConnections(false);
+        assertThat(backendConnection.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(connection)));
+        verify(connection.createStatement()).execute("SET key=other");
+        connectionSession.getTransactionStatus().setInTransaction(true);
+        backendConnection.closeConnections(false);
+        verify(connection).close();
+    }
+    
     // TODO weijie fix it
     @Disabled
     @Test
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import org.apache.shardingsphere.mode.metadata.storage.event.DataSourcesDeletedEvent;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SessionStateConnectionCacheTest {
+    
+    private final SessionState sqlModeState = new SessionState(Collections.singletonMap("sql_mode", "''"), false, null);
+    
+    private final SessionState waitTimeoutState = new SessionState(Collections.singletonMap("wait_timeout", "60"), false, null);
+    
+    private final SessionState readOnlyState = new SessionState(Collections.singletonMap("sql_mode", "''"), true, null);
+    
+    @Test
+    public void assertPollSameSessionStateFirst() {
+        DataSource dataSource = mock(DataSource.class);
+        SessionStateConnection waitTimeoutConnection = new SessionStateConnection(dataSource, mock(Connection.class), waitTimeoutState);
+        SessionStateConnection sqlModeConnection = new SessionStateConnection(dataSource, mock(Connection.class), sqlModeState);
+        assertTrue(SessionStateConnectionCache.getInstance().offer(sqlModeConnection, Collections.emptyList()));
+        assertTrue(SessionStateConnectionCache.getInstance().offer(waitTimeoutConnection, Collections.emptyList()));
+        List<SessionStateConnection> actual = SessionStateConnectionCache.getInstance().poll(dataSource, sqlModeState, 1);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(sqlModeConnection));
+        actual = SessionStateConnectionCache.getInstance().poll(dataSource, sqlModeState, 2);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(waitTimeoutConnection));
+        assertTrue(SessionStateConnectionCache.getInstance().poll(dataSource, sqlModeState, 1).isEmpty());
+    }
+    
+    @Test
+    public void assertPollWithDifferentTransactionOptions() {
+        DataSource dataSource = mock(DataSource.class);
+        SessionStateConnection connection = new SessionStateConnection(dataSource, mock(Connection.class), sqlModeState);
+        assertTrue(SessionStateConnectionCache.getInstance().offer(connection, Collections.emptyList()));
+        assertTrue(SessionStateConnectionCache.getInstance().poll(dataSource, readOnlyState, 1).isEmpty());
+        assertTrue(SessionStateConnectionCache.getInstance().poll(mock(DataSource.class), sqlModeState, 1).isEmpty());
+        assertThat(SessionStateConnectionCache.getInstance().poll(dataSource, sqlModeState, 1).size(), is(1));
+    }
+    
+    @Test
+    public void assertOfferMoreThanMaxIdleConnections() {
+        DataSource dataSource = mock(DataSource.class);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(SessionStateConnectionCache.getInstance().offer(new SessionStateConnection(dataSource, mock(Connection.class), sqlModeState), Collections.emptyList()));
+        }
+        assertFalse(SessionStateConnectionCache.getInstance().offer(new SessionStateConnection(dataSource, mock(Connection.class), sqlModeState), Collections.emptyList()));
+        assertThat(SessionStateConnectionCache.getInstance().poll(dataSource, sqlModeState, 10).size(), is(8));
+    }
+    
+    @Test
+    public void assertPollSkipClosedConnection() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        assertTrue(SessionStateConnectionCache.getInstance().offer(new SessionStateConnection(dataSource, connection, sqlModeState), Collections.emptyList()));
+        when(connection.isClosed()).thenReturn(true);
+        assertTrue(SessionStateConnectionCache.getInstance().poll(dataSource, sqlModeState, 1).isEmpty());
+    }
+    
+    @Test
+    public void assertInvalidate() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        assertTrue(SessionStateConnectionCache.getInstance().offer(new SessionStateConnection(dataSource, connection, sqlModeState), Collections.emptyList()));
+        SessionStateConnectionCache.getInstance().invalidate(new DataSourcesDeletedEvent(Collections.singleton(dataSource)));
+        verify(connection).close();
+        assertTrue(SessionStateConnectionCache.getInstance().poll(dataSource, sqlModeState, 1).isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSQLFederationPlanCacheStatement;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationPlanCacheStatistics;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShowSQLFederationPlanCacheExecutorTest {
+    
+    @Test
+    public void assertGetRows() {
+        ShowSQLFederationPlanCacheExecutor executor = new ShowSQLFederationPlanCacheExecutor();
+        Collection<LocalDataQueryResultRow> actual = executor.getRows(mockMetaData(), new ShowSQLFederationPlanCacheStatement());
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is(10L));
+        assertThat(row.getCell(2), is(90L));
+        assertThat(row.getCell(3), is(12L));
+    }
+    
+    @Test
+    public void assertGetColumnNames() {
+        ShowSQLFederationPlanCacheExecutor executor = new ShowSQLFederationPlanCacheExecutor();
+        Collection<String> columns = executor.getColumnNames();
+        assertThat(columns.size(), is(3));
+        Iterator<String> iterator = columns.iterator();
+        assertThat(iterator.next(), is("size"));
+        assertThat(iterator.next(), is("hit_count"));
+        assertThat(iterator.next(), is("miss_count"));
+    }
+    
+    private ShardingSphereMetaData mockMetaData() {
+        SQLFederationRule rule = mock(SQLFederationRule.class);
+        when(rule.getPlanCacheStatistics()).thenReturn(new SQLFederationPlanCacheStatistics(10L, 90L, 12L));
+        return new ShardingSphereMetaData(new LinkedHashMap<>(), new ShardingSphereRuleMetaData(Collections.singleton(rule)), new ConfigurationProperties(new Properties()));
+    }
+}
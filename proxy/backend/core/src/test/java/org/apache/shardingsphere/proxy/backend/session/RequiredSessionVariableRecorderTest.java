@@ -21,7 +21,9 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -64,6 +66,31 @@ public final class RequiredSessionVariableRecorderTest {
         assertThat(recorder.toResetSQLs(databaseType), is(Collections.singletonList("RESET ALL")));
     }
     
+    @Test
+    public void assertToMySQLChangeSQLs() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("sql_mode", "''");
+        recorder.setVariable("max_sort_length", "1024");
+        Map<String, String> appliedVariables = new HashMap<>(2, 1);
+        appliedVariables.put("max_sort_length", "1024");
+        appliedVariables.put("wait_timeout", "60");
+        assertThat(new HashSet<>(Arrays.asList(recorder.toChangeSQLs("MySQL", appliedVariables).get(0).substring("SET ".length()).split(","))),
+                is(new HashSet<>(Arrays.asList("sql_mode=''", "wait_timeout=DEFAULT"))));
+        assertTrue(recorder.toChangeSQLs("MySQL", recorder.getVariables()).isEmpty());
+    }
+    
+    @Test
+    public void assertToPostgreSQLChangeSQLs() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("search_path", "foo");
+        recorder.setVariable("datestyle", "ISO");
+        Map<String, String> appliedVariables = new HashMap<>(2, 1);
+        appliedVariables.put("search_path", "bar");
+        appliedVariables.put("client_encoding", "utf8");
+        assertThat(new HashSet<>(recorder.toChangeSQLs("PostgreSQL", appliedVariables)), is(new HashSet<>(Arrays.asList("SET search_path=foo", "SET datestyle=ISO", "RESET client_encoding"))));
+        assertTrue(recorder.toChangeSQLs("unsupported", appliedVariables).isEmpty());
+    }
+    
     @Test
     public void assertRecordUnsupportedDatabaseType() {
         RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
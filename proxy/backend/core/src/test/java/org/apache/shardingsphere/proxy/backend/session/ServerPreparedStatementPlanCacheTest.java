@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ServerPreparedStatementPlanCacheTest {
+    
+    private final MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
+    
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    
+    @Test
+    public void assertAcquireSharedPlan() {
+        ServerPreparedStatementPlanCache cache = ServerPreparedStatementPlanCache.getInstance();
+        ServerPreparedStatementPlan expected = cache.acquire(metaDataContexts, 0L, "foo_db", "SELECT ?", Collections.emptyList(), this::createPlan);
+        ServerPreparedStatementPlan actual = cache.acquire(metaDataContexts, 0L, "foo_db", "SELECT ?", Collections.emptyList(), this::createPlan);
+        assertThat(actual, sameInstance(expected));
+        assertThat(loadedCount.get(), is(1));
+        cache.release(expected);
+        cache.release(actual);
+    }
+    
+    @Test
+    public void assertAcquireWithDifferentParameterTypes() {
+        ServerPreparedStatementPlanCache cache = ServerPreparedStatementPlanCache.getInstance();
+        ServerPreparedStatementPlan plan = cache.acquire(metaDataContexts, 0L, "foo_db", "SELECT ?", Collections.singletonList(23), this::createPlan);
+        ServerPreparedStatementPlan anotherPlan = cache.acquire(metaDataContexts, 0L, "foo_db", "SELECT ?", Collections.singletonList(25), this::createPlan);
+        assertThat(anotherPlan, not(sameInstance(plan)));
+        cache.release(plan);
+        cache.release(anotherPlan);
+    }
+    
+    @Test
+    public void assertAcquireAfterMetaDataChanged() {
+        ServerPreparedStatementPlanCache cache = ServerPreparedStatementPlanCache.getInstance();
+        ServerPreparedStatementPlan stalePlan = cache.acquire(metaDataContexts, 0L, "foo_db", "SELECT 1", Collections.emptyList(), this::createPlan);
+        ServerPreparedStatementPlan actual = cache.acquire(metaDataContexts, 1L, "foo_db", "SELECT 1", Collections.emptyList(), this::createPlan);
+        assertThat(actual, not(sameInstance(stalePlan)));
+        assertThat(loadedCount.get(), is(2));
+        int planCount = cache.getPlanCount();
+        cache.release(stalePlan);
+        assertThat(cache.getPlanCount(), is(planCount));
+        cache.release(actual);
+        assertThat(cache.getPlanCount(), is(planCount - 1));
+    }
+    
+    @Test
+    public void assertAcquireWithOlderMetaDataVersion() {
+        ServerPreparedStatementPlanCache cache = ServerPreparedStatementPlanCache.getInstance();
+        ServerPreparedStatementPlan cachedPlan = cache.acquire(metaDataContexts, 1L, "foo_db", "SELECT 3", Collections.emptyList(), this::createPlan);
+        ServerPreparedStatementPlan actual = cache.acquire(metaDataContexts, 0L, "foo_db", "SELECT 3", Collections.emptyList(), this::createPlan);
+        assertThat(actual, not(sameInstance(cachedPlan)));
+        assertThat(cache.acquire(metaDataContexts, 1L, "foo_db", "SELECT 3", Collections.emptyList(), this::createPlan), sameInstance(cachedPlan));
+        int planCount = cache.getPlanCount();
+        cache.release(actual);
+        assertThat(cache.getPlanCount(), is(planCount));
+        cache.release(cachedPlan);
+        cache.release(cachedPlan);
+        assertThat(cache.getPlanCount(), is(planCount - 1));
+    }
+    
+    @Test
+    public void assertReleaseUnreferencedPlan() {
+        ServerPreparedStatementPlanCache cache = ServerPreparedStatementPlanCache.getInstance();
+        int planCount = cache.getPlanCount();
+        ServerPreparedStatementPlan plan = cache.acquire(metaDataContexts, 0L, "foo_db", "SELECT 2", Collections.emptyList(), this::createPlan);
+        assertThat(cache.getPlanCount(), is(planCount + 1));
+        cache.release(plan);
+        assertThat(cache.getPlanCount(), is(planCount));
+    }
+    
+    private ServerPreparedStatementPlan createPlan() {
+        loadedCount.incrementAndGet();
+        return new ServerPreparedStatementPlan("SELECT ?", mock(SQLStatement.class), mock(SQLStatementContext.class));
+    }
+}
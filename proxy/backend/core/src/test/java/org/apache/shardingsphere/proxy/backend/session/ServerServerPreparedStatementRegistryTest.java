@@ -19,11 +19,16 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
+import org.mockito.MockedStatic;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 
 public final class ServerServerPreparedStatementRegistryTest {
     
@@ -45,6 +50,19 @@ public final class ServerServerPreparedStatementRegistryTest {
         assertNull(registry.getPreparedStatement(1));
     }
     
+    @Test
+    public void assertRemovePreparedStatementWithPlan() {
+        ServerPreparedStatementPlan plan = new ServerPreparedStatementPlan("", mock(SQLStatement.class), mock(SQLStatementContext.class));
+        ServerPreparedStatementRegistry registry = new ServerPreparedStatementRegistry();
+        try (MockedStatic<ServerPreparedStatementPlanCache> mockedStatic = mockStatic(ServerPreparedStatementPlanCache.class)) {
+            ServerPreparedStatementPlanCache cache = mock(ServerPreparedStatementPlanCache.class);
+            mockedStatic.when(ServerPreparedStatementPlanCache::getInstance).thenReturn(cache);
+            registry.addPreparedStatement(1, new DummyServerPreparedStatement(), plan);
+            registry.addPreparedStatement(1, new DummyServerPreparedStatement());
+            verify(cache).release(plan);
+        }
+    }
+    
     private static class DummyServerPreparedStatement implements ServerPreparedStatement {
         
         @Override
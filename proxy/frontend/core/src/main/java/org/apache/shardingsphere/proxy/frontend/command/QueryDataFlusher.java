@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query data flusher.
+ *
+ * <p>
+ * Packets are flushed once the bytes pending since last flush reach flush bytes, the packets pending since last flush reach flush threshold, or the flush interval elapsed.
+ * The flush interval is also guarded by a timer on the event loop of channel, so packets of slow query are not held until the next row arrives.
+ * So packets of small result are left for the single flush of command, and packets of large result are flushed in batches of similar size whatever wide the rows are.
+ * Pending bytes are counted by the packet codec of channel when packets are encoded, and writing waits for the writability changed event of channel while outbound buffer is full.
+ * </p>
+ */
+public final class QueryDataFlusher {
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final PacketCodec packetCodec;
+    
+    private final int flushThreshold;
+    
+    private final long flushBytes;
+    
+    private final long flushIntervalNanos;
+    
+    private long flushedBytes;
+    
+    private long lastFlushNanos;
+    
+    private int unflushedCount;
+    
+    private int flushCount;
+    
+    private ScheduledFuture<?> scheduledFlush;
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final ResourceLock resourceLock) {
+        this(context, resourceLock, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+    }
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final ResourceLock resourceLock, final ConfigurationProperties props) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        packetCodec = context.pipeline().get(PacketCodec.class);
+        flushThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytes = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES);
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS));
+        flushedBytes = packetCodec.getEncodedBytes();
+        lastFlushNanos = System.nanoTime();
+    }
+    
+    /**
+     * Write packet and flush if needed.
+     *
+     * @param packet packet to be written
+     */
+    public void write(final DatabasePacket<?> packet) {
+        awaitWritable();
+        context.write(packet);
+        unflushedCount++;
+        if (getUnflushedBytes() >= flushBytes || flushThreshold > 0 && unflushedCount >= flushThreshold || System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+            flush();
+        } else if (null == scheduledFlush || scheduledFlush.isDone()) {
+            scheduleFlush();
+        }
+    }
+    
+    private void scheduleFlush() {
+        Runnable flushTask = context::flush;
+        scheduledFlush = context.executor().schedule(flushTask, flushIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private void awaitWritable() {
+        Channel channel = context.channel();
+        if (channel.isWritable() || !channel.isActive()) {
+            return;
+        }
+        flush();
+        while (true) {
+            boolean notified = resourceLock.doAwait();
+            if (channel.isWritable() || !channel.isActive()) {
+                return;
+            }
+            if (!notified) {
+                context.flush();
+            }
+        }
+    }
+    
+    private long getUnflushedBytes() {
+        return packetCodec.getEncodedBytes() - flushedBytes;
+    }
+    
+    private long flush() {
+        cancelScheduledFlush();
+        context.flush();
+        long encodedBytes = packetCodec.getEncodedBytes();
+        long result = encodedBytes - flushedBytes;
+        flushCount++;
+        unflushedCount = 0;
+        flushedBytes = encodedBytes;
+        lastFlushNanos = System.nanoTime();
+        return result;
+    }
+    
+    /**
+     * Finish writing packets of query.
+     *
+     * <p>
+     * The packets written since last flush are left for the flush of command.
+     * </p>
+     *
+     * @return flush count of query
+     */
+    public int finish() {
+        cancelScheduledFlush();
+        return flushCount;
+    }
+    
+    private void cancelScheduledFlush() {
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+}
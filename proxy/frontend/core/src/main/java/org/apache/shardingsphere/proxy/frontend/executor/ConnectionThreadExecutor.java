@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Connection thread executor.
+ *
+ * <p>
+ * Tasks of a connection are executed serially by a thread borrowed from thread provider on demand.
+ * After each task, the thread is pinned to the connection if thread affinity is still required, such as XA transaction is open,
+ * so following tasks run on the same thread until affinity is released. Otherwise the thread is given back once the queue is drained.
+ * Tasks queued before shutdown still run on the pinned thread, so the connection can release thread bound resources before the thread is given back.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ConnectionThreadExecutor extends AbstractExecutorService {
+    
+    private static final Runnable WAKE_UP_TASK = () -> {
+    };
+    
+    private final String threadName;
+    
+    private final Executor threadProvider;
+    
+    private final BooleanSupplier threadAffinityRequired;
+    
+    private final LinkedBlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    private final AtomicInteger activeDrains = new AtomicInteger();
+    
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    
+    private volatile boolean shutdown;
+    
+    private volatile boolean pinned;
+    
+    @Override
+    public void execute(final Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException(String.format("%s has been shutdown.", threadName));
+        }
+        tasks.offer(command);
+        schedule();
+    }
+    
+    private void schedule() {
+        if (!pinned && running.compareAndSet(false, true)) {
+            activeDrains.incrementAndGet();
+            try {
+                threadProvider.execute(this::drain);
+            } catch (final RejectedExecutionException ex) {
+                running.set(false);
+                activeDrains.decrementAndGet();
+                throw ex;
+            }
+        }
+    }
+    
+    private void drain() {
+        Thread currentThread = Thread.currentThread();
+        String originalThreadName = currentThread.getName();
+        currentThread.setName(threadName);
+        try {
+            while (true) {
+                Runnable task = pinned ? takeTask() : tasks.poll();
+                if (null != task) {
+                    runTask(task);
+                    continue;
+                }
+                running.set(false);
+                if (tasks.isEmpty() || !running.compareAndSet(false, true)) {
+                    break;
+                }
+            }
+        } finally {
+            currentThread.setName(originalThreadName);
+        }
+        // Drain which is scheduled by later task or shutdown might be still active, and queued task is always followed by a drain
+        if (0 == activeDrains.decrementAndGet() && shutdown && tasks.isEmpty()) {
+            terminated.countDown();
+        }
+    }
+    
+    private Runnable takeTask() {
+        try {
+            return tasks.take();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            pinned = false;
+            return tasks.poll();
+        }
+    }
+    
+    private void runTask(final Runnable task) {
+        try {
+            task.run();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur when executing task of `{}`: ", threadName, ex);
+        } finally {
+            pinned = !shutdown && threadAffinityRequired.getAsBoolean();
+        }
+    }
+    
+    /**
+     * Judge whether thread is pinned to current connection.
+     *
+     * @return thread is pinned or not
+     */
+    public boolean isPinned() {
+        return pinned;
+    }
+    
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        tasks.offer(WAKE_UP_TASK);
+        schedule();
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> result = new LinkedList<>();
+        tasks.drainTo(result);
+        result.remove(WAKE_UP_TASK);
+        shutdown();
+        return result;
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return 0L == terminated.getCount();
+    }
+    
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+}
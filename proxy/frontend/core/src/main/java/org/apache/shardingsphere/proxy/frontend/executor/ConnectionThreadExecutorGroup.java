@@ -19,13 +19,18 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 /**
  * Connection thread executor group.
@@ -33,6 +38,9 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * Connections do not own a thread, a thread is borrowed from shared threads when commands arrive,
+ * and kept by the connection only while thread affinity is required. Idle shared threads are reclaimed after keep alive time.
+ * The thread can be a virtual thread, so lots of mostly idle connections do not hold a platform thread each.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,8 +48,13 @@ public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60L;
+    
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final ThreadPoolExecutor sharedThreads = new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            ExecutorThreadFactoryBuilder.build("Connection-Thread-%d"));
+    
     /**
      * Get connection thread executor group.
      *
@@ -55,13 +68,19 @@ public final class ConnectionThreadExecutorGroup {
      * Register connection.
      *
      * @param connectionId connection id
+     * @param virtualThreadPreferred whether to use virtual thread if JVM supports it
+     * @param threadAffinityRequired whether the connection requires to keep its current thread after a task finished
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+    public void register(final int connectionId, final boolean virtualThreadPreferred, final BooleanSupplier threadAffinityRequired) {
+        executorServices.put(connectionId, new ConnectionThreadExecutor(
+                String.format(virtualThreadPreferred && VirtualThreadFactoryBuilder.isSupported() ? "Connection-%d-VirtualThreadExecutor" : "Connection-%d-ThreadExecutor", connectionId),
+                getThreadProvider(connectionId, virtualThreadPreferred), threadAffinityRequired));
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    private Executor getThreadProvider(final int connectionId, final boolean virtualThreadPreferred) {
+        Optional<ThreadFactory> virtualThreadFactory =
+                virtualThreadPreferred ? VirtualThreadFactoryBuilder.build(String.format("Connection-%d-VirtualThreadExecutor", connectionId)) : Optional.empty();
+        return virtualThreadFactory.<Executor>map(threadFactory -> runnable -> threadFactory.newThread(runnable).start()).orElse(sharedThreads);
     }
     
     /**
@@ -74,6 +93,24 @@ public final class ConnectionThreadExecutorGroup {
         return executorServices.get(connectionId);
     }
     
+    /**
+     * Get count of threads pinned to connections.
+     *
+     * @return count of pinned threads
+     */
+    public int getPinnedThreadCount() {
+        return (int) executorServices.values().stream().filter(each -> each instanceof ConnectionThreadExecutor && ((ConnectionThreadExecutor) each).isPinned()).count();
+    }
+    
+    /**
+     * Get count of shared threads which are idle and can be borrowed by any connection.
+     *
+     * @return count of free threads
+     */
+    public int getFreeThreadCount() {
+        return Math.max(sharedThreads.getPoolSize() - sharedThreads.getActiveCount(), 0);
+    }
+    
     /**
      * Unregister connection and await termination.
      *
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread factory builder.
+ *
+ * <p>
+ * Virtual thread is invoked by reflection, because proxy is still compiled and run with Java 8.
+ * Nothing is built if the running JVM does not support virtual thread or has not enabled it.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadFactoryBuilder {
+    
+    private static final Method[] BUILDER_METHODS = findBuilderMethods();
+    
+    private static Method[] findBuilderMethods() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            ofVirtualMethod.invoke(null);
+            return new Method[]{ofVirtualMethod, builderClass.getMethod("name", String.class), builderClass.getMethod("factory")};
+            // CHECKSTYLE:OFF
+        } catch (final ReflectiveOperationException | RuntimeException ignored) {
+            // CHECKSTYLE:ON
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != BUILDER_METHODS;
+    }
+    
+    /**
+     * Build virtual thread factory.
+     *
+     * @param threadName name of created virtual threads
+     * @return virtual thread factory, empty if virtual thread is not supported
+     */
+    public static Optional<ThreadFactory> build(final String threadName) {
+        if (null == BUILDER_METHODS) {
+            return Optional.empty();
+        }
+        try {
+            Object builder = BUILDER_METHODS[1].invoke(BUILDER_METHODS[0].invoke(null), threadName);
+            return Optional.of((ThreadFactory) BUILDER_METHODS[2].invoke(builder));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -24,10 +24,13 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.BackendExecutorType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
@@ -35,9 +38,12 @@ import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecuto
 import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
+import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 
+import java.sql.SQLException;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Frontend channel inbound handler.
@@ -60,10 +66,19 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, isVirtualThreadPreferred(), this::isThreadAffinityRequired);
         connectionSession.setConnectionId(connectionId);
     }
     
+    private boolean isVirtualThreadPreferred() {
+        return BackendExecutorType.VIRTUAL == ProxyContext.getInstance()
+                .getContextManager().getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE);
+    }
+    
+    private boolean isThreadAffinityRequired() {
+        return TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType()) && connectionSession.getTransactionStatus().isInTransaction();
+    }
+    
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message) {
         if (!authenticated) {
@@ -99,12 +114,30 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     }
     
     private void closeAllResources() {
+        ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
+        // Distributed transaction is bound to the thread pinned to connection, so it must be rolled back by the same thread before the thread is given back
+        if (null == executorService) {
+            closeBackendConnection();
+        } else {
+            executorService.execute(this::closeBackendConnection);
+        }
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionSession.getConnectionId());
-        connectionSession.getBackendConnection().closeAllResources();
+        connectionSession.getServerPreparedStatementRegistry().clear();
         Optional.ofNullable(connectionSession.getExecutionId()).ifPresent(new ExecuteProcessEngine()::finishConnection);
         databaseProtocolFrontendEngine.release(connectionSession);
     }
     
+    private void closeBackendConnection() {
+        if (isThreadAffinityRequired()) {
+            try {
+                new BackendTransactionManager(connectionSession.getBackendConnection()).rollback();
+            } catch (final SQLException ex) {
+                log.error("Exception occur when rolling back distributed transaction: ", ex);
+            }
+        }
+        connectionSession.getBackendConnection().closeAllResources();
+    }
+    
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
@@ -48,10 +48,11 @@ public final class OKProxyState implements ProxyState {
         if (requireOccupyThreadForConnection(connectionSession)) {
             return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
         }
-        if (isPreferNettyEventLoop()) {
+        BackendExecutorType backendExecutorType = getBackendExecutorType();
+        if (BackendExecutorType.OLTP == backendExecutorType) {
             return context.executor();
         }
-        if (databaseProtocolFrontendEngine.getFrontendContext().isRequiredSameThreadForConnection(message)) {
+        if (BackendExecutorType.VIRTUAL == backendExecutorType || databaseProtocolFrontendEngine.getFrontendContext().isRequiredSameThreadForConnection(message)) {
             return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
         }
         return UserExecutorGroup.getInstance().getExecutorService();
@@ -62,8 +63,7 @@ public final class OKProxyState implements ProxyState {
                 || TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
     }
     
-    private boolean isPreferNettyEventLoop() {
-        return BackendExecutorType.OLTP == ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE);
+    private BackendExecutorType getBackendExecutorType() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE);
     }
 }
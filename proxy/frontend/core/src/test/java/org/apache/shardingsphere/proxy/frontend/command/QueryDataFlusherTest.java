@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class QueryDataFlusherTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelPipeline pipeline;
+    
+    @Mock
+    private PacketCodec packetCodec;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Mock
+    private EventExecutor executor;
+    
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+    
+    @BeforeEach
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(context.pipeline()).thenReturn(pipeline);
+        when(pipeline.get(PacketCodec.class)).thenReturn(packetCodec);
+        when(context.executor()).thenReturn(executor);
+        when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> scheduledFuture);
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.isActive()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertWriteSmallResultWithoutFlush() {
+        when(packetCodec.getEncodedBytes()).thenReturn(0L, 1024L);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProps(0));
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        for (int i = 0; i < 1000; i++) {
+            flusher.write(packet);
+        }
+        verify(context, times(1000)).write(packet);
+        verify(context, never()).flush();
+        assertThat(flusher.finish(), is(0));
+    }
+    
+    @Test
+    public void assertFlushByBytes() {
+        when(packetCodec.getEncodedBytes()).thenReturn(0L, 30000L, 80000L, 80000L, 90000L);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProps(0));
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        flusher.write(packet);
+        flusher.write(packet);
+        verify(context).flush();
+        assertThat(flusher.finish(), is(1));
+    }
+    
+    @Test
+    public void assertFlushByThreshold() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProps(2));
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        for (int i = 0; i < 5; i++) {
+            flusher.write(packet);
+        }
+        verify(context, times(2)).flush();
+        assertThat(flusher.finish(), is(2));
+    }
+    
+    @Test
+    public void assertFlushByScheduledInterval() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProps(0));
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        flusher.write(packet);
+        ArgumentCaptor<Runnable> flushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(flushTask.capture(), anyLong(), any(TimeUnit.class));
+        verify(context, never()).flush();
+        flushTask.getValue().run();
+        verify(context).flush();
+        assertThat(flusher.finish(), is(0));
+        verify(scheduledFuture).cancel(false);
+    }
+    
+    @Test
+    public void assertAwaitWritable() {
+        when(channel.isWritable()).thenReturn(false, false, true);
+        when(resourceLock.doAwait()).thenReturn(false, true);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProps(0));
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        verify(resourceLock, times(2)).doAwait();
+        verify(context, times(2)).flush();
+        verify(context).write(packet);
+        assertThat(flusher.finish(), is(1));
+    }
+    
+    private ConfigurationProperties createProps(final int flushThreshold) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(flushThreshold)),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), String.valueOf(60000))));
+    }
+}
@@ -19,6 +19,10 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.Test;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -27,15 +31,24 @@ public final class ConnectionThreadExecutorGroupTest {
     @Test
     public void assertRegister() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false, () -> false);
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
+    @Test
+    public void assertRegisterWithVirtualThreadPreferred() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true, () -> false);
+        String expectedThreadName = VirtualThreadFactoryBuilder.isSupported() ? "Connection-3-VirtualThreadExecutor" : "Connection-3-ThreadExecutor";
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get(), is(expectedThreadName));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
     @Test
     public void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false, () -> false);
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
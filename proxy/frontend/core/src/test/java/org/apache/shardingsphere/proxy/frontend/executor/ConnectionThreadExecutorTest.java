@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ConnectionThreadExecutorTest {
+    
+    private final ExecutorService threadProvider = Executors.newCachedThreadPool();
+    
+    @After
+    public void tearDown() {
+        threadProvider.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecuteSerially() throws InterruptedException {
+        ConnectionThreadExecutor executor = new ConnectionThreadExecutor("Connection-1-ThreadExecutor", threadProvider, () -> false);
+        List<Integer> actual = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            executor.execute(() -> actual.add(index));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10L, TimeUnit.SECONDS), is(true));
+        assertThat(actual.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+    }
+    
+    @Test
+    public void assertKeepThreadWhileAffinityRequired() throws ExecutionException, InterruptedException {
+        AtomicBoolean affinityRequired = new AtomicBoolean(true);
+        ConnectionThreadExecutor executor = new ConnectionThreadExecutor("Connection-1-ThreadExecutor", threadProvider, affinityRequired::get);
+        Thread pinnedThread = executor.submit(Thread::currentThread).get();
+        waitUntilPinned(executor, true);
+        assertThat(executor.submit(Thread::currentThread).get(), is(pinnedThread));
+        affinityRequired.set(false);
+        assertThat(executor.submit(Thread::currentThread).get(), is(pinnedThread));
+        waitUntilPinned(executor, false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10L, TimeUnit.SECONDS), is(true));
+        assertThat(executor.isTerminated(), is(true));
+    }
+    
+    @Test
+    public void assertReleaseAffinityOnPinnedThreadBeforeShutdown() throws ExecutionException, InterruptedException {
+        AtomicBoolean affinityRequired = new AtomicBoolean(true);
+        ConnectionThreadExecutor executor = new ConnectionThreadExecutor("Connection-1-ThreadExecutor", threadProvider, affinityRequired::get);
+        Thread pinnedThread = executor.submit(Thread::currentThread).get();
+        waitUntilPinned(executor, true);
+        AtomicReference<Thread> releaseThread = new AtomicReference<>();
+        executor.execute(() -> {
+            releaseThread.set(Thread.currentThread());
+            affinityRequired.set(false);
+        });
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10L, TimeUnit.SECONDS), is(true));
+        assertThat(releaseThread.get(), is(pinnedThread));
+        assertThat(executor.isPinned(), is(false));
+    }
+    
+    @Test
+    public void assertRenameBorrowedThread() throws ExecutionException, InterruptedException {
+        ConnectionThreadExecutor executor = new ConnectionThreadExecutor("Connection-1-ThreadExecutor", threadProvider, () -> false);
+        assertThat(executor.submit(() -> Thread.currentThread().getName()).get(), is("Connection-1-ThreadExecutor"));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10L, TimeUnit.SECONDS), is(true));
+        assertThat(threadProvider.submit(() -> Thread.currentThread().getName()).get(), not("Connection-1-ThreadExecutor"));
+    }
+    
+    @Test
+    public void assertTerminateAfterLastDrainExits() {
+        List<Runnable> drains = new ArrayList<>();
+        ConnectionThreadExecutor executor = new ConnectionThreadExecutor("Connection-1-ThreadExecutor", drains::add, () -> false);
+        AtomicBoolean executed = new AtomicBoolean();
+        executor.execute(() -> executed.set(true));
+        executor.shutdown();
+        assertThat(drains.size(), is(1));
+        assertThat(executor.isTerminated(), is(false));
+        drains.get(0).run();
+        assertThat(executed.get(), is(true));
+        assertThat(executor.isTerminated(), is(true));
+    }
+    
+    @Test
+    public void assertShutdownNow() throws InterruptedException {
+        ConnectionThreadExecutor executor = new ConnectionThreadExecutor("Connection-1-ThreadExecutor", runnable -> {
+        }, () -> false);
+        Runnable task = () -> {
+        };
+        executor.execute(task);
+        assertThat(executor.shutdownNow(), is(Collections.singletonList(task)));
+        assertThat(executor.isShutdown(), is(true));
+    }
+    
+    private void waitUntilPinned(final ConnectionThreadExecutor executor, final boolean expectedPinned) throws InterruptedException {
+        for (int i = 0; i < 100 && expectedPinned != executor.isPinned(); i++) {
+            Thread.sleep(10L);
+        }
+        assertThat(executor.isPinned(), is(expectedPinned));
+    }
+}
@@ -106,6 +106,21 @@ public final class OKProxyStateTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
+    @Test
+    public void assertExecuteWithProxyBackendExecutorSuitableForVirtual() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(
+                ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE)).thenReturn(BackendExecutorType.VIRTUAL);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getConnectionId()).thenReturn(1);
+        ExecutorService executorService = registerMockExecutorService(1);
+        new OKProxyState().execute(mock(ChannelHandlerContext.class), null, mock(DatabaseProtocolFrontendEngine.class, RETURNS_DEEP_STUBS), connectionSession);
+        verify(executorService).execute(any(CommandExecutorTask.class));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
+    }
+    
     @SuppressWarnings({"unchecked", "SameParameterValue"})
     @SneakyThrows(ReflectiveOperationException.class)
     private ExecutorService registerMockExecutorService(final int connectionId) {
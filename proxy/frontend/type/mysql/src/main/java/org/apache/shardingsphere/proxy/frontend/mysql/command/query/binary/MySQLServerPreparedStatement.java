@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementParameterType;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementPlan;
 
 import java.util.List;
 import java.util.Map;
@@ -45,4 +48,29 @@ public final class MySQLServerPreparedStatement implements ServerPreparedStateme
     private final List<MySQLPreparedStatementParameterType> parameterTypes = new CopyOnWriteArrayList<>();
     
     private final Map<Integer, byte[]> longData = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private volatile ServerPreparedStatementPlan plan;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile SQLStatementContext<?> executionSqlStatementContext;
+    
+    /**
+     * Get SQL statement context to execute.
+     * 
+     * <p>
+     * SQL statement context of prepared statement created from {@link ServerPreparedStatementPlan} is shared by connections,
+     * so the one to execute is created from plan at the first execution and reused by following executions of the prepared statement.
+     * </p>
+     *
+     * @param defaultDatabaseName default database name
+     * @return SQL statement context to execute
+     */
+    public SQLStatementContext<?> getExecutionSqlStatementContext(final String defaultDatabaseName) {
+        if (null == executionSqlStatementContext) {
+            executionSqlStatementContext = null == plan ? sqlStatementContext : plan.createExecutionSQLStatementContext(defaultDatabaseName);
+        }
+        return executionSqlStatementContext;
+    }
 }
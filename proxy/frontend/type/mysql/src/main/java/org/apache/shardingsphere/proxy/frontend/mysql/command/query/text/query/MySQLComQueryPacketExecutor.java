@@ -113,7 +113,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowValues());
     }
     
     @Override
@@ -41,6 +41,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.Postg
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -79,8 +80,17 @@ public final class OpenGaussCommandExecutorFactory {
         if (aggregatedCommandPacket.isContainsBatchedStatements() && aggregatedCommandPacket.getPackets().stream().noneMatch(each -> each instanceof OpenGaussComBatchBindPacket)) {
             return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
         }
-        List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
-        for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
+        List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        int index = 0;
+        while (index < packets.size()) {
+            int pipelinedPacketsEndIndex = aggregatedCommandPacket.getPipelinedPacketsEndIndex(index);
+            if (pipelinedPacketsEndIndex > index) {
+                result.add(new PostgreSQLAggregatedPipelinedCommandExecutor(portalContext, connectionSession, packets.subList(index, pipelinedPacketsEndIndex)));
+                index = pipelinedPacketsEndIndex;
+                continue;
+            }
+            PostgreSQLCommandPacket each = packets.get(index++);
             result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
         return new PostgreSQLAggregatedCommandExecutor(result);
@@ -84,7 +84,7 @@ public final class Portal {
         this.resultFormats = resultFormats;
         this.backendConnection = backendConnection;
         String databaseName = backendConnection.getConnectionSession().getDefaultDatabaseName();
-        SQLStatementContext<?> sqlStatementContext = preparedStatement.getSqlStatementContext();
+        SQLStatementContext<?> sqlStatementContext = preparedStatement.getExecutionSqlStatementContext(databaseName);
         if (sqlStatementContext instanceof ParameterAware) {
             ((ParameterAware) sqlStatementContext).setUpParameters(params);
         }
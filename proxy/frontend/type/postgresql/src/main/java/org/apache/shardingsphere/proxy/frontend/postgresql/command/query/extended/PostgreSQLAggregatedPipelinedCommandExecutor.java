@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.execute.PostgreSQLComExecuteExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.parse.PostgreSQLComParseExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Aggregated pipelined command executor for PostgreSQL.
+ *
+ * <p>
+ * Parse, Bind, Describe and Execute of the unnamed portal received before Sync are executed as a pipeline.
+ * Bind of insert, update or delete without RETURNING clause is deferred and executed together with other deferred statements by {@link PostgreSQLPipelinedStatementsExecutor},
+ * other statements flush the deferred ones and are executed as usual, so that the side effects and responses keep the order of the messages.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLAggregatedPipelinedCommandExecutor implements CommandExecutor {
+    
+    private static final Pattern RETURNING_PATTERN = Pattern.compile("\\bRETURNING\\b", Pattern.CASE_INSENSITIVE);
+    
+    private final PortalContext portalContext;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final List<PostgreSQLCommandPacket> packets;
+    
+    private final List<PostgreSQLServerPreparedStatement> pendingPreparedStatements = new ArrayList<>();
+    
+    private final List<List<Object>> pendingParameterSets = new ArrayList<>();
+    
+    private final List<Integer> pendingResponseIndexes = new ArrayList<>();
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        List<DatabasePacket<?>> result = new ArrayList<>(packets.size());
+        PostgreSQLServerPreparedStatement pipelinedPreparedStatement = null;
+        List<Object> pipelinedParameters = null;
+        for (PostgreSQLCommandPacket each : packets) {
+            if (each instanceof PostgreSQLComParsePacket) {
+                result.addAll(execute(new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) each, connectionSession)));
+            } else if (each instanceof PostgreSQLComBindPacket) {
+                PostgreSQLComBindPacket bindPacket = (PostgreSQLComBindPacket) each;
+                PostgreSQLServerPreparedStatement preparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
+                if (isPipelinable(preparedStatement)) {
+                    portalContext.close(bindPacket.getPortal());
+                    pipelinedPreparedStatement = preparedStatement;
+                    pipelinedParameters = bindPacket.readParameters(preparedStatement.getParameterTypes());
+                    result.add(PostgreSQLBindCompletePacket.getInstance());
+                } else {
+                    executePendingStatements(result);
+                    pipelinedPreparedStatement = null;
+                    result.addAll(execute(new PostgreSQLComBindExecutor(portalContext, bindPacket, connectionSession)));
+                }
+            } else if (each instanceof PostgreSQLComDescribePacket) {
+                result.addAll(null == pipelinedPreparedStatement
+                        ? execute(new PostgreSQLComDescribeExecutor(portalContext, (PostgreSQLComDescribePacket) each, connectionSession))
+                        : Collections.singletonList(PostgreSQLNoDataPacket.getInstance()));
+            } else if (each instanceof PostgreSQLComExecutePacket) {
+                if (null == pipelinedPreparedStatement) {
+                    result.addAll(execute(new PostgreSQLComExecuteExecutor(portalContext, (PostgreSQLComExecutePacket) each)));
+                } else {
+                    pendingPreparedStatements.add(pipelinedPreparedStatement);
+                    pendingParameterSets.add(pipelinedParameters);
+                    pendingResponseIndexes.add(result.size());
+                    result.add(null);
+                }
+            }
+        }
+        executePendingStatements(result);
+        return result;
+    }
+    
+    private Collection<DatabasePacket<?>> execute(final CommandExecutor executor) throws SQLException {
+        try {
+            return executor.execute();
+        } finally {
+            executor.close();
+        }
+    }
+    
+    private boolean isPipelinable(final PostgreSQLServerPreparedStatement preparedStatement) {
+        if (null == connectionSession.getDatabaseName()) {
+            return false;
+        }
+        SQLStatement sqlStatement = preparedStatement.getSqlStatementContext().getSqlStatement();
+        return (sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement) && !isReturningRows(preparedStatement.getSql());
+    }
+    
+    private boolean isReturningRows(final String sql) {
+        // RETURNING of update and delete is not parsed into segment, so only the statements which SQL does not mention RETURNING are known to return no rows
+        return RETURNING_PATTERN.matcher(sql).find();
+    }
+    
+    private void executePendingStatements(final List<DatabasePacket<?>> result) throws SQLException {
+        if (pendingPreparedStatements.isEmpty()) {
+            return;
+        }
+        int[] updateCounts = new PostgreSQLPipelinedStatementsExecutor(connectionSession, new ArrayList<>(pendingPreparedStatements), new ArrayList<>(pendingParameterSets)).execute();
+        for (int i = 0; i < updateCounts.length; i++) {
+            String tag = PostgreSQLCommand.valueOf(pendingPreparedStatements.get(i).getSqlStatementContext().getSqlStatement().getClass()).orElse(PostgreSQLCommand.INSERT).getTag();
+            result.set(pendingResponseIndexes.get(i), new PostgreSQLCommandCompletePacket(tag, updateCounts[i]));
+        }
+        pendingPreparedStatements.clear();
+        pendingParameterSets.clear();
+        pendingResponseIndexes.clear();
+    }
+}
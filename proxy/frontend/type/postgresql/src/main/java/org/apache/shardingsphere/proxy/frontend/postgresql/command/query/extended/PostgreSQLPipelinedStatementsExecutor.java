@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.authority.checker.AuthorityChecker;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLTypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.state.cluster.ClusterState;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.state.spi.ProxyClusterState;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Pipelined statements executor for PostgreSQL.
+ *
+ * <p>
+ * Different prepared statements received before Sync are routed one by one, then execution units of the same data source are executed in order on one connection.
+ * Consecutive execution units with the same SQL are sent as one JDBC batch, so that a pipeline costs one round trip per batch instead of one per statement.
+ * </p>
+ */
+public final class PostgreSQLPipelinedStatementsExecutor {
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private final JDBCExecutor jdbcExecutor;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final MetaDataContexts metaDataContexts;
+    
+    private final List<PostgreSQLServerPreparedStatement> preparedStatements;
+    
+    private final List<List<Object>> parameterSets;
+    
+    private final Map<String, List<PipelinedBatch>> dataSourceBatches = new LinkedHashMap<>();
+    
+    private RouteContext anyRouteContext;
+    
+    public PostgreSQLPipelinedStatementsExecutor(final ConnectionSession connectionSession, final List<PostgreSQLServerPreparedStatement> preparedStatements,
+                                                 final List<List<Object>> parameterSets) {
+        jdbcExecutor = new JDBCExecutor(BackendExecutorContext.getInstance().getExecutorEngine(), connectionSession.getConnectionContext());
+        this.connectionSession = connectionSession;
+        metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        this.preparedStatements = preparedStatements;
+        this.parameterSets = parameterSets;
+    }
+    
+    /**
+     * Execute pipelined statements.
+     *
+     * @return update counts of each statement
+     * @throws SQLException SQL exception
+     */
+    public int[] execute() throws SQLException {
+        for (int i = 0; i < preparedStatements.size(); i++) {
+            ExecutionContext executionContext = createExecutionContext(preparedStatements.get(i), parameterSets.get(i));
+            if (null == anyRouteContext) {
+                anyRouteContext = executionContext.getRouteContext();
+            }
+            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+                addToBatch(each, i);
+            }
+        }
+        connectionSession.getBackendConnection().handleAutoCommit();
+        Map<Statement, PipelinedBatch> statementBatches = new IdentityHashMap<>();
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareExecutionGroupContext(statementBatches);
+        executeBatches(executionGroupContext, statementBatches);
+        int[] result = new int[preparedStatements.size()];
+        for (List<PipelinedBatch> eachBatches : dataSourceBatches.values()) {
+            for (PipelinedBatch each : eachBatches) {
+                each.accumulateUpdateCounts(result);
+            }
+        }
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params) throws SQLException {
+        SQLStatement sqlStatement = preparedStatement.getSqlStatementContext().getSqlStatement();
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        database.getProtocolType().handleRollbackOnly(connectionSession.getTransactionStatus().isRollbackOnly(), sqlStatement);
+        checkClusterState(sqlStatement);
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData(), params, sqlStatement, connectionSession.getDatabaseName());
+        ShardingSphereRuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
+        new AuthorityChecker(globalRuleMetaData.getSingleRule(AuthorityRule.class), connectionSession.getGrantee()).checkPrivileges(connectionSession.getDatabaseName(), sqlStatement);
+        SQLAuditEngine.audit(sqlStatementContext, params, globalRuleMetaData, database, connectionSession.getGrantee());
+        return kernelProcessor.generateExecutionContext(new QueryContext(sqlStatementContext, preparedStatement.getSql(), params), database, globalRuleMetaData,
+                metaDataContexts.getMetaData().getProps(), connectionSession.getConnectionContext());
+    }
+    
+    private void checkClusterState(final SQLStatement sqlStatement) {
+        ClusterState clusterCurrentState = ProxyContext.getInstance().getContextManager().getClusterStateContext().getCurrentState();
+        if (ClusterState.OK != clusterCurrentState) {
+            TypedSPILoader.getService(ProxyClusterState.class, clusterCurrentState.name()).check(sqlStatement);
+        }
+    }
+    
+    private void addToBatch(final ExecutionUnit executionUnit, final int statementIndex) {
+        List<PipelinedBatch> batches = dataSourceBatches.computeIfAbsent(executionUnit.getDataSourceName(), unused -> new ArrayList<>());
+        PipelinedBatch lastBatch = batches.isEmpty() ? null : batches.get(batches.size() - 1);
+        if (null != lastBatch && lastBatch.getSqlUnit().getSql().equals(executionUnit.getSqlUnit().getSql())) {
+            lastBatch.add(executionUnit.getSqlUnit().getParameters(), statementIndex);
+            return;
+        }
+        PipelinedBatch batch = new PipelinedBatch(executionUnit.getSqlUnit());
+        batch.add(executionUnit.getSqlUnit().getParameters(), statementIndex);
+        batches.add(batch);
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareExecutionGroupContext(final Map<Statement, PipelinedBatch> statementBatches) throws SQLException {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, 1,
+                connectionSession.getBackendConnection(), (JDBCBackendStatement) connectionSession.getStatementManager(),
+                new StatementOption(false), database.getRuleMetaData().getRules(), database.getResourceMetaData().getStorageTypes());
+        Map<SQLUnit, PipelinedBatch> sqlUnitBatches = new IdentityHashMap<>();
+        List<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (Entry<String, List<PipelinedBatch>> entry : dataSourceBatches.entrySet()) {
+            for (PipelinedBatch each : entry.getValue()) {
+                sqlUnitBatches.put(each.getSqlUnit(), each);
+                executionUnits.add(new ExecutionUnit(entry.getKey(), each.getSqlUnit()));
+            }
+        }
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(anyRouteContext, executionUnits,
+                new ExecutionGroupReportContext(connectionSession.getDatabaseName(), connectionSession.getGrantee(), connectionSession.getExecutionId()));
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : result.getInputGroups()) {
+            for (JDBCExecutionUnit each : eachGroup.getInputs()) {
+                PipelinedBatch batch = sqlUnitBatches.get(each.getExecutionUnit().getSqlUnit());
+                addBatchedParameters((PreparedStatement) each.getStorageResource(), batch);
+                statementBatches.put(each.getStorageResource(), batch);
+            }
+        }
+        return result;
+    }
+    
+    private void addBatchedParameters(final PreparedStatement preparedStatement, final PipelinedBatch batch) throws SQLException {
+        for (List<Object> eachGroupParam : batch.getParameterSets()) {
+            ListIterator<Object> params = eachGroupParam.listIterator();
+            while (params.hasNext()) {
+                int paramIndex = params.nextIndex() + 1;
+                Object value = params.next();
+                if (value instanceof PostgreSQLTypeUnspecifiedSQLParameter) {
+                    value = value.toString();
+                }
+                preparedStatement.setObject(paramIndex, value);
+            }
+            preparedStatement.addBatch();
+        }
+    }
+    
+    private void executeBatches(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final Map<Statement, PipelinedBatch> statementBatches) throws SQLException {
+        boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        SQLStatement anySQLStatement = preparedStatements.get(0).getSqlStatementContext().getSqlStatement();
+        jdbcExecutor.execute(executionGroupContext,
+                new PipelinedStatementsJDBCExecutorCallback(database.getProtocolType(), database.getResourceMetaData().getStorageTypes(), anySQLStatement, isExceptionThrown, statementBatches));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PipelinedBatch {
+        
+        private final SQLUnit sqlUnit;
+        
+        private final List<List<Object>> parameterSets = new LinkedList<>();
+        
+        private final List<Integer> statementIndexes = new ArrayList<>();
+        
+        @Setter
+        private int[] updateCounts = new int[0];
+        
+        void add(final List<Object> params, final int statementIndex) {
+            parameterSets.add(params);
+            statementIndexes.add(statementIndex);
+        }
+        
+        void accumulateUpdateCounts(final int[] result) {
+            for (int i = 0; i < updateCounts.length && i < statementIndexes.size(); i++) {
+                result[statementIndexes.get(i)] += Math.max(updateCounts[i], 0);
+            }
+        }
+    }
+    
+    private static final class PipelinedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
+        
+        private final Map<Statement, PipelinedBatch> statementBatches;
+        
+        PipelinedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final SQLStatement sqlStatement, final boolean isExceptionThrown,
+                                                final Map<Statement, PipelinedBatch> statementBatches) {
+            super(protocolType, storageTypes, sqlStatement, isExceptionThrown);
+            this.statementBatches = statementBatches;
+        }
+        
+        @Override
+        protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
+            try {
+                int[] result = statement.executeBatch();
+                statementBatches.get(statement).setUpdateCounts(result);
+                return result;
+            } finally {
+                statement.close();
+            }
+        }
+        
+        @SuppressWarnings("OptionalContainsCollection")
+        @Override
+        protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+            return Optional.empty();
+        }
+    }
+}
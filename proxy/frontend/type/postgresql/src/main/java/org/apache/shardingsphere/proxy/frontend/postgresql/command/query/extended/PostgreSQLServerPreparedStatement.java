@@ -26,6 +26,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementPlan;
 
 import java.util.List;
 import java.util.Optional;
@@ -47,6 +48,13 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     @Getter(AccessLevel.NONE)
     private PostgreSQLPacket rowDescription;
     
+    @Getter(AccessLevel.NONE)
+    private ServerPreparedStatementPlan plan;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SQLStatementContext<?> executionSqlStatementContext;
+    
     /**
      * Describe parameters of the prepared statement.
      *
@@ -64,4 +72,22 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     public Optional<PostgreSQLPacket> describeRows() {
         return Optional.ofNullable(rowDescription);
     }
+    
+    /**
+     * Get SQL statement context to execute.
+     * 
+     * <p>
+     * SQL statement context of prepared statement created from {@link ServerPreparedStatementPlan} is shared by connections,
+     * so the one to execute is created from plan at the first execution and reused by following executions of the prepared statement.
+     * </p>
+     *
+     * @param defaultDatabaseName default database name
+     * @return SQL statement context to execute
+     */
+    public SQLStatementContext<?> getExecutionSqlStatementContext(final String defaultDatabaseName) {
+        if (null == executionSqlStatementContext) {
+            executionSqlStatementContext = null == plan ? sqlStatementContext : plan.createExecutionSQLStatementContext(defaultDatabaseName);
+        }
+        return executionSqlStatementContext;
+    }
 }
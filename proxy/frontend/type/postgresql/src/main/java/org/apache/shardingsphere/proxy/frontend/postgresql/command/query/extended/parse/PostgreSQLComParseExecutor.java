@@ -27,11 +27,14 @@ import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.distsql.DistSQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementPlan;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementPlanCache;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLServerPreparedStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
@@ -58,24 +61,33 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() {
-        ShardingSphereSQLParserEngine sqlParserEngine = createShardingSphereSQLParserEngine(connectionSession.getDatabaseName());
+        List<PostgreSQLColumnType> specifiedColumnTypes = packet.readParameterTypes();
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        long metaDataVersion = contextManager.getMetaDataVersion();
+        MetaDataContexts metaDataContexts = contextManager.getMetaDataContexts();
+        ServerPreparedStatementPlan plan = ServerPreparedStatementPlanCache.getInstance().acquire(metaDataContexts, metaDataVersion, connectionSession.getDefaultDatabaseName(), packet.getSql(),
+                specifiedColumnTypes, () -> createPlan(metaDataContexts));
+        List<PostgreSQLColumnType> paddedColumnTypes = paddingColumnTypes(plan.getSqlStatement().getParameterCount(), specifiedColumnTypes);
+        PostgreSQLServerPreparedStatement serverPreparedStatement = new PostgreSQLServerPreparedStatement(plan.getSql(), plan.getSqlStatementContext(), paddedColumnTypes);
+        serverPreparedStatement.setPlan(plan);
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(packet.getStatementId(), serverPreparedStatement, plan);
+        return Collections.singletonList(PostgreSQLParseCompletePacket.getInstance());
+    }
+    
+    private ServerPreparedStatementPlan createPlan(final MetaDataContexts metaDataContexts) {
+        ShardingSphereSQLParserEngine sqlParserEngine = createShardingSphereSQLParserEngine(metaDataContexts, connectionSession.getDatabaseName());
         String sql = packet.getSql();
         SQLStatement sqlStatement = sqlParserEngine.parse(sql, true);
         if (sqlStatement.getParameterCount() > 0) {
             sql = convertSQLToJDBCStyle(sqlStatement, sql);
             sqlStatement = sqlParserEngine.parse(sql, true);
         }
-        List<PostgreSQLColumnType> paddedColumnTypes = paddingColumnTypes(sqlStatement.getParameterCount(), packet.readParameterTypes());
         SQLStatementContext<?> sqlStatementContext = sqlStatement instanceof DistSQLStatement ? new DistSQLStatementContext((DistSQLStatement) sqlStatement)
-                : SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(),
-                        sqlStatement, connectionSession.getDefaultDatabaseName());
-        PostgreSQLServerPreparedStatement serverPreparedStatement = new PostgreSQLServerPreparedStatement(sql, sqlStatementContext, paddedColumnTypes);
-        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(packet.getStatementId(), serverPreparedStatement);
-        return Collections.singletonList(PostgreSQLParseCompletePacket.getInstance());
+                : SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData(), sqlStatement, connectionSession.getDefaultDatabaseName());
+        return new ServerPreparedStatementPlan(sql, sqlStatement, sqlStatementContext);
     }
     
-    private ShardingSphereSQLParserEngine createShardingSphereSQLParserEngine(final String databaseName) {
-        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+    private ShardingSphereSQLParserEngine createShardingSphereSQLParserEngine(final MetaDataContexts metaDataContexts, final String databaseName) {
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
         return sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType()));
     }
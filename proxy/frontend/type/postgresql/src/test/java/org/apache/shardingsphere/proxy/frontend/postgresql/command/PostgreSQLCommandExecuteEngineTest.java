@@ -19,6 +19,9 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
@@ -113,6 +116,10 @@ public final class PostgreSQLCommandExecuteEngineTest {
         when(channel.isActive()).thenReturn(true);
         when(queryCommandExecutor.next()).thenReturn(true, false);
         when(channel.isWritable()).thenReturn(false, true);
+        when(channelHandlerContext.executor()).thenReturn(mock(EventExecutor.class));
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        when(pipeline.get(PacketCodec.class)).thenReturn(mock(PacketCodec.class));
+        when(channelHandlerContext.pipeline()).thenReturn(pipeline);
         ResourceLock resourceLock = mock(ResourceLock.class);
         BackendConnection backendConnection = mock(BackendConnection.class);
         when(backendConnection.getResourceLock()).thenReturn(resourceLock);
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.Postg
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -151,6 +152,25 @@ public final class PostgreSQLCommandExecutorFactoryTest {
         assertFalse(actualPacketsIterator.hasNext());
     }
     
+    @Test
+    public void assertAggregatedPacketIsPipelinedStatements() throws SQLException {
+        PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
+        PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
+        when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
+        PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
+        when(packet.getPackets()).thenReturn(Arrays.asList(parsePacket, bindPacket, executePacket, parsePacket, bindPacket, executePacket, syncPacket));
+        when(packet.getPipelinedPacketsEndIndex(0)).thenReturn(6);
+        when(packet.getPipelinedPacketsEndIndex(6)).thenReturn(6);
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
+        assertThat(actual, instanceOf(PostgreSQLAggregatedCommandExecutor.class));
+        Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
+        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLAggregatedPipelinedCommandExecutor.class));
+        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComSyncExecutor.class));
+        assertFalse(actualPacketsIterator.hasNext());
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private static List<CommandExecutor> getExecutorsFromAggregatedCommandExecutor(final PostgreSQLAggregatedCommandExecutor executor) {
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.execute.PostgreSQLComExecuteExecutor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLAggregatedPipelinedCommandExecutorTest {
+    
+    private final ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine("PostgreSQL", new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false, false);
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        PortalContext portalContext = mock(PortalContext.class);
+        PostgreSQLAggregatedPipelinedCommandExecutor executor = new PostgreSQLAggregatedPipelinedCommandExecutor(portalContext, mockConnectionSession(), Arrays.asList(
+                mockBindPacket("S_1", 1), mock(PostgreSQLComDescribePacket.class), mock(PostgreSQLComExecutePacket.class), mockBindPacket("S_2", 2), mock(PostgreSQLComExecutePacket.class)));
+        List<DatabasePacket<?>> actual;
+        try (
+                MockedConstruction<PostgreSQLPipelinedStatementsExecutor> ignored = mockConstruction(PostgreSQLPipelinedStatementsExecutor.class,
+                        (mock, mockContext) -> when(mock.execute()).thenReturn(new int[]{1, 2}))) {
+            actual = new ArrayList<>(executor.execute());
+        }
+        assertThat(actual.size(), is(5));
+        assertThat(actual.get(0), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertThat(actual.get(1), is(PostgreSQLNoDataPacket.getInstance()));
+        assertCommandCompletePacket(actual.get(2), "INSERT", 1L);
+        assertThat(actual.get(3), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertCommandCompletePacket(actual.get(4), "UPDATE", 2L);
+        verify(portalContext, times(2)).close("");
+    }
+    
+    @Test
+    public void assertExecuteUpdateWithReturning() throws SQLException {
+        ConnectionSession connectionSession = mockConnectionSession();
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement("S_3",
+                createPreparedStatement("UPDATE t_order SET status = 'done' WHERE id = ? RETURNING id", mock(UpdateStatementContext.class)));
+        PostgreSQLAggregatedPipelinedCommandExecutor executor = new PostgreSQLAggregatedPipelinedCommandExecutor(mock(PortalContext.class), connectionSession, Arrays.asList(
+                mockBindPacket("S_3", 1), mock(PostgreSQLComDescribePacket.class), mock(PostgreSQLComExecutePacket.class)));
+        DatabasePacket<?> describePacket = mock(DatabasePacket.class);
+        DatabasePacket<?> dataRowPacket = mock(DatabasePacket.class);
+        List<DatabasePacket<?>> actual;
+        try (
+                MockedConstruction<PostgreSQLPipelinedStatementsExecutor> pipelinedStatementsExecutors = mockConstruction(PostgreSQLPipelinedStatementsExecutor.class);
+                MockedConstruction<PostgreSQLComBindExecutor> ignoredBind = mockConstruction(PostgreSQLComBindExecutor.class,
+                        (mock, mockContext) -> when(mock.execute()).thenReturn(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance())));
+                MockedConstruction<PostgreSQLComDescribeExecutor> ignoredDescribe = mockConstruction(PostgreSQLComDescribeExecutor.class,
+                        (mock, mockContext) -> when(mock.execute()).thenReturn(Collections.singletonList(describePacket)));
+                MockedConstruction<PostgreSQLComExecuteExecutor> ignoredExecute = mockConstruction(PostgreSQLComExecuteExecutor.class,
+                        (mock, mockContext) -> when(mock.execute()).thenReturn(Collections.singletonList(dataRowPacket)))) {
+            actual = new ArrayList<>(executor.execute());
+            assertTrue(pipelinedStatementsExecutors.constructed().isEmpty());
+        }
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertThat(actual.get(1), is(describePacket));
+        assertThat(actual.get(2), is(dataRowPacket));
+    }
+    
+    private ConnectionSession mockConnectionSession() {
+        ConnectionSession result = mock(ConnectionSession.class);
+        when(result.getDatabaseName()).thenReturn("foo_db");
+        when(result.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
+        result.getServerPreparedStatementRegistry().addPreparedStatement("S_1", createPreparedStatement("INSERT INTO t_order (id) VALUES (?)", mock(InsertStatementContext.class)));
+        result.getServerPreparedStatementRegistry().addPreparedStatement("S_2", createPreparedStatement("UPDATE t_order SET status = 'done' WHERE id = ?", mock(UpdateStatementContext.class)));
+        return result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private PostgreSQLServerPreparedStatement createPreparedStatement(final String sql, final SQLStatementContext sqlStatementContext) {
+        when(sqlStatementContext.getSqlStatement()).thenReturn(parserEngine.parse(sql, false));
+        return new PostgreSQLServerPreparedStatement(sql, sqlStatementContext, Collections.singletonList(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4));
+    }
+    
+    private PostgreSQLComBindPacket mockBindPacket(final String statementId, final int id) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        when(result.readParameters(Collections.singletonList(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4))).thenReturn(Collections.singletonList(id));
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void assertCommandCompletePacket(final DatabasePacket<?> actual, final String expectedSQLCommand, final long expectedRowCount) {
+        assertThat(Plugins.getMemberAccessor().get(PostgreSQLCommandCompletePacket.class.getDeclaredField("sqlCommand"), actual), is(expectedSQLCommand));
+        assertThat(Plugins.getMemberAccessor().get(PostgreSQLCommandCompletePacket.class.getDeclaredField("rowCount"), actual), is(expectedRowCount));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.cache.ParameterizedParseTreeCache;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MySQLParameterizedParseTreeCacheTest {
+    
+    private final SQLVisitorEngine visitorEngine = new SQLVisitorEngine("MySQL", "STATEMENT", false, new Properties());
+    
+    @Test
+    public void assertParseWithSameShape() {
+        ParameterizedParseTreeCache cache = new ParameterizedParseTreeCache("MySQL", new CacheOption(128, 1024L));
+        assertLiterals(visitorEngine.visit(cache.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'")), "SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'", "1", "init");
+        String sql = "SELECT *  FROM t_order /* comment */ WHERE order_id = 1000 AND status = 'finished'";
+        assertLiterals(visitorEngine.visit(cache.parse(sql)), sql, "1000", "finished");
+    }
+    
+    @Test
+    public void assertParseWithDifferentShape() {
+        ParameterizedParseTreeCache cache = new ParameterizedParseTreeCache("MySQL", new CacheOption(128, 1024L));
+        cache.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'");
+        String sql = "SELECT * FROM t_order_item WHERE order_id = 2 AND status = 'init'";
+        assertLiterals(visitorEngine.visit(cache.parse(sql)), sql, "2", "init");
+    }
+    
+    private void assertLiterals(final SelectStatement actual, final String sql, final String orderId, final String status) {
+        BinaryOperationExpression where = (BinaryOperationExpression) actual.getWhere().orElseThrow(IllegalStateException::new).getExpr();
+        LiteralExpressionSegment orderIdLiteral = (LiteralExpressionSegment) ((BinaryOperationExpression) where.getLeft()).getRight();
+        assertThat(String.valueOf(orderIdLiteral.getLiterals()), is(orderId));
+        assertThat(orderIdLiteral.getStartIndex(), is(sql.indexOf(orderId, sql.indexOf("order_id ="))));
+        LiteralExpressionSegment statusLiteral = (LiteralExpressionSegment) ((BinaryOperationExpression) where.getRight()).getRight();
+        assertThat(String.valueOf(statusLiteral.getLiterals()), is(status));
+        assertThat(statusLiteral.getStopIndex(), is(sql.length() - 1));
+        assertThat(where.getText(), is(sql.substring(where.getStartIndex(), where.getStopIndex() + 1)));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sql.parser.api;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.cache.ParameterizedParseTreeCache;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 
@@ -31,19 +32,31 @@ public final class SQLParserEngine {
     
     private final LoadingCache<String, ParseASTNode> parseTreeCache;
     
+    private final ParameterizedParseTreeCache parameterizedParseTreeCache;
+    
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption) {
+        this(databaseType, cacheOption, false);
+    }
+    
+    public SQLParserEngine(final String databaseType, final CacheOption cacheOption, final boolean isParameterizedCacheEnabled) {
         sqlParserExecutor = new SQLParserExecutor(databaseType);
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType);
+        parameterizedParseTreeCache = isParameterizedCacheEnabled ? new ParameterizedParseTreeCache(databaseType, cacheOption) : null;
     }
     
     /**
      * Parse SQL.
+     * 
+     * <p>SQL which does not use cache is parsed by parameterized cache if enabled, so that SQL with different literals can reuse parse tree.</p>
      *
      * @param sql SQL to be parsed
      * @param useCache whether use cache
      * @return parse AST node
      */
     public ParseASTNode parse(final String sql, final boolean useCache) {
-        return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
+        if (useCache) {
+            return parseTreeCache.get(sql);
+        }
+        return null == parameterizedParseTreeCache ? sqlParserExecutor.parse(sql) : parameterizedParseTreeCache.parse(sql);
     }
 }
@@ -36,6 +36,15 @@ public final class ParseASTNode implements ASTNode {
     
     private final CommonTokenStream tokenStream;
     
+    /**
+     * Get parse tree.
+     *
+     * @return parse tree
+     */
+    public ParseTree getParseTree() {
+        return parseTree;
+    }
+    
     /**
      * Get root node.
      * 
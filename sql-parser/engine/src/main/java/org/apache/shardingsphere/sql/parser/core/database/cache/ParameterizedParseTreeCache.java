@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Parameterized parse tree cache.
+ *
+ * <p>
+ * SQL is lexed and its literals are replaced with placeholders to form the shape key,
+ * the parse tree of the first SQL of a shape is cached as template, and the literals of later SQL are bound back into a copy of the template.
+ * </p>
+ */
+public final class ParameterizedParseTreeCache {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT"));
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final boolean[] literalTokenTypes;
+    
+    private final Cache<String, ParseTreeTemplate> templates;
+    
+    public ParameterizedParseTreeCache(final String databaseType, final CacheOption cacheOption) {
+        lexerClass = TypedSPILoader.getService(DatabaseTypedSQLParserFacade.class, databaseType).getLexerClass();
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        literalTokenTypes = getLiteralTokenTypes(((Lexer) SQLParserFactory.newTokenStream("", lexerClass).getTokenSource()).getVocabulary());
+        templates = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build();
+    }
+    
+    private boolean[] getLiteralTokenTypes(final Vocabulary vocabulary) {
+        boolean[] result = new boolean[vocabulary.getMaxTokenType() + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final String sql) {
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, lexerClass);
+        tokenStream.fill();
+        List<Token> tokens = new ArrayList<>(tokenStream.size());
+        StringBuilder shapeKey = new StringBuilder(sql.length());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                tokens.add(each);
+                appendShape(shapeKey, each);
+            }
+        }
+        ParseTreeTemplate template = templates.getIfPresent(shapeKey.toString());
+        if (null != template) {
+            return template.bind(tokenStream, tokens);
+        }
+        ParseASTNode result = sqlParserExecutor.parse(sql, tokenStream);
+        templates.put(shapeKey.toString(), new ParseTreeTemplate(result, tokens));
+        return result;
+    }
+    
+    private void appendShape(final StringBuilder shapeKey, final Token token) {
+        int tokenType = token.getType();
+        shapeKey.append(tokenType).append(':');
+        if (tokenType >= 0 && tokenType < literalTokenTypes.length && literalTokenTypes[tokenType]) {
+            shapeKey.append('?');
+        } else {
+            shapeKey.append(token.getText());
+        }
+        shapeKey.append(' ');
+    }
+}
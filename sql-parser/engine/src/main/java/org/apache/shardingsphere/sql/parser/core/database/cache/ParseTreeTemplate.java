@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree template.
+ *
+ * <p>
+ * The template keeps parse tree of the first SQL of a shape. Because the parse tree of SQL is decided by the types of its tokens only,
+ * another SQL with same token types can reuse the tree structure by copying it and binding its own tokens into the copy.
+ * </p>
+ */
+public final class ParseTreeTemplate {
+    
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final Map<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<>();
+    
+    private final ParserRuleContext parseTree;
+    
+    private final int[] tokenPositions;
+    
+    public ParseTreeTemplate(final ParseASTNode parseASTNode, final List<Token> tokens) {
+        parseTree = (ParserRuleContext) parseASTNode.getParseTree();
+        int maxTokenIndex = tokens.stream().mapToInt(Token::getTokenIndex).max().orElse(0);
+        tokenPositions = new int[maxTokenIndex + 1];
+        Arrays.fill(tokenPositions, -1);
+        int position = 0;
+        for (Token each : tokens) {
+            tokenPositions[each.getTokenIndex()] = position++;
+        }
+    }
+    
+    /**
+     * Bind tokens into a copy of template parse tree.
+     *
+     * @param tokenStream token stream of SQL
+     * @param tokens default channel tokens of SQL, which must have same types with tokens of template
+     * @return parse AST node
+     */
+    public ParseASTNode bind(final CommonTokenStream tokenStream, final List<Token> tokens) {
+        Map<ParserRuleContext, ParserRuleContext> contexts = new IdentityHashMap<>();
+        createContexts(parseTree, contexts);
+        for (Entry<ParserRuleContext, ParserRuleContext> entry : contexts.entrySet()) {
+            copyFields(entry.getKey(), entry.getValue(), contexts, tokens);
+        }
+        return new ParseASTNode(contexts.get(parseTree), tokenStream);
+    }
+    
+    private void createContexts(final ParserRuleContext context, final Map<ParserRuleContext, ParserRuleContext> contexts) {
+        contexts.put(context, newInstance(context.getClass()));
+        if (null == context.children) {
+            return;
+        }
+        for (ParseTree each : context.children) {
+            if (each instanceof ParserRuleContext) {
+                createContexts((ParserRuleContext) each, contexts);
+            }
+        }
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void copyFields(final ParserRuleContext source, final ParserRuleContext target, final Map<ParserRuleContext, ParserRuleContext> contexts, final List<Token> tokens) {
+        for (Field each : FIELDS.computeIfAbsent(source.getClass(), ParseTreeTemplate::getInstanceFields)) {
+            each.set(target, bindValue(each.get(source), target, contexts, tokens));
+        }
+    }
+    
+    private Object bindValue(final Object value, final ParserRuleContext owner, final Map<ParserRuleContext, ParserRuleContext> contexts, final List<Token> tokens) {
+        if (value instanceof ParserRuleContext) {
+            return contexts.getOrDefault(value, (ParserRuleContext) value);
+        }
+        if (value instanceof TerminalNode) {
+            TerminalNodeImpl result = new TerminalNodeImpl(bindToken(((TerminalNode) value).getSymbol(), tokens));
+            result.setParent(owner);
+            return result;
+        }
+        if (value instanceof Token) {
+            return bindToken((Token) value, tokens);
+        }
+        if (value instanceof List) {
+            List<?> values = (List<?>) value;
+            List<Object> result = new ArrayList<>(values.size());
+            for (Object each : values) {
+                result.add(bindValue(each, owner, contexts, tokens));
+            }
+            return result;
+        }
+        return value;
+    }
+    
+    private Token bindToken(final Token token, final List<Token> tokens) {
+        int tokenIndex = token.getTokenIndex();
+        return tokenIndex >= 0 && tokenIndex < tokenPositions.length && tokenPositions[tokenIndex] >= 0 ? tokens.get(tokenPositions[tokenIndex]) : token;
+    }
+    
+    private static Field[] getInstanceFields(final Class<?> contextClass) {
+        return Arrays.stream(contextClass.getFields()).filter(each -> !Modifier.isStatic(each.getModifiers()) && !Modifier.isFinal(each.getModifiers())).toArray(Field[]::new);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static ParserRuleContext newInstance(final Class<?> contextClass) {
+        Constructor<?> constructor = CONSTRUCTORS.computeIfAbsent(contextClass, ParseTreeTemplate::findConstructor);
+        if (2 == constructor.getParameterCount()) {
+            return (ParserRuleContext) constructor.newInstance(null, -1);
+        }
+        return (ParserRuleContext) constructor.newInstance(newInstance(constructor.getParameterTypes()[0]));
+    }
+    
+    @SneakyThrows(NoSuchMethodException.class)
+    private static Constructor<?> findConstructor(final Class<?> contextClass) {
+        for (Constructor<?> each : contextClass.getConstructors()) {
+            Class<?>[] parameterTypes = each.getParameterTypes();
+            if (2 == parameterTypes.length && ParserRuleContext.class == parameterTypes[0] && int.class == parameterTypes[1]) {
+                return each;
+            }
+        }
+        for (Constructor<?> each : contextClass.getConstructors()) {
+            Class<?>[] parameterTypes = each.getParameterTypes();
+            if (1 == parameterTypes.length && ParserRuleContext.class.isAssignableFrom(parameterTypes[0])) {
+                return each;
+            }
+        }
+        return contextClass.getConstructor(ParserRuleContext.class, int.class);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sql.parser.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
@@ -44,16 +45,31 @@ public final class SQLParserExecutor {
      * @return parse AST node
      */
     public ParseASTNode parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        DatabaseTypedSQLParserFacade sqlParserFacade = TypedSPILoader.getService(DatabaseTypedSQLParserFacade.class, databaseType);
+        return parse(sql, SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass()));
+    }
+    
+    /**
+     * Parse SQL with lexed token stream.
+     *
+     * @param sql SQL to be parsed
+     * @param tokenStream token stream of SQL
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final String sql, final CommonTokenStream tokenStream) {
+        DatabaseTypedSQLParserFacade sqlParserFacade = TypedSPILoader.getService(DatabaseTypedSQLParserFacade.class, databaseType);
+        return parse(sql, SQLParserFactory.newInstance(tokenStream, sqlParserFacade.getParserClass()));
+    }
+    
+    private ParseASTNode parse(final String sql, final SQLParser sqlParser) {
+        ParseASTNode result = twoPhaseParse(sql, sqlParser);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException(sql);
         }
         return result;
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        DatabaseTypedSQLParserFacade sqlParserFacade = TypedSPILoader.getService(DatabaseTypedSQLParserFacade.class, databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+    private ParseASTNode twoPhaseParse(final String sql, final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.sql.parser.internal.asserts.statement.ral.impl.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowSQLFederationPlanCacheStatement;
+import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.SQLCaseAssertContext;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowSQLFederationPlanCacheStatementTestCase;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Show SQL federation plan cache statement assert.
+ */
+public final class ShowSQLFederationPlanCacheStatementAssert {
+    
+    /**
+     * Assert show SQL federation plan cache statement is correct with expected parser result.
+     *
+     * @param assertContext assert context
+     * @param actual actual show SQL federation plan cache statement
+     * @param expected expected show SQL federation plan cache statement test case
+     */
+    public static void assertIs(final SQLCaseAssertContext assertContext, final ShowSQLFederationPlanCacheStatement actual, final ShowSQLFederationPlanCacheStatementTestCase expected) {
+        if (null == expected) {
+            assertNull(actual, assertContext.getText("Actual statement should not exist."));
+        } else {
+            assertNotNull(actual, assertContext.getText("Actual statement should exist."));
+        }
+    }
+}
@@ -47,4 +47,9 @@ public final class FixturePipelineSQLBuilder extends AbstractPipelineSQLBuilder
     public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
         return Optional.empty();
     }
+    
+    @Override
+    public Optional<String> buildUniqueKeyRangeRowsEstimateSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return Optional.of(String.format("SELECT COUNT(*) AS \"rows\" FROM %s WHERE %s>=? AND %s<=?", tableName, uniqueKey, uniqueKey));
+    }
 }
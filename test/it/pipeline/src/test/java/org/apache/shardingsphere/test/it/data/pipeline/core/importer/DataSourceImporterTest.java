@@ -45,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -55,6 +56,7 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -100,7 +102,36 @@ public final class DataSourceImporterTest {
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        DataRecord insertRecord = getDataRecord("INSERT");
+        DataRecord anotherInsertRecord = new DataRecord(new PlaceholderPosition(), 3);
+        anotherInsertRecord.setTableName(TABLE_NAME);
+        anotherInsertRecord.setType("INSERT");
+        anotherInsertRecord.addColumn(new Column("id", 2, false, true));
+        anotherInsertRecord.addColumn(new Column("user", 20, true, false));
+        anotherInsertRecord.addColumn(new Column("status", "INSERT", true, false));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(insertRecord, anotherInsertRecord, new FinishedRecord(new PlaceholderPosition())));
+        jdbcImporter.run();
+        verify(connection).prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?),(?,?,?)");
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteInsertDataRecordsDeduplicatedByPrimaryKey() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(getPrimaryKeyDataRecord(10), getPrimaryKeyDataRecord(20), new FinishedRecord(new PlaceholderPosition())));
+        jdbcImporter.run();
+        verify(connection).prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?)");
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, 20);
+        verify(preparedStatement, times(3)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
     }
     
     @Test
@@ -119,12 +150,14 @@ public final class DataSourceImporterTest {
         DataRecord updateRecord = getDataRecord("UPDATE");
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         jdbcImporter.run();
         verify(preparedStatement).setObject(1, 10);
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -132,6 +165,7 @@ public final class DataSourceImporterTest {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         jdbcImporter.run();
         InOrder inOrder = inOrder(preparedStatement);
         inOrder.verify(preparedStatement).setObject(1, 2);
@@ -139,7 +173,8 @@ public final class DataSourceImporterTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 10);
-        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -152,6 +187,16 @@ public final class DataSourceImporterTest {
         return result;
     }
     
+    private DataRecord getPrimaryKeyDataRecord(final int user) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setTableName(TABLE_NAME);
+        result.setType("INSERT");
+        result.addColumn(new Column("id", null, 1, false, false, true));
+        result.addColumn(new Column("user", user, true, false));
+        result.addColumn(new Column("status", "INSERT", true, false));
+        return result;
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("user"));
     }
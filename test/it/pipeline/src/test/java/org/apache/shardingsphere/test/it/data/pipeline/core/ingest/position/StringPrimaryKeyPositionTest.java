@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class StringPrimaryKeyPositionTest {
@@ -42,6 +43,13 @@ public final class StringPrimaryKeyPositionTest {
         assertThat(position.getEndValue(), is("jk"));
     }
     
+    @Test
+    public void assertInitWithoutEndValue() {
+        StringPrimaryKeyPosition position = (StringPrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance("s,hi,");
+        assertThat(position.getBeginValue(), is("hi"));
+        assertNull(position.getEndValue());
+    }
+    
     @Test
     public void assertToString() {
         assertThat(new StringPrimaryKeyPosition("hi", "jk").toString(), is("s,hi,jk"));
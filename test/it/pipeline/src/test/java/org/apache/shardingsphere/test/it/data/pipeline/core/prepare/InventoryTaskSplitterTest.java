@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.job.MigrationJobConfig
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtil;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
@@ -46,6 +47,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class InventoryTaskSplitterTest {
@@ -103,10 +105,44 @@ public final class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithNegativeIntPrimary() throws SQLException {
+        initNegativeIntPrimaryEnvironment(dumperConfig);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        InventoryTask task = actual.get(0);
+        assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getBeginValue(), is(-50L));
+        assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(-41L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSparseIntPrimary() throws SQLException {
+        initSparseIntPrimaryEnvironment(dumperConfig);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(2));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(1L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getEndValue(), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSkewedIntPrimary() throws SQLException {
+        initSkewedIntPrimaryEnvironment(dumperConfig);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(4).getTaskProgress().getPosition()).getBeginValue(), is(41L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(4).getTaskProgress().getPosition()).getEndValue(), is(51L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(5).getTaskProgress().getPosition()).getBeginValue(), is(52L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(5).getTaskProgress().getPosition()).getEndValue(), is(1000010L));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(dumperConfig);
-        inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.CHAR, "char", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(1));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue().trim(), is("1"));
+        assertNull(((StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue());
     }
     
     @Test
@@ -161,6 +197,46 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initNegativeIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = -50; i < 50; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+        }
+    }
+    
+    private void initSparseIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 15; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+            statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", Long.MAX_VALUE));
+        }
+    }
+    
+    private void initSkewedIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 50; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x'), (%d, 'x')", i, 1000000 + i));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
@@ -73,6 +73,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -96,7 +97,12 @@ public abstract class AbstractSQLRewriterIT {
     
     @Test
     public final void assertRewrite() throws IOException, SQLException {
-        Collection<SQLRewriteUnit> actual = createSQLRewriteUnits();
+        for (Collection<SQLRewriteUnit> each : createSQLRewriteUnits()) {
+            assertSQLRewriteUnits(each);
+        }
+    }
+    
+    private void assertSQLRewriteUnits(final Collection<SQLRewriteUnit> actual) {
         assertThat(actual.size(), is(testParameters.getOutputSQLs().size()));
         int count = 0;
         for (SQLRewriteUnit each : actual) {
@@ -109,7 +115,7 @@ public abstract class AbstractSQLRewriterIT {
         }
     }
     
-    private Collection<SQLRewriteUnit> createSQLRewriteUnits() throws IOException, SQLException {
+    private Collection<Collection<SQLRewriteUnit>> createSQLRewriteUnits() throws IOException, SQLException {
         YamlRootConfiguration rootConfig = createRootConfiguration();
         DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(
                 new YamlDataSourceConfigurationSwapper().swapToDataSources(rootConfig.getDataSources()), new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(rootConfig.getRules()));
@@ -121,7 +127,7 @@ public abstract class AbstractSQLRewriterIT {
         String schemaName = DatabaseTypeEngine.getDefaultSchemaName(databaseType, DefaultDatabase.LOGIC_NAME);
         Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(DefaultDatabase.LOGIC_NAME, databaseConfig, mock(InstanceContext.class));
         SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine(getTestParameters().getDatabaseType(),
-                sqlParserRule.getSqlStatementCache(), sqlParserRule.getParseTreeCache(), sqlParserRule.isSqlCommentParseEnabled());
+                sqlParserRule.getSqlStatementCache(), sqlParserRule.getParseTreeCache(), sqlParserRule.isSqlCommentParseEnabled(), false);
         SQLStatement sqlStatement = sqlStatementParserEngine.parse(getTestParameters().getInputSQL(), false);
         mockRules(databaseRules, schemaName, sqlStatement);
         databaseRules.add(sqlParserRule);
@@ -129,6 +135,19 @@ public abstract class AbstractSQLRewriterIT {
         ShardingSphereDatabase database = new ShardingSphereDatabase(schemaName, databaseType, resourceMetaData, new ShardingSphereRuleMetaData(databaseRules), mockSchemas(schemaName));
         Map<String, ShardingSphereDatabase> databases = new HashMap<>(2, 1);
         databases.put(schemaName, database);
+        ConfigurationProperties props = new ConfigurationProperties(rootConfig.getProps());
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, new ShardingSphereRuleMetaData(Collections.singleton(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()))), props);
+        // Rewrite twice with the same database, so that the second rewrite reuses SQL rewrite template if the first one is cached
+        Collection<Collection<SQLRewriteUnit>> result = new LinkedList<>();
+        for (int i = 0; i < 2; i++) {
+            result.add(rewrite(schemaName, databases, databaseRules, props, sqlRewriteEntry, sqlStatementParserEngine, sqlStatement));
+        }
+        return result;
+    }
+    
+    private Collection<SQLRewriteUnit> rewrite(final String schemaName, final Map<String, ShardingSphereDatabase> databases, final Collection<ShardingSphereRule> databaseRules,
+                                               final ConfigurationProperties props, final SQLRewriteEntry sqlRewriteEntry, final SQLStatementParserEngine sqlStatementParserEngine,
+                                               final SQLStatement sqlStatement) {
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(createShardingSphereMetaData(databases), sqlStatement, schemaName);
         if (sqlStatementContext instanceof ParameterAware) {
             ((ParameterAware) sqlStatementContext).setUpParameters(getTestParameters().getInputParameters());
@@ -137,9 +156,7 @@ public abstract class AbstractSQLRewriterIT {
             ((CursorDefinitionAware) sqlStatementContext).setUpCursorDefinition(createCursorDefinition(schemaName, databases, sqlStatementParserEngine));
         }
         QueryContext queryContext = new QueryContext(sqlStatementContext, getTestParameters().getInputSQL(), getTestParameters().getInputParameters());
-        ConfigurationProperties props = new ConfigurationProperties(rootConfig.getProps());
-        RouteContext routeContext = new SQLRouteEngine(databaseRules, props).route(new ConnectionContext(), queryContext, mock(ShardingSphereRuleMetaData.class), database);
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, new ShardingSphereRuleMetaData(Collections.singleton(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()))), props);
+        RouteContext routeContext = new SQLRouteEngine(databaseRules, props).route(new ConnectionContext(), queryContext, mock(ShardingSphereRuleMetaData.class), databases.get(schemaName));
         ConnectionContext connectionContext = mock(ConnectionContext.class);
         when(connectionContext.getCursorConnectionContext()).thenReturn(new CursorConnectionContext());
         SQLRewriteResult sqlRewriteResult = sqlRewriteEntry.rewrite(getTestParameters().getInputSQL(), getTestParameters().getInputParameters(), sqlStatementContext, routeContext, connectionContext);